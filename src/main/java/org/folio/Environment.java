@@ -5,9 +5,12 @@ import static java.lang.Integer.parseInt;
 import static org.apache.commons.lang.StringUtils.isBlank;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,6 +36,153 @@ public class Environment {
     return getVariable("ECS_TLR_FEATURE_ENABLED", false);
   }
 
+  /**
+   * Tenants whose circulation rules are evaluated by the decision table engine
+   * instead of Drools, comma separated, "*" selects all tenants.
+   */
+  public static Set<String> getDecisionTableRulesEngineTenants() {
+    return getListVariable("DECISION_TABLE_RULES_ENGINE_TENANTS");
+  }
+
+  /**
+   * Maximum number of circulation rule matches remembered per tenant, 0 disables the cache.
+   */
+  public static int getCirculationRulesMatchCacheSize() {
+    return getVariable("CIRCULATION_RULES_MATCH_CACHE_SIZE", 5000);
+  }
+
+  /**
+   * Number of threads compiling circulation rules off the event loop.
+   */
+  public static int getCirculationRulesCompilationPoolSize() {
+    return getVariable("CIRCULATION_RULES_COMPILATION_POOL_SIZE", 2);
+  }
+
+  public static boolean getCirculationRulesPrewarmEnabled() {
+    return getVariable("CIRCULATION_RULES_PREWARM_ENABLED", false);
+  }
+
+  /**
+   * Initial number of pooled Drools sessions per tenant, 0 creates a new session
+   * for each evaluation of the circulation rules.
+   */
+  public static int getDroolsSessionPoolSize() {
+    return getVariable("DROOLS_SESSION_POOL_SIZE", 0);
+  }
+
+  /**
+   * Whether asynchronous stages continue on the Vert.x context of the request
+   * instead of the common fork join pool.
+   */
+  public static boolean getAsyncStagesOnVertxContext() {
+    return getVariable("ASYNC_STAGES_ON_VERTX_CONTEXT", true);
+  }
+
+  /**
+   * Number of threads evaluating circulation rules off the event loop.
+   */
+  public static int getCpuWorkerPoolSize() {
+    return getVariable("CPU_WORKER_POOL_SIZE", Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Maximum number of locations, and of each of libraries, campuses and institutions,
+   * cached per module instance, 0 disables the cache.
+   */
+  public static int getReferenceDataCacheSize() {
+    return getVariable("REFERENCE_DATA_CACHE_SIZE", 10000);
+  }
+
+  public static int getReferenceDataCacheTimeToLiveSeconds() {
+    return getVariable("REFERENCE_DATA_CACHE_TTL_SECONDS", 300);
+  }
+
+  /**
+   * Maximum number of policies of each type cached per module instance, 0 disables the cache.
+   */
+  public static int getPolicyCacheSize() {
+    return getVariable("POLICY_CACHE_SIZE", 1000);
+  }
+
+  public static int getPolicyCacheTimeToLiveSeconds() {
+    return getVariable("POLICY_CACHE_TTL_SECONDS", 60);
+  }
+
+  /**
+   * Number of pages fetched ahead of the page being processed by background
+   * processes paging through records by ID
+   */
+  public static int getPageableFetcherPrefetchPages() {
+    return getVariable("PAGEABLE_FETCHER_PREFETCH_PAGES", 1);
+  }
+
+  /**
+   * Maximum number of records a batch process, such as scheduled notice processing
+   * or lost item fee charging, works on at once. Scheduled notice processing can be
+   * configured for each tenant using the NOTIFICATION_SCHEDULER noticesParallelism setting.
+   */
+  public static int getBatchProcessingParallelism() {
+    return getVariable("BATCH_PROCESSING_PARALLELISM", 10);
+  }
+
+  /**
+   * Maximum number of records written to storage with a single batch request
+   */
+  public static int getStorageBatchSize() {
+    return getVariable("STORAGE_BATCH_SIZE", 100);
+  }
+
+  /**
+   * How long a call to a scheduled notice processing endpoint keeps processing
+   * further pages of due notices, 0 processes a single page
+   */
+  public static int getScheduledNoticesProcessingTimeBudgetSeconds() {
+    return getVariable("SCHEDULED_NOTICES_PROCESSING_TIME_BUDGET_SECONDS", 0);
+  }
+
+  /**
+   * Maximum number of queries for multiple values a tenant has in flight at once,
+   * the limit is lowered while storage responds slowly or with server errors
+   */
+  public static int getCqlLookupMaximumConcurrentQueries() {
+    return getVariable("CQL_LOOKUP_MAX_CONCURRENT_QUERIES", 10);
+  }
+
+  public static int getCqlLookupSlowQueryMillis() {
+    return getVariable("CQL_LOOKUP_SLOW_QUERY_MILLIS", 2000);
+  }
+
+  /**
+   * Maximum number of opening day lookups cached per module instance, 0 disables the cache.
+   */
+  public static int getCalendarCacheSize() {
+    return getVariable("CALENDAR_CACHE_SIZE", 10000);
+  }
+
+  public static int getCalendarCacheTimeToLiveSeconds() {
+    return getVariable("CALENDAR_CACHE_TTL_SECONDS", 60);
+  }
+
+  /**
+   * How long settings and configuration fetched for a tenant are reused, 0 disables the cache.
+   */
+  public static int getSettingsCacheTimeToLiveSeconds() {
+    return getVariable("SETTINGS_CACHE_TTL_SECONDS", 30);
+  }
+
+  private static Set<String> getListVariable(String key) {
+    final var variable = getVar(key);
+
+    if (isBlank(variable)) {
+      return Set.of();
+    }
+
+    return Arrays.stream(variable.split(","))
+      .map(String::trim)
+      .filter(value -> !value.isEmpty())
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
   private static int getVariable(String key, int defaultValue) {
     final var variable = getVar(key);
 
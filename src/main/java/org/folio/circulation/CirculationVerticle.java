@@ -1,5 +1,6 @@
 package org.folio.circulation;
 
+import static org.folio.Environment.getCirculationRulesPrewarmEnabled;
 import static org.folio.Environment.getHttpMaxPoolSize;
 
 import java.lang.invoke.MethodHandles;
@@ -8,10 +9,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.resources.AddInfoResource;
 import org.folio.circulation.resources.AllowedServicePointsResource;
+import org.folio.circulation.resources.CacheStatisticsResource;
 import org.folio.circulation.resources.ChangeDueDateResource;
+import org.folio.circulation.resources.CheckInByBarcodeBatchResource;
 import org.folio.circulation.resources.CheckInByBarcodeResource;
+import org.folio.circulation.resources.CheckOutByBarcodeBatchResource;
 import org.folio.circulation.resources.CheckOutByBarcodeDryRunResource;
 import org.folio.circulation.resources.CheckOutByBarcodeResource;
+import org.folio.circulation.resources.CirculationRulesBatchEngineResource;
 import org.folio.circulation.resources.CirculationRulesResource;
 import org.folio.circulation.resources.CirculationSettingsResource;
 import org.folio.circulation.resources.ClaimItemReturnedResource;
@@ -48,6 +53,7 @@ import org.folio.circulation.resources.SearchSlipsResource;
 import org.folio.circulation.resources.TenantActivationResource;
 import org.folio.circulation.resources.agedtolost.ScheduledAgeToLostFeeChargingResource;
 import org.folio.circulation.resources.agedtolost.ScheduledAgeToLostResource;
+import org.folio.circulation.rules.cache.CirculationRulesCache;
 import org.folio.circulation.resources.handlers.FeeFineBalanceChangedHandlerResource;
 import org.folio.circulation.resources.handlers.LoanRelatedFeeFineClosedHandlerResource;
 import org.folio.circulation.resources.renewal.RenewByBarcodeResource;
@@ -77,6 +83,10 @@ public class CirculationVerticle extends AbstractVerticle {
 
     Router router = Router.router(vertx);
 
+    if (getCirculationRulesPrewarmEnabled()) {
+      CirculationRulesCache.getInstance().prewarm();
+    }
+
     // bump up the connection pool size from the default value of 5
     final HttpClient client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(
       getHttpMaxPoolSize()));
@@ -88,6 +98,7 @@ public class CirculationVerticle extends AbstractVerticle {
       .handler(rc -> LogHelper.logRequest(rc, log));
 
     new HealthResource().register(router);
+    new CacheStatisticsResource().register(router);
     new TenantActivationResource(client).register(router);
     var checkOutByBarcodeResource = new CheckOutByBarcodeResource(
       "/circulation/check-out-by-barcode", client);
@@ -95,7 +106,14 @@ public class CirculationVerticle extends AbstractVerticle {
     new CheckOutByBarcodeDryRunResource(
       "/circulation/check-out-by-barcode-dry-run", client, checkOutByBarcodeResource)
       .register(router);
-    new CheckInByBarcodeResource(client).register(router);
+    new CheckOutByBarcodeBatchResource(
+      "/circulation/check-out-by-barcode-batch", client, checkOutByBarcodeResource)
+      .register(router);
+    var checkInByBarcodeResource = new CheckInByBarcodeResource(client);
+    checkInByBarcodeResource.register(router);
+    new CheckInByBarcodeBatchResource(
+      "/circulation/check-in-by-barcode-batch", client, checkInByBarcodeResource)
+      .register(router);
 
     new RenewByBarcodeResource(client).register(router);
     new RenewByIdResource(client).register(router);
@@ -140,6 +158,8 @@ public class CirculationVerticle extends AbstractVerticle {
       "/circulation/rules/notice-policy",
       "/circulation/rules/notice-policy-all", client)
       .register(router);
+    new CirculationRulesBatchEngineResource("/circulation/rules/apply-batch", client)
+      .register(router);
 
     new LoanScheduledNoticeProcessingResource(client).register(router);
     new ScheduledDigitalRemindersProcessingResource(client).register(router);
@@ -1,7 +1,11 @@
 package org.folio.circulation;
 
 import static java.lang.System.getenv;
+import static org.folio.circulation.domain.events.DomainEventType.CAMPUS_CHANGED;
 import static org.folio.circulation.domain.events.DomainEventType.CIRCULATION_RULES_UPDATED;
+import static org.folio.circulation.domain.events.DomainEventType.INSTITUTION_CHANGED;
+import static org.folio.circulation.domain.events.DomainEventType.LIBRARY_CHANGED;
+import static org.folio.circulation.domain.events.DomainEventType.LOCATION_CHANGED;
 import static org.folio.circulation.support.kafka.KafkaConfigConstants.KAFKA_ENV;
 import static org.folio.circulation.support.kafka.KafkaConfigConstants.KAFKA_HOST;
 import static org.folio.circulation.support.kafka.KafkaConfigConstants.KAFKA_MAX_REQUEST_SIZE;
@@ -13,9 +17,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.folio.circulation.domain.events.DomainEventType;
+import org.folio.circulation.infrastructure.storage.inventory.ReferenceDataCache.ReferenceDataType;
 import org.folio.circulation.services.events.CirculationRulesUpdateEventHandler;
 import org.folio.circulation.services.events.DefaultModuleIdProvider;
 import org.folio.circulation.services.events.ModuleIdProvider;
+import org.folio.circulation.services.events.ReferenceDataChangedEventHandler;
 import org.folio.circulation.services.events.UniqueKafkaModuleIdProvider;
 import org.folio.kafka.AsyncRecordHandler;
 import org.folio.kafka.GlobalLoadSensor;
@@ -85,10 +91,22 @@ public class EventConsumerVerticle extends AbstractVerticle {
     return Future.all(List.of(
       createConsumer(CIRCULATION_RULES_UPDATED, new CirculationRulesUpdateEventHandler(),
         // puts consumers into separate groups so that they all receive the same event
-        new UniqueKafkaModuleIdProvider(vertx, CIRCULATION_RULES_UPDATED))
+        new UniqueKafkaModuleIdProvider(vertx, CIRCULATION_RULES_UPDATED)),
+      createReferenceDataConsumer(LOCATION_CHANGED, ReferenceDataType.LOCATION),
+      createReferenceDataConsumer(LIBRARY_CHANGED, ReferenceDataType.LIBRARY),
+      createReferenceDataConsumer(CAMPUS_CHANGED, ReferenceDataType.CAMPUS),
+      createReferenceDataConsumer(INSTITUTION_CHANGED, ReferenceDataType.INSTITUTION)
     )).mapEmpty();
   }
 
+  private Future<KafkaConsumerWrapper<String, String>> createReferenceDataConsumer(
+    DomainEventType eventType, ReferenceDataType referenceDataType) {
+
+    // every instance caches reference data, so each of them needs to receive the event
+    return createConsumer(eventType, new ReferenceDataChangedEventHandler(referenceDataType),
+      new UniqueKafkaModuleIdProvider(vertx, eventType));
+  }
+
   private Future<KafkaConsumerWrapper<String, String>> createConsumer(DomainEventType eventType,
     AsyncRecordHandler<String, String> handler) {
 
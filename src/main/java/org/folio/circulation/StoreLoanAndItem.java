@@ -1,9 +1,16 @@
 package org.folio.circulation;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.Environment.getBatchProcessingParallelism;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
+import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 import org.folio.circulation.domain.Item;
@@ -46,6 +53,42 @@ public class StoreLoanAndItem {
       .thenComposeAsync(response -> loanRepository.updateLoan(loan));
   }
 
+  /**
+   * Stores the changed items of the loans together, then each of the loans
+   * whose item was stored. A loan is not stored when storing its item failed.
+   *
+   * @return the result of storing each of the loans, in the same order as the loans
+   */
+  public CompletableFuture<List<Result<Loan>>> updateLoansAndItemsInStorage(
+    Collection<Loan> loans) {
+
+    final List<Item> changedItems = loans.stream()
+      .map(Loan::getItem)
+      .filter(Objects::nonNull)
+      .filter(Item::hasChanged)
+      .toList();
+
+    return itemRepository.updateItems(changedItems)
+      .thenCompose(itemResults -> allResultsOf(loans,
+        loan -> updateLoanInStorage(loan, itemResults), getBatchProcessingParallelism()));
+  }
+
+  private CompletableFuture<Result<Loan>> updateLoanInStorage(Loan loan,
+    Map<String, Result<Item>> itemResults) {
+
+    if (loan == null || loan.getItem() == null) {
+      return completedFuture(succeeded(null));
+    }
+
+    final Result<Item> itemResult = itemResults.get(loan.getItem().getItemId());
+
+    if (itemResult != null && itemResult.failed()) {
+      return completedFuture(failed(itemResult.cause()));
+    }
+
+    return loanRepository.updateLoan(loan);
+  }
+
   private CompletableFuture<Result<Item>> updateItem(Item item) {
     if (!item.hasChanged()) {
       return completedFuture(succeeded(item));
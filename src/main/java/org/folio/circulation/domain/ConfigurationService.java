@@ -5,6 +5,7 @@ import java.util.Collection;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
 import io.vertx.core.json.JsonObject;
 
 public class ConfigurationService {
@@ -26,6 +27,20 @@ public class ConfigurationService {
     return noticesLimit;
   }
 
+  public Integer findSchedulerNoticesParallelism(Collection<Configuration> configurations) {
+    final Integer parallelism = configurations.stream()
+      .map(Configuration::getValue)
+      .filter(StringUtils::isNumeric)
+      .map(Integer::valueOf)
+      .filter(value -> value > 0)
+      .findFirst()
+      .orElseGet(Environment::getBatchProcessingParallelism);
+
+    log.debug("findSchedulerNoticesParallelism:: parallelism={}", parallelism);
+
+    return parallelism;
+  }
+
   public Integer findSessionTimeout(Collection<Configuration> configurations) {
     final Integer sessionTimeout = configurations.stream()
       .map(this::applySessionTimeout)
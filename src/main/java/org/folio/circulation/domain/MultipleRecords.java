@@ -2,6 +2,7 @@ package org.folio.circulation.domain;
 
 import static java.util.function.Function.identity;
 import static java.util.stream.Stream.concat;
+import static org.folio.circulation.support.json.JsonCollectionReader.readCollection;
 import static org.folio.circulation.support.json.JsonObjectArrayPropertyFetcher.mapToList;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.utils.LogUtil.mapAsString;
@@ -25,6 +26,7 @@ import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
 import org.folio.circulation.support.results.Result;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -51,10 +53,27 @@ public class MultipleRecords<T> {
       response, recordsPropertyName);
 
     return new ResponseInterpreter<MultipleRecords<T>>()
-      .flatMapOn(200, r -> from(r.getJson(), mapper, recordsPropertyName))
+      .flatMapOn(200, r -> r.getUnparsedBody()
+        .map(body -> from(body, mapper, recordsPropertyName))
+        .orElseGet(() -> from(r.getJson(), mapper, recordsPropertyName)))
       .apply(response);
   }
 
+  /**
+   * Maps each record as it is read from the body, large pages are never held
+   * as a single {@link JsonObject}
+   */
+  private static <T> Result<MultipleRecords<T>> from(Buffer body,
+    Function<JsonObject, T> mapper, String recordsPropertyName) {
+
+    final List<T> wrappedRecords = new ArrayList<>();
+    final Integer totalRecords = readCollection(body, recordsPropertyName,
+      TOTAL_RECORDS_PROPERTY_NAME, representation ->
+        wrappedRecords.add(mapper.apply(representation)));
+
+    return succeeded(new MultipleRecords<>(wrappedRecords, totalRecords));
+  }
+
   public static <T> Result<MultipleRecords<T>> from(JsonObject representation,
     Function<JsonObject, T> mapper, String recordsPropertyName) {
 
@@ -322,16 +322,23 @@ public class Request implements ItemRelatedRecord, UserRelatedRecord {
   void changePosition(Integer newPosition) {
     Integer prevPosition = getPosition();
     if (!Objects.equals(prevPosition, newPosition)) {
-      previousPosition = prevPosition;
+      rememberPreviousPosition(prevPosition);
       write(requestRepresentation, POSITION, newPosition);
-      changedPosition = true;
     }
   }
 
   void removePosition() {
-    previousPosition = getPosition();
+    rememberPreviousPosition(getPosition());
     requestRepresentation.remove(POSITION);
-    changedPosition = true;
+  }
+
+  // The previous position is the one the request had before it was first moved,
+  // so a request that is moved back to where it was does not need to be stored again
+  private void rememberPreviousPosition(Integer position) {
+    if (!changedPosition) {
+      previousPosition = position;
+      changedPosition = true;
+    }
   }
 
   public Integer getPosition() {
@@ -339,7 +346,7 @@ public class Request implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public boolean hasChangedPosition() {
-    return changedPosition;
+    return changedPosition && !Objects.equals(previousPosition, getPosition());
   }
 
   ItemStatus checkedInItemStatus() {
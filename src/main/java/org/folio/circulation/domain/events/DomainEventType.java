@@ -2,6 +2,10 @@ package org.folio.circulation.domain.events;
 
 import static org.folio.circulation.domain.events.CirculationStorageKafkaTopic.CIRCULATION_RULES;
 import static org.folio.circulation.domain.events.DomainEventPayloadType.UPDATED;
+import static org.folio.circulation.domain.events.InventoryStorageKafkaTopic.CAMPUS;
+import static org.folio.circulation.domain.events.InventoryStorageKafkaTopic.INSTITUTION;
+import static org.folio.circulation.domain.events.InventoryStorageKafkaTopic.LIBRARY;
+import static org.folio.circulation.domain.events.InventoryStorageKafkaTopic.LOCATION;
 
 import org.folio.kafka.services.KafkaTopic;
 
@@ -11,8 +15,19 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum DomainEventType {
-  CIRCULATION_RULES_UPDATED(CIRCULATION_RULES, UPDATED);
+  CIRCULATION_RULES_UPDATED(CIRCULATION_RULES, UPDATED),
+  LOCATION_CHANGED(LOCATION),
+  LIBRARY_CHANGED(LIBRARY),
+  CAMPUS_CHANGED(CAMPUS),
+  INSTITUTION_CHANGED(INSTITUTION);
 
   private final KafkaTopic kafkaTopic;
   private final DomainEventPayloadType payloadType;
+
+  /**
+   * Events of any payload type published to the topic
+   */
+  DomainEventType(KafkaTopic kafkaTopic) {
+    this(kafkaTopic, null);
+  }
 }
@@ -0,0 +1,31 @@
+package org.folio.circulation.domain.events;
+
+import org.folio.kafka.services.KafkaTopic;
+
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public enum InventoryStorageKafkaTopic implements KafkaTopic {
+  LOCATION("location", 10),
+  LIBRARY("library", 10),
+  CAMPUS("campus", 10),
+  INSTITUTION("institution", 10);
+
+  private final String topic;
+  private final int partitions;
+
+  @Override
+  public String moduleName() {
+    return "inventory";
+  }
+
+  @Override
+  public String topicName() {
+    return topic;
+  }
+
+  @Override
+  public int numPartitions() {
+    return partitions;
+  }
+}
@@ -1,8 +1,10 @@
 package org.folio.circulation.domain.notice.schedule;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.circulation.domain.notice.TemplateContextUtil.createGroupedNoticeContext;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
@@ -12,6 +14,7 @@ import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
 import java.lang.invoke.MethodHandles;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.LogManager;
@@ -20,6 +23,7 @@ import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.notice.ScheduledPatronNoticeService;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
 import org.folio.circulation.domain.representations.logs.NoticeLogContextItem;
+import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.results.Result;
@@ -33,6 +37,7 @@ public abstract class GroupedScheduledNoticeHandler {
   private final ScheduledNoticeHandler singleNoticeHandler;
   private final ScheduledPatronNoticeService patronNoticeService;
   private final String groupToken;
+  private final ConfigurationRepository configurationRepository;
 
   protected GroupedScheduledNoticeHandler(Clients clients,
     ScheduledNoticeHandler singleNoticeHandler, String groupToken) {
@@ -40,6 +45,7 @@ public abstract class GroupedScheduledNoticeHandler {
     this.singleNoticeHandler = singleNoticeHandler;
     this.patronNoticeService = new ScheduledPatronNoticeService(clients);
     this.groupToken = groupToken;
+    this.configurationRepository = new ConfigurationRepository(clients);
   }
 
   public CompletableFuture<Result<List<List<ScheduledNotice>>>> handleNotices(
@@ -48,16 +54,29 @@ public abstract class GroupedScheduledNoticeHandler {
     log.info("handleNotices:: processing {} group(s) of scheduled notices ({} notices total)",
       noticeGroups.size(), noticeGroups.stream().mapToInt(List::size).sum());
 
-    return allOf(noticeGroups, this::handleNoticeGroup);
+    List<ScheduledNotice> notices = noticeGroups.stream()
+      .flatMap(List::stream)
+      .collect(toList());
+
+    return singleNoticeHandler.buildContexts(notices)
+      .thenApply(mapResult(contexts -> contexts.stream()
+        .collect(toMap(context -> context.getNotice().getId(), identity(), (a, b) -> a))))
+      .thenCompose(r -> r.after(contexts -> configurationRepository
+        .lookupSchedulerNoticesParallelism()
+        .thenCompose(p -> p.after(parallelism -> allOf(noticeGroups,
+          group -> handleNoticeGroup(group, contexts), parallelism)))))
+      .handle(singleNoticeHandler::deleteNoticesPendingDeletion)
+      .thenCompose(identity());
   }
 
   private CompletableFuture<Result<List<ScheduledNotice>>> handleNoticeGroup(
-    List<ScheduledNotice> notices) {
+    List<ScheduledNotice> notices, Map<String, ScheduledNoticeContext> contexts) {
 
     log.debug("handleNoticeGroup:: processing group of {} scheduled notices", notices.size());
 
-    //TODO: user and template are the same for all notices in the group, so they can be fetched only once
-    return allResultsOf(notices, this::buildContext)
+    //TODO: user is the same for all notices in the group, so it can be fetched only once
+    return allResultsOf(notices, notice -> buildContext(notice,
+        contexts.getOrDefault(notice.getId(), new ScheduledNoticeContext(notice))))
       .thenCompose(this::discardContextBuildingFailures)
       .thenCompose(r -> r.after(this::sendGroupedNotice))
       .thenCompose(r -> r.after(this::updateGroupedNotice))
@@ -65,10 +84,12 @@ public abstract class GroupedScheduledNoticeHandler {
       .exceptionally(t -> handleException(t, notices));
   }
 
-  private CompletableFuture<Result<ScheduledNoticeContext>> buildContext(ScheduledNotice notice) {
+  private CompletableFuture<Result<ScheduledNoticeContext>> buildContext(ScheduledNotice notice,
+    ScheduledNoticeContext initialContext) {
+
     log.debug("buildContext:: building context for notice {}", notice);
 
-    return ofAsync(() -> new ScheduledNoticeContext(notice))
+    return ofAsync(() -> initialContext)
       .thenCompose(r -> r.after(singleNoticeHandler::fetchData))
       .thenApply(r -> r.map(this::buildNoticeContextJson))
       .thenApply(r -> r.map(this::buildNoticeLogContextItem))
@@ -1,6 +1,7 @@
 package org.folio.circulation.domain.notice.schedule;
 
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.folio.circulation.domain.FeeFine.lostItemFeeTypes;
 import static org.folio.circulation.domain.ItemStatus.CLAIMED_RETURNED;
@@ -18,10 +19,14 @@ import static org.folio.circulation.support.utils.DateTimeUtil.isBeforeMillis;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.circulation.domain.ItemStatus;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
@@ -47,6 +52,34 @@ public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
     this.loanPolicyRepository = new LoanPolicyRepository(clients);
   }
 
+  /**
+   * Fetches the loans of all of the notices at once, including their users,
+   * items and item-related records. Notices are still handled when this fails,
+   * each of them then fetches its own loan.
+   */
+  @Override
+  protected CompletableFuture<Result<List<ScheduledNoticeContext>>> buildContexts(
+    Collection<ScheduledNotice> notices) {
+
+    Set<String> loanIds = notices.stream()
+      .map(ScheduledNotice::getLoanId)
+      .filter(StringUtils::isNotEmpty)
+      .collect(toSet());
+
+    log.debug("buildContexts:: fetching {} loans for {} notices", loanIds.size(), notices.size());
+
+    return loanRepository.findByIdsWithItemsAndUsers(loanIds)
+      .thenApply(r -> r.map(loans -> loans.toMap(Loan::getId)))
+      .thenApply(r -> r.mapFailure(failure -> {
+        log.warn("buildContexts:: failed to fetch loans for notices: {}", failure);
+        return succeeded(Collections.<String, Loan>emptyMap());
+      }))
+      .thenApply(mapResult(loans -> notices.stream()
+        .map(notice -> new ScheduledNoticeContext(notice)
+          .withLoan(loans.get(notice.getLoanId())))
+        .toList()));
+  }
+
   @Override
   protected CompletableFuture<Result<ScheduledNoticeContext>> fetchData(
     ScheduledNoticeContext context) {
@@ -115,14 +148,26 @@ public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
   protected CompletableFuture<Result<ScheduledNoticeContext>> fetchLoan(
     ScheduledNoticeContext context) {
 
-    // Also fetches user, item and item-related records (holdings, instance, location, etc.)
-    return loanRepository.getById(context.getNotice().getLoanId())
+    return getLoan(context)
       .thenCompose(r -> r.after(loanRepository::fetchLatestPatronInfoAddedComment))
       .thenCompose(r -> r.after(loanPolicyRepository::findPolicyForLoan))
       .thenApply(mapResult(context::withLoan))
       .thenApply(r -> r.next(this::failWhenLoanIsIncomplete));
   }
 
+  /**
+   * Uses the loan fetched together with the loans of the other notices when
+   * there is one, otherwise fetches the loan of the notice
+   */
+  protected CompletableFuture<Result<Loan>> getLoan(ScheduledNoticeContext context) {
+    if (context.getLoan() != null) {
+      return ofAsync(context.getLoan());
+    }
+
+    // Also fetches user, item and item-related records (holdings, instance, location, etc.)
+    return loanRepository.getById(context.getNotice().getLoanId());
+  }
+
   private CompletableFuture<Result<ScheduledNoticeContext>> fetchLostItemFeesForAgedToLostNotice(
     ScheduledNoticeContext context) {
 
@@ -1,6 +1,8 @@
 package org.folio.circulation.domain.notice.schedule;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.function.Function.identity;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.results.Result.failed;
@@ -9,10 +11,13 @@ import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -21,6 +26,7 @@ import org.folio.circulation.domain.UserRelatedRecord;
 import org.folio.circulation.domain.notice.ScheduledPatronNoticeService;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
 import org.folio.circulation.domain.representations.logs.NoticeLogContextItem;
+import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
 import org.folio.circulation.infrastructure.storage.feesandfines.AccountRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.notices.PatronNoticePolicyRepository;
@@ -46,6 +52,10 @@ public abstract class ScheduledNoticeHandler {
   protected final CollectionResourceClient templateNoticesClient;
   private final ScheduledPatronNoticeService patronNoticeService;
   private final EventPublisher eventPublisher;
+  private final ConfigurationRepository configurationRepository;
+  private final Map<String, CompletableFuture<Result<Void>>> templateChecks =
+    new ConcurrentHashMap<>();
+  private final Map<String, ScheduledNotice> noticesPendingDeletion = new ConcurrentHashMap<>();
 
   protected ScheduledNoticeHandler(Clients clients, LoanRepository loanRepository) {
     this.scheduledNoticesRepository = ScheduledNoticesRepository.using(clients);
@@ -55,22 +65,52 @@ public abstract class ScheduledNoticeHandler {
     this.templateNoticesClient = clients.noticeTemplatesClient();
     this.patronNoticeService = new ScheduledPatronNoticeService(clients);
     this.eventPublisher = new EventPublisher(clients);
+    this.configurationRepository = new ConfigurationRepository(clients);
   }
 
   public CompletableFuture<Result<List<ScheduledNotice>>> handleContexts(
     Collection<ScheduledNoticeContext> contexts) {
 
-    return allOf(contexts, this::handleContext);
+    return configurationRepository.lookupSchedulerNoticesParallelism()
+      .thenCompose(r -> r.after(parallelism ->
+        allOf(contexts, this::handleContext, parallelism)))
+      .handle(this::deleteNoticesPendingDeletion)
+      .thenCompose(identity());
+  }
+
+  /**
+   * Deletes the notices pending deletion whether or not handling the notices
+   * succeeded, a failure to delete them fails the handling
+   */
+  <T> CompletableFuture<Result<T>> deleteNoticesPendingDeletion(Result<T> handled,
+    Throwable error) {
+
+    if (error != null) {
+      return deleteNoticesPendingDeletion()
+        .thenCompose(ignored -> failedFuture(error));
+    }
+
+    return deleteNoticesPendingDeletion()
+      .thenApply(deleted -> handled.combine(deleted, (notices, ignored) -> notices));
   }
 
   public CompletableFuture<Result<List<ScheduledNotice>>> handleNotices(
     Collection<ScheduledNotice> scheduledNotices) {
 
-    return allOf(scheduledNotices, this::handleNotice);
+    return buildContexts(scheduledNotices)
+      .thenCompose(r -> r.after(this::handleContexts));
   }
 
-  private CompletableFuture<Result<ScheduledNotice>> handleNotice(ScheduledNotice notice) {
-    return handleContext(new ScheduledNoticeContext(notice));
+  /**
+   * Creates a context for each of the notices, handlers can override this to
+   * fetch the records the notices refer to for all of the notices at once
+   */
+  protected CompletableFuture<Result<List<ScheduledNoticeContext>>> buildContexts(
+    Collection<ScheduledNotice> notices) {
+
+    return ofAsync(notices.stream()
+      .map(ScheduledNoticeContext::new)
+      .toList());
   }
 
   protected CompletableFuture<Result<ScheduledNotice>> handleContext(ScheduledNoticeContext context) {
@@ -139,7 +179,30 @@ public abstract class ScheduledNoticeHandler {
 
     log.info("Deleting scheduled notice {}. Reason: {}", notice.getId(), reason);
 
-    return scheduledNoticesRepository.delete(notice);
+    if (notice.getId() == null) {
+      return scheduledNoticesRepository.delete(notice);
+    }
+
+    // Notices are deleted together once all of the notices being handled are done
+    noticesPendingDeletion.put(notice.getId(), notice);
+
+    return ofAsync(notice);
+  }
+
+  /**
+   * Deletes the notices that were found to be no longer needed while they were handled
+   */
+  protected CompletableFuture<Result<List<ScheduledNotice>>> deleteNoticesPendingDeletion() {
+    final List<ScheduledNotice> notices = new ArrayList<>(noticesPendingDeletion.values());
+    notices.forEach(notice -> noticesPendingDeletion.remove(notice.getId()));
+
+    if (notices.isEmpty()) {
+      return ofAsync(notices);
+    }
+
+    log.info("deleteNoticesPendingDeletion:: deleting {} scheduled notices", notices.size());
+
+    return scheduledNoticesRepository.deleteAll(notices);
   }
 
   protected CompletableFuture<Result<ScheduledNotice>> deleteNoticeAsIrrelevant(
@@ -213,9 +276,33 @@ public abstract class ScheduledNoticeHandler {
 
     String templateId = context.getNotice().getConfiguration().getTemplateId();
 
-    var responseInterpreter = new ResponseInterpreter<ScheduledNoticeContext>()
+    if (templateId == null) {
+      return checkTemplateExists(null)
+        .thenApply(r -> r.map(v -> context));
+    }
+
+    // Notices handled together mostly share a few templates, each is only checked once
+    final CompletableFuture<Result<Void>> templateCheck = templateChecks.computeIfAbsent(
+      templateId, this::checkTemplateExists);
+
+    return templateCheck
+      .whenComplete((r, t) -> forgetFailedTemplateCheck(templateId, templateCheck, r, t))
+      .thenApply(r -> r.map(v -> context));
+  }
+
+  // Only a missing template is remembered, other failures may not happen again
+  private void forgetFailedTemplateCheck(String templateId,
+    CompletableFuture<Result<Void>> templateCheck, Result<Void> result, Throwable throwable) {
+
+    if (throwable != null || (result.failed() && !(result.cause() instanceof RecordNotFoundFailure))) {
+      templateChecks.remove(templateId, templateCheck);
+    }
+  }
+
+  private CompletableFuture<Result<Void>> checkTemplateExists(String templateId) {
+    var responseInterpreter = new ResponseInterpreter<Void>()
       .on(404, failed(new RecordNotFoundFailure("template", templateId)))
-      .on(200, succeeded(context))
+      .on(200, succeeded(null))
       .otherwise(forwardOnFailure());
 
     // no need to save the template, we only fetch it in order to fail if it does not exist
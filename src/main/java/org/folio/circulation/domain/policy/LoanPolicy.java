@@ -340,6 +340,11 @@ public class LoanPolicy extends Policy {
     return withAlternateRenewalSchedules(FixedDueDateSchedules.from(renewalSchedules));
   }
 
+  public LoanPolicy withRuleConditions(AppliedRuleConditions ruleConditions) {
+    return new LoanPolicy(representation, fixedDueDateSchedules,
+      alternateRenewalFixedDueDateSchedules, ruleConditions);
+  }
+
   public boolean isLoanable() {
     return getBooleanProperty(representation, "loanable");
   }
@@ -32,7 +32,7 @@ public class CheckInByBarcodeResponse {
     return ok(this.toJson());
   }
 
-  private JsonObject toJson() {
+  public JsonObject toJson() {
     log.debug("toJson:: ");
 
     final LoanRepresentation loanRepresentation = new LoanRepresentation();
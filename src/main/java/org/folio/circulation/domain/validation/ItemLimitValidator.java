@@ -13,6 +13,7 @@ import static org.folio.circulation.support.ValidationErrorFailure.singleValidat
 import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
 import java.lang.invoke.MethodHandles;
 import java.util.HashMap;
@@ -36,6 +37,7 @@ import org.folio.circulation.support.results.Result;
 public class ItemLimitValidator {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private static final PageLimit LOANS_PAGE_LIMIT = limit(10000);
+  private static final int EXACT_LOANS_COUNT_LIMIT = 1000;
   private static final String ITEM_LIMIT = "itemLimit";
   private final Function<ItemLimitValidationErrorCause, ValidationErrorFailure>
     itemLimitErrorFunction;
@@ -106,20 +108,47 @@ public class ItemLimitValidator {
       return ofAsync(() -> false);
     }
 
+    Integer itemLimit = records.getLoan().getLoanPolicy().getItemLimit();
+    String userId = records.getLoan().getUserId();
+
+    return loanRepository.countOpenLoansByUserId(userId)
+      .thenCompose(r -> r.after(openLoansCount -> {
+        if (isBelowItemLimit(openLoansCount, itemLimit)) {
+          log.info("isLimitReached:: patron has {} open loans, fewer than the item limit",
+            openLoansCount);
+          return ofAsync(false);
+        }
+
+        return countMatchingOpenLoans(records)
+          .thenApply(mapResult(loansCount -> loansCount >= itemLimit));
+      }));
+  }
+
+  /**
+   * The item limit cannot be reached when the patron has fewer open loans than
+   * the limit, whatever their items are. Large counts may be estimated by storage,
+   * so only counts below {@link #EXACT_LOANS_COUNT_LIMIT} are relied upon.
+   */
+  private static boolean isBelowItemLimit(Integer openLoansCount, Integer itemLimit) {
+    return openLoansCount != null
+      && openLoansCount < itemLimit
+      && openLoansCount < EXACT_LOANS_COUNT_LIMIT;
+  }
+
+  private CompletableFuture<Result<Long>> countMatchingOpenLoans(LoanAndRelatedRecords records) {
     Item item = records.getLoan().getItem();
     String loanTypeId = item.getLoanTypeId();
-    Integer itemLimit = records.getLoan().getLoanPolicy().getItemLimit();
     AppliedRuleConditions ruleConditions = records.getLoan().getLoanPolicy().getRuleConditions();
 
-    return loanRepository.findOpenLoansByUserIdWithItem(LOANS_PAGE_LIMIT, records)
+    return loanRepository.findOpenLoansByUserIdWithItemOnly(LOANS_PAGE_LIMIT,
+        records.getLoan().getUserId())
       .thenApply(r -> r.map(loanRecords -> loanRecords.getRecords().stream()
         .filter(loanRecord -> !loanRecord.getItem().isClaimedReturned())
         .filter(loanRecord -> isMaterialTypeMatchInRetrievedLoan(
           item.getMaterialTypeId(), loanRecord, ruleConditions))
         .filter(loanRecord -> isLoanTypeMatchInRetrievedLoan(
           loanTypeId, loanRecord, ruleConditions))
-        .count()))
-      .thenApply(r -> r.map(loansCount -> loansCount >= itemLimit));
+        .count()));
   }
 
   private boolean isMaterialTypeMatchInRetrievedLoan(String expectedMaterialTypeId,
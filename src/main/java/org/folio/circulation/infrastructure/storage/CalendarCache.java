@@ -0,0 +1,56 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.folio.Environment.getCalendarCacheSize;
+import static org.folio.Environment.getCalendarCacheTimeToLiveSeconds;
+
+import java.util.Collection;
+
+import org.folio.circulation.AdjacentOpeningDays;
+import org.folio.circulation.domain.OpeningDay;
+import org.folio.circulation.support.cache.TenantScopedCache;
+
+import lombok.Getter;
+
+/**
+ * Opening days of service points fetched from the calendar, shared by all
+ * requests of a tenant.
+ * <p>
+ * Entries are identified by the service point followed by the dates they were
+ * fetched for. The calendar module does not publish changes, so changes to a
+ * calendar take effect once the entries have expired.
+ */
+@Getter
+public final class CalendarCache {
+  private static final String SEPARATOR = ":";
+
+  private static final CalendarCache instance = new CalendarCache(getCalendarCacheSize(),
+    SECONDS.toMillis(getCalendarCacheTimeToLiveSeconds()));
+
+  private final TenantScopedCache<AdjacentOpeningDays> adjacentOpeningDays;
+  private final TenantScopedCache<Collection<OpeningDay>> openingDays;
+
+  public static CalendarCache getInstance() {
+    return instance;
+  }
+
+  private CalendarCache(int maximumSize, long timeToLiveMillis) {
+    adjacentOpeningDays = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+    openingDays = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+  }
+
+  static String entryId(String servicePointId, Object... dates) {
+    final StringBuilder id = new StringBuilder(servicePointId);
+
+    for (Object date : dates) {
+      id.append(SEPARATOR).append(date);
+    }
+
+    return id.toString();
+  }
+
+  public void dropCache() {
+    adjacentOpeningDays.invalidateAll();
+    openingDays.invalidateAll();
+  }
+}
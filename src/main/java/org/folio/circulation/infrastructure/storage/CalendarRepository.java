@@ -1,5 +1,6 @@
 package org.folio.circulation.infrastructure.storage;
 
+import static org.folio.circulation.infrastructure.storage.CalendarCache.entryId;
 import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
 
 import java.time.LocalDate;
@@ -40,14 +41,27 @@ public class CalendarRepository {
 
   private final CollectionResourceClient calendarClient;
   private final SettingsRepository settingsRepository;
+  private final String tenantId;
+  private final CalendarCache calendarCache;
 
   public CalendarRepository(Clients clients) {
     this.calendarClient = clients.calendarStorageClient();
     this.settingsRepository = new SettingsRepository(clients);
+    this.tenantId = clients.tenantId();
+    this.calendarCache = CalendarCache.getInstance();
   }
 
   public CompletableFuture<Result<AdjacentOpeningDays>> lookupOpeningDays(
     LocalDate requestedDate, String servicePointId) {
+
+    return calendarCache.getAdjacentOpeningDays().get(tenantId,
+      entryId(servicePointId, requestedDate),
+      () -> fetchAdjacentOpeningDays(requestedDate, servicePointId));
+  }
+
+  private CompletableFuture<Result<AdjacentOpeningDays>> fetchAdjacentOpeningDays(
+    LocalDate requestedDate, String servicePointId) {
+
     String path = String.format(SURROUNDING_DATES_PATH, servicePointId, requestedDate);
 
     // TODO: Validation error should have parameters
@@ -65,19 +79,32 @@ public class CalendarRepository {
 
   public CompletableFuture<Result<Collection<OpeningDay>>> fetchOpeningDaysBetweenDates(
     String servicePointId, ZonedDateTime startDate, ZonedDateTime endDate, ZoneId zoneId) {
+
+    final LocalDate startLocalDate = startDate.withZoneSameInstant(zoneId).toLocalDate();
+    final LocalDate endLocalDate = endDate.withZoneSameInstant(zoneId).toLocalDate();
+
+    // Opening days are zoned using the tenant time zone, which is part of the entry
+    return settingsRepository.lookupTimeZoneSettings()
+      .thenCompose(r -> r.after(tenantZone -> calendarCache.getOpeningDays().get(tenantId,
+        entryId(servicePointId, startLocalDate, endLocalDate, tenantZone),
+        () -> fetchOpeningDaysBetweenDates(servicePointId, startLocalDate, endLocalDate,
+          tenantZone))));
+  }
+
+  private CompletableFuture<Result<Collection<OpeningDay>>> fetchOpeningDaysBetweenDates(
+    String servicePointId, LocalDate startDate, LocalDate endDate, ZoneId tenantZone) {
+
     String path = String.format(
       ALL_DATES_PATH,
       servicePointId,
-      startDate.withZoneSameInstant(zoneId).toLocalDate(),
-      endDate.withZoneSameInstant(zoneId).toLocalDate(),
+      startDate,
+      endDate,
       Integer.MAX_VALUE
     );
 
     return calendarClient.get(path)
-      .thenCombineAsync(
-        settingsRepository.lookupTimeZoneSettings(),
-        Result.combined(CalendarRepository::getOpeningDaysFromOpeningDayCollection)
-      );
+      .thenApply(r -> r.next(response ->
+        getOpeningDaysFromOpeningDayCollection(response, tenantZone)));
   }
 
   private static Result<Collection<OpeningDay>> getOpeningDaysFromOpeningDayCollection(
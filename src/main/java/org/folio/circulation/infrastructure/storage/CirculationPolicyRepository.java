@@ -1,11 +1,23 @@
 package org.folio.circulation.infrastructure.storage;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.circulation.rules.RulesExecutionParameters.forItem;
+import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
+import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.combineAll;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
+import static org.folio.circulation.support.utils.LogUtil.collectionAsString;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -23,6 +35,8 @@ import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.SingleRecordFetcher;
+import org.folio.circulation.support.cache.TenantScopedCache;
+import org.folio.circulation.support.http.client.ResponseInterpreter;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -30,14 +44,21 @@ import io.vertx.core.json.JsonObject;
 public abstract class CirculationPolicyRepository<T> {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
+  private static final AppliedRuleConditions NO_RULE_CONDITIONS =
+    new AppliedRuleConditions(false, false, false);
+
   protected final CollectionResourceClient policyStorageClient;
   protected final CirculationRulesProcessor circulationRulesProcessor;
+  protected final String tenantId;
+  private final TenantScopedCache<T> policyCache;
 
   protected CirculationPolicyRepository(CollectionResourceClient policyStorageClient,
-    Clients clients) {
+    Clients clients, TenantScopedCache<T> policyCache) {
 
     this.policyStorageClient = policyStorageClient;
     this.circulationRulesProcessor = clients.circulationRulesProcessor();
+    this.tenantId = clients.tenantId();
+    this.policyCache = policyCache;
   }
 
   public CompletableFuture<Result<T>> lookupPolicy(Loan loan) {
@@ -67,10 +88,75 @@ public abstract class CirculationPolicyRepository<T> {
   public CompletableFuture<Result<T>> lookupPolicy(String policyId, AppliedRuleConditions conditionsEntity) {
     log.info("Looking up policy with id {}", policyId);
 
-    return SingleRecordFetcher.json(policyStorageClient, "circulation policy",
-      response -> failedDueToServerError(getPolicyNotFoundErrorMessage(policyId)))
+    return lookupCachedPolicy(policyId)
+      .thenApply(r -> r.next(policy -> policy == null
+        ? failedDueToServerError(getPolicyNotFoundErrorMessage(policyId))
+        : succeeded(withRuleConditions(policy, conditionsEntity))));
+  }
+
+  /**
+   * @return the policy or the unknown policy when there is no policy with the ID
+   */
+  protected CompletableFuture<Result<T>> lookupPolicyById(String policyId,
+    Function<String, T> unknownPolicy) {
+
+    log.debug("lookupPolicyById:: parameters policyId: {}", policyId);
+
+    return lookupCachedPolicy(policyId)
+      .thenApply(mapResult(policy -> policy == null ? unknownPolicy.apply(policyId) : policy));
+  }
+
+  /**
+   * Looks up the policies not cached yet with as few requests as possible, IDs
+   * without a policy are missing from the result.
+   *
+   * @return the policies keyed by policy ID
+   */
+  public CompletableFuture<Result<Map<String, T>>> lookupPolicies(Collection<String> policyIds) {
+    log.debug("lookupPolicies:: parameters policyIds: {}", () -> collectionAsString(policyIds));
+
+    return policyCache.getAll(tenantId, policyIds, this::fetchPolicies);
+  }
+
+  /**
+   * Cached policies do not hold the conditions of the rule that matched them,
+   * policies depending on them are expected to override this.
+   */
+  protected T withRuleConditions(T policy, AppliedRuleConditions ruleConditionsEntity) {
+    return policy;
+  }
+
+  /**
+   * @return the cached or fetched policy, null when there is no policy with the ID,
+   * which is not cached
+   */
+  private CompletableFuture<Result<T>> lookupCachedPolicy(String policyId) {
+    return policyCache.get(tenantId, policyId, () -> fetchPolicy(policyId));
+  }
+
+  private CompletableFuture<Result<T>> fetchPolicy(String policyId) {
+    return new SingleRecordFetcher<>(policyStorageClient, "circulation policy",
+        new ResponseInterpreter<JsonObject>()
+          .flatMapOn(200, mapUsingJson(identity()))
+          .on(404, succeeded(null)))
       .fetch(policyId)
-      .thenApply(result -> result.next(json -> mapToPolicy(json, conditionsEntity)));
+      .thenApply(result -> result.next(json -> json == null
+        ? succeeded(null)
+        : mapToPolicy(json, NO_RULE_CONDITIONS)))
+      .whenComplete((result, throwable) -> log.debug(
+        "fetchPolicy:: policy cache statistics: {}", policyCache::getStatistics));
+  }
+
+  private CompletableFuture<Result<Map<String, T>>> fetchPolicies(Set<String> policyIds) {
+    return findWithMultipleCqlIndexValues(policyStorageClient, getRecordsPropertyName(),
+        identity())
+      .findByIds(policyIds)
+      .thenApply(r -> r.next(records -> combineAll(records.getRecords().stream()
+        .map(json -> mapToPolicy(json, NO_RULE_CONDITIONS)
+          .map(policy -> Map.entry(json.getString("id"), policy)))
+        .toList())))
+      .thenApply(mapResult(entries -> entries.stream()
+        .collect(toMap(Map.Entry::getKey, Map.Entry::getValue))));
   }
 
   public <R extends UserRelatedRecord & ItemRelatedRecord>
@@ -124,6 +210,11 @@ public abstract class CirculationPolicyRepository<T> {
 
   protected abstract String getPolicyNotFoundErrorMessage(String policyId);
 
+  /**
+   * @return name of the array holding the policies in a collection response of the storage
+   */
+  protected abstract String getRecordsPropertyName();
+
   protected abstract Result<T> toPolicy(JsonObject representation, AppliedRuleConditions ruleConditionsEntity);
 
   protected abstract CompletableFuture<Result<CirculationRuleMatch>> getPolicyAndMatch(
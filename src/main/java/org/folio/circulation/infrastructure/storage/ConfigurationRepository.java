@@ -6,6 +6,7 @@ import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.folio.circulation.domain.Configuration;
 import org.folio.circulation.domain.ConfigurationService;
@@ -31,24 +32,39 @@ public class ConfigurationRepository {
   private static final PageLimit DEFAULT_PAGE_LIMIT = PageLimit.one();
 
   private final GetManyRecordsClient configurationClient;
+  private final String tenantId;
+  private final SettingsCache settingsCache;
 
   public ConfigurationRepository(Clients clients) {
     configurationClient = clients.configurationStorageClient();
+    tenantId = clients.tenantId();
+    settingsCache = SettingsCache.getInstance();
   }
 
   public CompletableFuture<Result<PageLimit>> lookupSchedulerNoticesProcessingLimit() {
     Result<CqlQuery> cqlQueryResult = defineModuleNameAndConfigNameFilter(
       "NOTIFICATION_SCHEDULER", "noticesLimit");
 
-    return lookupConfigurations(cqlQueryResult, applySearchSchedulerNoticesLimit())
-      .thenApply(result -> result.map(PageLimit::limit));
+    return cached("NOTIFICATION_SCHEDULER.noticesLimit",
+      () -> lookupConfigurations(cqlQueryResult, applySearchSchedulerNoticesLimit())
+        .thenApply(result -> result.map(PageLimit::limit)));
+  }
+
+  public CompletableFuture<Result<Integer>> lookupSchedulerNoticesParallelism() {
+    Result<CqlQuery> cqlQueryResult = defineModuleNameAndConfigNameFilter(
+      "NOTIFICATION_SCHEDULER", "noticesParallelism");
+
+    return cached("NOTIFICATION_SCHEDULER.noticesParallelism",
+      () -> lookupConfigurations(cqlQueryResult, configurations -> new ConfigurationService()
+        .findSchedulerNoticesParallelism(configurations.getRecords())));
   }
 
   public CompletableFuture<Result<Integer>> lookupSessionTimeout() {
     Result<CqlQuery> otherSettingsQuery = defineModuleNameAndConfigNameFilter(
       "CHECKOUT", "other_settings");
 
-    return lookupConfigurations(otherSettingsQuery, applySessionTimeout());
+    return cached("CHECKOUT.other_settings",
+      () -> lookupConfigurations(otherSettingsQuery, applySessionTimeout()));
   }
 
   public CompletableFuture<Result<TlrSettingsConfiguration>> lookupTlrSettings() {
@@ -56,14 +72,16 @@ public class ConfigurationRepository {
     Result<CqlQuery> queryResult = defineModuleNameAndConfigNameFilter(
       "SETTINGS", "TLR");
 
-    return findAndMapFirstConfiguration(queryResult, TlrSettingsConfiguration::from);
+    return cached("SETTINGS.TLR",
+      () -> findAndMapFirstConfiguration(queryResult, TlrSettingsConfiguration::from));
   }
 
   public CompletableFuture<Result<PrintHoldRequestsConfiguration>> lookupPrintHoldRequestsEnabled() {
     log.info("lookupPrintHoldRequestsEnabled:: fetching PrintHoldRequest configuration");
 
-    return findAndMapFirstConfiguration(defineModuleNameAndConfigNameFilter(
-      "SETTINGS", "PRINT_HOLD_REQUESTS"), PrintHoldRequestsConfiguration::from);
+    return cached("SETTINGS.PRINT_HOLD_REQUESTS",
+      () -> findAndMapFirstConfiguration(defineModuleNameAndConfigNameFilter(
+        "SETTINGS", "PRINT_HOLD_REQUESTS"), PrintHoldRequestsConfiguration::from));
   }
 
   /**
@@ -71,12 +89,23 @@ public class ConfigurationRepository {
    *
    */
   public CompletableFuture<Result<LoanAnonymizationConfiguration>> loanHistoryConfiguration() {
-    return defineModuleNameAndConfigNameFilter("LOAN_HISTORY", "loan_history")
-      .after(query -> configurationClient.getMany(query, DEFAULT_PAGE_LIMIT))
-      .thenApply(result -> result.next(response ->
-        MultipleRecords.from(response, Configuration::new, CONFIGS_KEY)))
-      .thenApply(r -> r.next(r1 -> r.map(MultipleRecords::getRecords)))
-      .thenApply(r -> r.map(ConfigurationRepository::getFirstConfiguration));
+    return cached("LOAN_HISTORY.loan_history",
+      () -> defineModuleNameAndConfigNameFilter("LOAN_HISTORY", "loan_history")
+        .after(query -> configurationClient.getMany(query, DEFAULT_PAGE_LIMIT))
+        .thenApply(result -> result.next(response ->
+          MultipleRecords.from(response, Configuration::new, CONFIGS_KEY)))
+        .thenApply(r -> r.next(r1 -> r.map(MultipleRecords::getRecords)))
+        .thenApply(r -> r.map(ConfigurationRepository::getFirstConfiguration)));
+  }
+
+  /**
+   * Keeps the configuration in the settings snapshot of the tenant,
+   * named after the module and the configuration name
+   */
+  private <T> CompletableFuture<Result<T>> cached(String name,
+    Supplier<CompletableFuture<Result<T>>> lookup) {
+
+    return settingsCache.get(tenantId, name, lookup);
   }
 
   private static LoanAnonymizationConfiguration getFirstConfiguration(
@@ -0,0 +1,67 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.folio.Environment.getPolicyCacheSize;
+import static org.folio.Environment.getPolicyCacheTimeToLiveSeconds;
+
+import org.folio.circulation.domain.notice.PatronNoticePolicy;
+import org.folio.circulation.domain.policy.FixedDueDateSchedules;
+import org.folio.circulation.domain.policy.LoanPolicy;
+import org.folio.circulation.domain.policy.OverdueFinePolicy;
+import org.folio.circulation.domain.policy.RequestPolicy;
+import org.folio.circulation.domain.policy.lostitem.LostItemPolicy;
+import org.folio.circulation.support.cache.TenantScopedCache;
+
+import lombok.Getter;
+
+/**
+ * Circulation policies parsed from storage, shared by all requests of a tenant.
+ * <p>
+ * Policies are edited rarely, changes take effect once the cached entry has expired.
+ */
+@Getter
+public final class PolicyCache {
+  private static volatile PolicyCache instance = fromEnvironment();
+
+  private final TenantScopedCache<LoanPolicy> loanPolicies;
+  private final TenantScopedCache<FixedDueDateSchedules> fixedDueDateSchedules;
+  private final TenantScopedCache<RequestPolicy> requestPolicies;
+  private final TenantScopedCache<PatronNoticePolicy> noticePolicies;
+  private final TenantScopedCache<OverdueFinePolicy> overdueFinePolicies;
+  private final TenantScopedCache<LostItemPolicy> lostItemPolicies;
+
+  public static PolicyCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Replaces the shared cache with an empty one, sized and expiring according
+   * to the current environment
+   */
+  public static void reconfigure() {
+    instance = fromEnvironment();
+  }
+
+  private static PolicyCache fromEnvironment() {
+    return new PolicyCache(getPolicyCacheSize(),
+      SECONDS.toMillis(getPolicyCacheTimeToLiveSeconds()));
+  }
+
+  private PolicyCache(int maximumSize, long timeToLiveMillis) {
+    loanPolicies = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+    fixedDueDateSchedules = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+    requestPolicies = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+    noticePolicies = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+    overdueFinePolicies = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+    lostItemPolicies = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+  }
+
+  public void dropCache() {
+    loanPolicies.invalidateAll();
+    fixedDueDateSchedules.invalidateAll();
+    requestPolicies.invalidateAll();
+    noticePolicies.invalidateAll();
+    overdueFinePolicies.invalidateAll();
+    lostItemPolicies.invalidateAll();
+  }
+}
@@ -0,0 +1,95 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static org.folio.circulation.support.results.Result.ofAsync;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Remembers the records a repository has fetched, so that they are not
+ * fetched again when needed again by the same request to this module.
+ * <p>
+ * Only records that have been found are remembered, failures and records
+ * that could not be found are fetched again.
+ */
+public class RecordMemo<T> {
+  private final Map<String, T> records = new ConcurrentHashMap<>();
+  private final Function<T, String> idMapper;
+
+  public RecordMemo(Function<T, String> idMapper) {
+    this.idMapper = idMapper;
+  }
+
+  public CompletableFuture<Result<T>> get(String id,
+    Function<String, CompletableFuture<Result<T>>> fetcher) {
+
+    final T record = id == null ? null : records.get(id);
+
+    if (record != null) {
+      return ofAsync(record);
+    }
+
+    return fetcher.apply(id)
+      .thenApply(r -> r.peek(this::remember));
+  }
+
+  /**
+   * @param fetcher - fetches the records that have not been fetched before
+   */
+  public CompletableFuture<Result<MultipleRecords<T>>> getMany(Collection<String> ids,
+    Function<Collection<String>, CompletableFuture<Result<MultipleRecords<T>>>> fetcher) {
+
+    final List<T> rememberedRecords = new ArrayList<>();
+    final Set<String> idsToFetch = new HashSet<>();
+
+    for (String id : ids) {
+      if (id == null) {
+        continue;
+      }
+
+      final T record = records.get(id);
+
+      if (record != null) {
+        rememberedRecords.add(record);
+      } else {
+        idsToFetch.add(id);
+      }
+    }
+
+    if (idsToFetch.isEmpty()) {
+      return ofAsync(new MultipleRecords<>(rememberedRecords, rememberedRecords.size()));
+    }
+
+    return fetcher.apply(idsToFetch)
+      .thenApply(r -> r.map(fetchedRecords -> {
+        fetchedRecords.getRecords().forEach(this::remember);
+
+        final List<T> allRecords = new ArrayList<>(rememberedRecords);
+        allRecords.addAll(fetchedRecords.getRecords());
+
+        return new MultipleRecords<>(allRecords, allRecords.size());
+      }));
+  }
+
+  private void remember(T record) {
+    if (record == null) {
+      return;
+    }
+
+    final String id = idMapper.apply(record);
+
+    if (id != null) {
+      records.put(id, record);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.folio.Environment.getSettingsCacheTimeToLiveSeconds;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.cache.ExpiringCacheStatistics;
+import org.folio.circulation.support.cache.TenantScopedCache;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Snapshot of the settings and configuration of each tenant, shared by all
+ * requests of the tenant.
+ * <p>
+ * Each setting is fetched when it is first needed and kept for a short time,
+ * concurrent lookups of the same setting share a single request. Settings are
+ * stored in other modules, changes take effect once the snapshot has expired
+ * or has been refreshed, which happens when circulation settings are changed
+ * through this module.
+ */
+public final class SettingsCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  // Only a handful of settings are looked up for each tenant
+  private static final int MAXIMUM_SETTINGS_PER_TENANT = 16;
+  private static final int MAXIMUM_TENANTS = 1000;
+
+  private static volatile SettingsCache instance = fromEnvironment();
+
+  private final TenantScopedCache<Object> settings;
+
+  public static SettingsCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Replaces the shared cache with an empty one, expiring according to the
+   * current environment
+   */
+  public static void reconfigure() {
+    instance = fromEnvironment();
+  }
+
+  private static SettingsCache fromEnvironment() {
+    return new SettingsCache(new TenantScopedCache<>(
+      MAXIMUM_SETTINGS_PER_TENANT * MAXIMUM_TENANTS,
+      SECONDS.toMillis(getSettingsCacheTimeToLiveSeconds())));
+  }
+
+  SettingsCache(TenantScopedCache<Object> settings) {
+    this.settings = settings;
+  }
+
+  /**
+   * @param name identifies the setting within the snapshot of the tenant
+   * @param loader fetches the setting when it is not in the snapshot
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<Result<T>> get(String tenantId, String name,
+    Supplier<CompletableFuture<Result<T>>> loader) {
+
+    return settings.get(tenantId, name, () -> loader.get()
+        .thenApply(r -> r.map(Object.class::cast)))
+      .thenApply(r -> r.map(setting -> (T) setting));
+  }
+
+  /**
+   * Discards the snapshot of the tenant, settings are fetched again when they are next needed
+   */
+  public void refresh(String tenantId) {
+    log.info("refresh:: parameters tenantId: {}", tenantId);
+
+    if (tenantId == null) {
+      settings.invalidateAll();
+    } else {
+      settings.invalidate(tenantId);
+    }
+
+    log.info("refresh:: settings cache statistics: {}", settings.getStatistics());
+  }
+
+  public ExpiringCacheStatistics getStatistics() {
+    return settings.getStatistics();
+  }
+
+  public void dropCache() {
+    settings.invalidateAll();
+  }
+}
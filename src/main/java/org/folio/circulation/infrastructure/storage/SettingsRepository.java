@@ -40,22 +40,27 @@ public class SettingsRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final GetManyRecordsClient settingsClient;
   private final ConfigurationRepository configurationRepository;
+  private final String tenantId;
+  private final SettingsCache settingsCache;
 
   public SettingsRepository(Clients clients) {
     settingsClient = clients.settingsStorageClient();
     configurationRepository = new ConfigurationRepository(clients);
+    tenantId = clients.tenantId();
+    settingsCache = SettingsCache.getInstance();
   }
 
   public CompletableFuture<Result<CheckoutLockConfiguration>> lookUpCheckOutLockSettings() {
     log.debug("lookUpCheckOutLockSettings:: fetching checkout lock settings");
     try {
-      return fetchSettings("mod-circulation", "checkoutLockFeature")
-        .thenApply(r -> r.map(records -> records.mapRecords(Configuration::new)))
-        .thenApply(r -> r.map(r1 -> r1.getRecords().stream().findFirst()
-          .map(Configuration::getValue)
-          .map(JsonObject::new)
-          .orElse(new JsonObject())))
-        .thenApply(r -> r.map(CheckoutLockConfiguration::from))
+      return settingsCache.get(tenantId, "checkoutLockFeature",
+          () -> fetchSettings("mod-circulation", "checkoutLockFeature")
+            .thenApply(r -> r.map(records -> records.mapRecords(Configuration::new)))
+            .thenApply(r -> r.map(r1 -> r1.getRecords().stream().findFirst()
+              .map(Configuration::getValue)
+              .map(JsonObject::new)
+              .orElse(new JsonObject())))
+            .thenApply(r -> r.map(CheckoutLockConfiguration::from)))
         .thenApply(r -> r.mapFailure(failure -> {
           log.warn("lookUpCheckOutLockSettings:: Error while fetching checkout lock settings {}", failure);
           return succeeded(CheckoutLockConfiguration.from(new JsonObject()));
@@ -68,17 +73,19 @@ public class SettingsRepository {
 
   public CompletableFuture<Result<TlrSettingsConfiguration>> lookupTlrSettings() {
     log.info("lookupTlrSettings:: fetching TLR settings");
-    return fetchSettings("circulation", List.of("generalTlr", "regularTlr"))
-      .thenApply(r -> r.map(SettingsRepository::extractAndMergeValues))
-      .thenCompose(r -> r.after(this::buildTlrSettings));
+    return settingsCache.get(tenantId, "tlrSettings",
+      () -> fetchSettings("circulation", List.of("generalTlr", "regularTlr"))
+        .thenApply(r -> r.map(SettingsRepository::extractAndMergeValues))
+        .thenCompose(r -> r.after(this::buildTlrSettings)));
   }
 
   public CompletableFuture<Result<ZoneId>> lookupTimeZoneSettings() {
     log.info("lookupTimeZoneSettings:: fetching timezone settings");
-    return fetchSettings(TIMEZONE_SETTINGS_SCOPE, TIMEZONE_SETTINGS_KEY)
-      .thenApply(r -> r.map(r1 -> r1.getRecords().stream().findFirst()
-        .map(this::applyTimeZone)
-        .orElse(DEFAULT_DATE_TIME_ZONE)))
+    return settingsCache.get(tenantId, TIMEZONE_SETTINGS_KEY,
+        () -> fetchSettings(TIMEZONE_SETTINGS_SCOPE, TIMEZONE_SETTINGS_KEY)
+          .thenApply(r -> r.map(r1 -> r1.getRecords().stream().findFirst()
+            .map(this::applyTimeZone)
+            .orElse(DEFAULT_DATE_TIME_ZONE))))
       .thenApply(r -> r.mapFailure(failure -> {
         log.warn("lookupTimeZoneSettings:: Error while fetching timezone settings {}", failure);
         return succeeded(DEFAULT_DATE_TIME_ZONE);
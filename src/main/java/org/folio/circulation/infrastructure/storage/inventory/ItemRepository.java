@@ -1,15 +1,18 @@
 package org.folio.circulation.infrastructure.storage.inventory;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
-import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.partitioningBy;
+import static org.folio.Environment.getStorageBatchSize;
 import static org.folio.circulation.domain.ItemStatus.AVAILABLE;
 import static org.folio.circulation.domain.ItemStatus.IN_TRANSIT;
 import static org.folio.circulation.domain.MultipleRecords.CombinationMatchers.matchRecordsById;
 import static org.folio.circulation.domain.representations.ItemProperties.LAST_CHECK_IN;
 import static org.folio.circulation.domain.representations.ItemProperties.STATUS_PROPERTY;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
 import static org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria.byIndex;
 import static org.folio.circulation.support.http.CommonResponseInterpreters.noContentRecordInterpreter;
+import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.PageLimit.one;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getProperty;
@@ -24,12 +27,16 @@ import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsStrin
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.apache.commons.collections4.ListUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Holdings;
@@ -41,7 +48,9 @@ import org.folio.circulation.domain.Location;
 import org.folio.circulation.domain.MaterialType;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.infrastructure.storage.IdentityMap;
+import org.folio.circulation.infrastructure.storage.RecordMemo;
 import org.folio.circulation.infrastructure.storage.ServicePointRepository;
+import org.folio.circulation.storage.ItemBatch;
 import org.folio.circulation.storage.mappers.ItemMapper;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
@@ -50,6 +59,7 @@ import org.folio.circulation.support.SingleRecordFetcher;
 import org.folio.circulation.support.fetching.CqlIndexValuesFinder;
 import org.folio.circulation.support.fetching.CqlQueryFinder;
 import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.ResponseInterpreter;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -66,8 +76,11 @@ public class ItemRepository {
   private final HoldingsRepository holdingsRepository;
   private final LoanTypeRepository loanTypeRepository;
   private final CollectionResourceClient circulationItemClient;
+  private final CollectionResourceClient itemsBatchClient;
   private final IdentityMap identityMap = new IdentityMap(
     item -> getProperty(item, "id"));
+  private final RecordMemo<Holdings> fetchedHoldings = new RecordMemo<>(Holdings::getId);
+  private final RecordMemo<Instance> fetchedInstances = new RecordMemo<>(Instance::getId);
 
   public ItemRepository(Clients clients) {
     this(clients.itemsStorage(), LocationRepository.using(clients,
@@ -75,7 +88,7 @@ public class ItemRepository {
       new MaterialTypeRepository(clients), new InstanceRepository(clients),
       new HoldingsRepository(clients.holdingsStorage()),
       new LoanTypeRepository(clients.loanTypesStorage()),
-      clients.circulationItemClient());
+      clients.circulationItemClient(), clients.itemsBatchStorage());
   }
 
   public CompletableFuture<Result<Item>> fetchFor(ItemRelatedRecord itemRelatedRecord) {
@@ -91,9 +104,6 @@ public class ItemRepository {
   public CompletableFuture<Result<Item>> updateItem(Item item) {
     log.debug("updateItem:: parameters item: {}", item);
 
-    final String IN_TRANSIT_DESTINATION_SERVICE_POINT_ID = "inTransitDestinationServicePointId";
-    final String TEMPORARY_LOCATION_ID = "temporaryLocationId";
-
     if (item == null) {
       log.info("updateItem:: item is null");
       return ofAsync(() -> null);
@@ -104,6 +114,83 @@ public class ItemRepository {
         "Cannot update item when original representation is not available in identity map")));
     }
 
+    final var updatedItemRepresentation = toUpdatedRepresentation(item);
+
+    return (item.isDcbItem() ? circulationItemClient : itemsClient)
+      .put(item.getItemId(), updatedItemRepresentation)
+      .thenApply(noContentRecordInterpreter(item)::flatMap)
+      .thenCompose(x -> ofAsync(() -> item));
+  }
+
+  /**
+   * Updates the items with a batch request for each batch of items. When a
+   * batch cannot be stored together, the items of that batch are updated one
+   * at a time, as are items that cannot be stored in a batch at all.
+   *
+   * @return the result of updating each of the items by item ID
+   */
+  public CompletableFuture<Map<String, Result<Item>>> updateItems(Collection<Item> items) {
+    log.debug("updateItems:: parameters items: {}", items::size);
+
+    final Map<Boolean, List<Item>> itemsByBatchSupport = items.stream()
+      .filter(Objects::nonNull)
+      .collect(partitioningBy(this::canUpdateInBatch));
+
+    final Map<String, Result<Item>> results = new HashMap<>();
+
+    CompletableFuture<Void> updated = allResultsOf(itemsByBatchSupport.get(false), this::updateItem)
+      .thenAccept(itemResults -> putResults(results, itemsByBatchSupport.get(false), itemResults));
+
+    for (List<Item> batch : ListUtils.partition(itemsByBatchSupport.get(true), getStorageBatchSize())) {
+      updated = updated.thenCompose(v -> updateItemsInBatch(batch)
+        .thenAccept(itemResults -> putResults(results, batch, itemResults)));
+    }
+
+    return updated.thenApply(v -> results);
+  }
+
+  private boolean canUpdateInBatch(Item item) {
+    return !item.isDcbItem() && !identityMap.entryNotPresent(item.getItemId());
+  }
+
+  private CompletableFuture<List<Result<Item>>> updateItemsInBatch(List<Item> items) {
+    final ItemBatch itemBatch = new ItemBatch(items.stream()
+      .map(this::toUpdatedRepresentation)
+      .toList());
+
+    final ResponseInterpreter<List<Result<Item>>> interpreter =
+      new ResponseInterpreter<List<Result<Item>>>()
+        .on(201, succeeded(items.stream()
+          .map(item -> succeeded(item))
+          .toList()))
+        .otherwise(forwardOnFailure());
+
+    return itemsBatchClient.post(itemBatch.toJson())
+      .thenApply(interpreter::flatMap)
+      .thenCompose(r -> {
+        if (r.succeeded()) {
+          return completedFuture(r.value());
+        }
+
+        log.warn("updateItemsInBatch:: failed to update {} items in a batch, " +
+          "updating them one at a time: {}", items.size(), r.cause());
+
+        return allResultsOf(items, this::updateItem);
+      });
+  }
+
+  private static void putResults(Map<String, Result<Item>> results, List<Item> items,
+    List<Result<Item>> itemResults) {
+
+    for (int index = 0; index < items.size(); index++) {
+      results.put(items.get(index).getItemId(), itemResults.get(index));
+    }
+  }
+
+  private JsonObject toUpdatedRepresentation(Item item) {
+    final String IN_TRANSIT_DESTINATION_SERVICE_POINT_ID = "inTransitDestinationServicePointId";
+    final String TEMPORARY_LOCATION_ID = "temporaryLocationId";
+
     final var updatedItemRepresentation = identityMap.get(item.getItemId());
 
     write(updatedItemRepresentation, STATUS_PROPERTY,
@@ -128,10 +215,7 @@ public class ItemRepository {
       write(updatedItemRepresentation, LAST_CHECK_IN, lastCheckIn.toJson());
     }
 
-    return (item.isDcbItem() ? circulationItemClient : itemsClient)
-      .put(item.getItemId(), updatedItemRepresentation)
-      .thenApply(noContentRecordInterpreter(item)::flatMap)
-      .thenCompose(x -> ofAsync(() -> item));
+    return updatedItemRepresentation;
   }
 
   public CompletableFuture<Result<Item>> getFirstAvailableItemByInstanceId(String instanceId) {
@@ -178,14 +262,13 @@ public class ItemRepository {
       .thenApply(r -> r.map(mapper::toDomain));
   }
 
-  private CompletableFuture<Result<MultipleRecords<Item>>> fetchLocations(
-    Result<MultipleRecords<Item>> result) {
+  private static MultipleRecords<Item> withLocations(MultipleRecords<Item> items,
+    Map<String, Location> locations) {
 
-    return result.combineAfter(this::fetchLocations,
-      (items, locations) -> items
-        .combineRecords(locations, Item::getPermanentLocationId, Item::withPermanentLocation, null)
-        .combineRecords(locations, Item::getEffectiveLocationId, Item::withLocation, null)
-        .combineRecords(locations, Item::getFloatDestinationLocationId, Item::withFloatDestinationLocation, null));
+    return items
+      .combineRecords(locations, Item::getPermanentLocationId, Item::withPermanentLocation, null)
+      .combineRecords(locations, Item::getEffectiveLocationId, Item::withLocation, null)
+      .combineRecords(locations, Item::getFloatDestinationLocationId, Item::withFloatDestinationLocation, null);
   }
 
   private CompletableFuture<Result<Map<String, Location>>> fetchLocations(
@@ -203,56 +286,38 @@ public class ItemRepository {
       .thenApply(r -> r.map(records -> records.getRecordsMap(Location::getId)));
   }
 
-  private CompletableFuture<Result<MultipleRecords<Item>>> fetchMaterialTypes(
-    Result<MultipleRecords<Item>> result) {
+  private CompletableFuture<Result<Map<String, MaterialType>>> fetchMaterialTypes(
+    MultipleRecords<Item> items) {
 
-    return supplyAsync(() -> result.after(items -> materialTypeRepository.getMaterialTypes(items)
-        .thenApply(r -> r.map(records -> records.getRecordsMap(MaterialType::getId)))
-        .thenApply(mapResult(materialTypes -> items.combineRecords(materialTypes,
-          Item::getMaterialTypeId, Item::withMaterialType, MaterialType.unknown())))))
-      .thenCompose(Function.identity());
+    return materialTypeRepository.getMaterialTypes(items)
+      .thenApply(r -> r.map(records -> records.getRecordsMap(MaterialType::getId)));
   }
 
-  private CompletableFuture<Result<MultipleRecords<Item>>> fetchLoanTypes(
-    Result<MultipleRecords<Item>> result) {
-
-    return result.after(items -> {
-      final var loanTypeIdsToFetch = items.toKeys(Item::getLoanTypeId);
+  private CompletableFuture<Result<Map<String, LoanType>>> fetchLoanTypes(
+    MultipleRecords<Item> items) {
 
-      return supplyAsync(() -> loanTypeRepository.findByIds(loanTypeIdsToFetch)
-        .thenApply(r -> r.map(records -> records.getRecordsMap(LoanType::getId)))
-        .thenApply(mapResult(loanTypes -> items.combineRecords(loanTypes,
-          Item::getLoanTypeId, Item::withLoanType, LoanType.unknown()))))
-        .thenCompose(Function.identity());
-    });
+    return loanTypeRepository.findByIds(items.toKeys(Item::getLoanTypeId))
+      .thenApply(r -> r.map(records -> records.getRecordsMap(LoanType::getId)));
   }
 
   private CompletableFuture<Result<MultipleRecords<Item>>> fetchInstances(
-    Result<MultipleRecords<Item>> result) {
-
-    return result.after(items -> {
-      final var instanceIds = items.toKeys(Item::getInstanceId);
+    MultipleRecords<Item> items) {
 
-      return supplyAsync(() -> instanceRepository.fetchByIds(instanceIds)
-        .thenApply(r -> r.map(records -> records.getRecordsMap(Instance::getId)))
-        .thenApply(mapResult(instances -> items.combineRecords(instances,
-          Item::getInstanceId, Item::withInstance, Instance.unknown()))))
-        .thenCompose(Function.identity());
-    });
+    return fetchedInstances.getMany(items.toKeys(Item::getInstanceId),
+        instanceRepository::fetchByIds)
+      .thenApply(r -> r.map(records -> records.getRecordsMap(Instance::getId)))
+      .thenApply(mapResult(instances -> items.combineRecords(instances,
+        Item::getInstanceId, Item::withInstance, Instance.unknown())));
   }
 
   private CompletableFuture<Result<MultipleRecords<Item>>> fetchHoldingsRecords(
-    Result<MultipleRecords<Item>> result) {
-
-    return result.after(items -> {
-      final var holdingsIds = items.toKeys(Item::getHoldingsRecordId);
+    MultipleRecords<Item> items) {
 
-      return supplyAsync(() -> holdingsRepository.fetchByIds(holdingsIds)
-        .thenApply(r -> r.map(records -> records.getRecordsMap(Holdings::getId)))
-        .thenApply(mapResult(holdings -> items.combineRecords(holdings,
-          Item::getHoldingsRecordId, Item::withHoldings, Holdings.unknown()))))
-        .thenCompose(Function.identity());
-    });
+    return fetchedHoldings.getMany(items.toKeys(Item::getHoldingsRecordId),
+        holdingsRepository::fetchByIds)
+      .thenApply(r -> r.map(records -> records.getRecordsMap(Holdings::getId)))
+      .thenApply(mapResult(holdings -> items.combineRecords(holdings,
+        Item::getHoldingsRecordId, Item::withHoldings, Holdings.unknown())));
   }
 
   private CompletableFuture<Result<MultipleRecords<Item>>> fetchItems(Collection<String> itemIds) {
@@ -375,12 +440,22 @@ public class ItemRepository {
   }
 
   public CompletableFuture<Result<Item>> fetchItemRelatedRecords(Result<Item> itemResult) {
-    return itemResult.combineAfter(this::fetchHoldingsRecord, Item::withHoldings)
-      .thenComposeAsync(combineAfter(this::fetchInstance, Item::withInstance))
-      .thenComposeAsync(combineAfter(locationRepository::getEffectiveLocation, Item::withLocation))
-      .thenComposeAsync(combineAfter(materialTypeRepository::getFor, Item::withMaterialType))
-      .thenComposeAsync(combineAfter(this::fetchLoanType, Item::withLoanType))
-      .thenCompose(CompletableFuture::completedFuture);
+    // Only the instance depends on another of the lookups, as the instance
+    // of an item comes from its holdings, the others are made at the same time
+    return itemResult.after(item -> {
+      final var withHoldingsAndInstance = fetchHoldingsRecord(item)
+        .thenApply(mapResult(item::withHoldings))
+        .thenCompose(combineAfter(this::fetchInstance, Item::withInstance));
+
+      final var location = locationRepository.getEffectiveLocation(item);
+      final var materialType = materialTypeRepository.getFor(item);
+      final var loanType = fetchLoanType(item);
+
+      return withHoldingsAndInstance
+        .thenCombine(location, (r, l) -> r.combine(l, Item::withLocation))
+        .thenCombine(materialType, (r, m) -> r.combine(m, Item::withMaterialType))
+        .thenCombine(loanType, (r, t) -> r.combine(t, Item::withLoanType));
+    });
   }
 
   private CompletableFuture<Result<Holdings>> fetchHoldingsRecord(Item item) {
@@ -389,7 +464,7 @@ public class ItemRepository {
       return ofAsync(Holdings::unknown);
     }
     else {
-      return holdingsRepository.fetchById(item.getHoldingsRecordId());
+      return fetchedHoldings.get(item.getHoldingsRecordId(), holdingsRepository::fetchById);
     }
   }
 
@@ -398,7 +473,7 @@ public class ItemRepository {
       log.info("Holding was not found, aborting fetching instance");
       return ofAsync(Instance::unknown);
     } else {
-      return instanceRepository.fetchById(item.getInstanceId());
+      return fetchedInstances.get(item.getInstanceId(), instanceRepository::fetchById);
     }
   }
 
@@ -411,13 +486,27 @@ public class ItemRepository {
   }
 
   public CompletableFuture<Result<MultipleRecords<Item>>> fetchItemsRelatedRecords(
-    Result<MultipleRecords<Item>> items) {
-
-    return fetchHoldingsRecords(items)
-      .thenComposeAsync(this::fetchInstances)
-      .thenComposeAsync(this::fetchLocations)
-      .thenComposeAsync(this::fetchMaterialTypes)
-      .thenComposeAsync(this::fetchLoanTypes);
+    Result<MultipleRecords<Item>> itemsResult) {
+
+    // Only the instances depend on another of the lookups, as the instance
+    // of an item comes from its holdings, the others are made at the same time
+    return itemsResult.after(items -> {
+      final var withHoldingsAndInstances = fetchHoldingsRecords(items)
+        .thenCompose(r -> r.after(this::fetchInstances));
+
+      final var locations = fetchLocations(items);
+      final var materialTypes = fetchMaterialTypes(items);
+      final var loanTypes = fetchLoanTypes(items);
+
+      return withHoldingsAndInstances
+        .thenCombine(locations, (r, l) -> r.combine(l, ItemRepository::withLocations))
+        .thenCombine(materialTypes, (r, m) -> r.combine(m,
+          (records, types) -> records.combineRecords(types, Item::getMaterialTypeId,
+            Item::withMaterialType, MaterialType.unknown())))
+        .thenCombine(loanTypes, (r, t) -> r.combine(t,
+          (records, types) -> records.combineRecords(types, Item::getLoanTypeId,
+            Item::withLoanType, LoanType.unknown())));
+    });
   }
 
   private CqlQueryFinder<JsonObject> createItemFinder() {
@@ -38,11 +38,14 @@ import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.SingleRecordFetcher;
+import org.folio.circulation.support.cache.TenantScopedCache;
 import org.folio.circulation.support.fetching.CqlQueryFinder;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.results.Result;
 
+import io.vertx.core.json.JsonObject;
+
 public class LocationRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final CollectionResourceClient locationsStorageClient;
@@ -50,18 +53,23 @@ public class LocationRepository {
   private final CollectionResourceClient campusesStorageClient;
   private final CollectionResourceClient librariesStorageClient;
   private final ServicePointRepository servicePointRepository;
+  private final String tenantId;
+  private final ReferenceDataCache referenceDataCache;
 
   private LocationRepository(CollectionResourceClient locationsStorageClient,
     CollectionResourceClient institutionsStorageClient,
     CollectionResourceClient campusesStorageClient,
     CollectionResourceClient librariesStorageClient,
-    ServicePointRepository servicePointRepository) {
+    ServicePointRepository servicePointRepository, String tenantId,
+    ReferenceDataCache referenceDataCache) {
 
     this.locationsStorageClient = locationsStorageClient;
     this.institutionsStorageClient = institutionsStorageClient;
     this.campusesStorageClient = campusesStorageClient;
     this.librariesStorageClient = librariesStorageClient;
     this.servicePointRepository = servicePointRepository;
+    this.tenantId = tenantId;
+    this.referenceDataCache = referenceDataCache;
   }
 
   public static LocationRepository using(Clients clients,
@@ -69,13 +77,12 @@ public class LocationRepository {
 
     return new LocationRepository(clients.locationsStorage(),
       clients.institutionsStorage(), clients.campusesStorage(),
-      clients.librariesStorage(), servicePointRepository);
+      clients.librariesStorage(), servicePointRepository, clients.tenantId(),
+      ReferenceDataCache.getInstance());
   }
 
   public static LocationRepository using(Clients clients) {
-    return new LocationRepository(clients.locationsStorage(),
-      clients.institutionsStorage(), clients.campusesStorage(),
-      clients.librariesStorage(), new ServicePointRepository(clients));
+    return using(clients, new ServicePointRepository(clients));
   }
 
   public CompletableFuture<Result<Location>> getEffectiveLocation(Item item) {
@@ -117,10 +124,8 @@ public class LocationRepository {
       return ofAsync(() -> Location.unknown(null));
     }
 
-    return SingleRecordFetcher.json(locationsStorageClient, "location",
-      response -> succeeded(null))
-      .fetch(id)
-      .thenApply(r -> r.map(new LocationMapper()::toDomain));
+    return fetchCached(referenceDataCache.getLocations(), locationsStorageClient,
+      "location", id, new LocationMapper()::toDomain);
   }
 
   public CompletableFuture<Result<Map<String, Location>>> getItemLocations(
@@ -143,7 +148,11 @@ public class LocationRepository {
       = findWithMultipleCqlIndexValues(locationsStorageClient, "locations",
       new LocationMapper()::toDomain);
 
-    return fetcher.findByIds(locationIds)
+    return referenceDataCache.getLocations().getAll(tenantId, locationIds,
+        ids -> fetcher.findByIds(ids)
+          .thenApply(mapResult(records -> records.toMap(Location::getId))))
+      .thenApply(mapResult(locations -> new MultipleRecords<>(locations.values(),
+        locations.size())))
       .thenCompose(this::loadLibrariesForLocations)
       .thenCompose(this::loadCampusesForLocations)
       .thenCompose(this::loadInstitutionsForLocations);
@@ -156,9 +165,8 @@ public class LocationRepository {
       return ofAsync(() -> location);
     }
 
-    return SingleRecordFetcher.json(librariesStorageClient, "library", response -> succeeded(null))
-      .fetch(location.getLibraryId())
-      .thenApply(mapResult(new LibraryMapper()::toDomain))
+    return fetchCached(referenceDataCache.getLibraries(), librariesStorageClient, "library",
+        location.getLibraryId(), new LibraryMapper()::toDomain)
       .thenApply(mapResult(location::withLibrary));
   }
 
@@ -169,9 +177,8 @@ public class LocationRepository {
       return ofAsync(() -> location);
     }
 
-    return SingleRecordFetcher.json(campusesStorageClient, "campus", response -> succeeded(null))
-      .fetch(location.getCampusId())
-      .thenApply(mapResult(new CampusMapper()::toDomain))
+    return fetchCached(referenceDataCache.getCampuses(), campusesStorageClient, "campus",
+        location.getCampusId(), new CampusMapper()::toDomain)
       .thenApply(mapResult(location::withCampus));
   }
 
@@ -182,9 +189,8 @@ public class LocationRepository {
       return ofAsync(() -> location);
     }
 
-    return SingleRecordFetcher.json(institutionsStorageClient, "institution", response -> succeeded(null))
-      .fetch(location.getInstitutionId())
-      .thenApply(mapResult(new InstitutionMapper()::toDomain))
+    return fetchCached(referenceDataCache.getInstitutions(), institutionsStorageClient,
+        "institution", location.getInstitutionId(), new InstitutionMapper()::toDomain)
       .thenApply(mapResult(location::withInstitution));
   }
 
@@ -212,8 +218,9 @@ public class LocationRepository {
 
     final Set<String> libraryIds = uniqueSet(locations, Location::getLibraryId);
 
-    return fetcher.findByIds(libraryIds)
-      .thenApply(mapResult(records -> records.toMap(Library::getId)));
+    return referenceDataCache.getLibraries().getAll(tenantId, libraryIds,
+      ids -> fetcher.findByIds(ids)
+        .thenApply(mapResult(records -> records.toMap(Library::getId))));
   }
 
   private CompletableFuture<Result<MultipleRecords<Location>>> loadCampusesForLocations(
@@ -240,8 +247,9 @@ public class LocationRepository {
 
     final Set<String> campusesIds = uniqueSet(locations, Location::getCampusId);
 
-    return fetcher.findByIds(campusesIds)
-      .thenApply(mapResult(records -> records.toMap(Campus::getId)));
+    return referenceDataCache.getCampuses().getAll(tenantId, campusesIds,
+      ids -> fetcher.findByIds(ids)
+        .thenApply(mapResult(records -> records.toMap(Campus::getId))));
   }
 
   private CompletableFuture<Result<MultipleRecords<Location>>> loadInstitutionsForLocations(
@@ -268,8 +276,9 @@ public class LocationRepository {
 
     final Set<String> institutionsIds = uniqueSet(locations, Location::getInstitutionId);
 
-    return fetcher.findByIds(institutionsIds)
-      .thenApply(mapResult(records -> records.toMap(Institution::getId)));
+    return referenceDataCache.getInstitutions().getAll(tenantId, institutionsIds,
+      ids -> fetcher.findByIds(ids)
+        .thenApply(mapResult(records -> records.toMap(Institution::getId))));
   }
 
   public CompletableFuture<Result<Collection<Location>>> fetchLibraries(Collection<Location> locations) {
@@ -325,6 +334,21 @@ public class LocationRepository {
       .thenApply(r -> r.map(MultipleRecords::getRecords));
   }
 
+  /**
+   * Records that are not found are not cached, the mapper turns them into the
+   * same unknown record as without the cache.
+   */
+  private <T> CompletableFuture<Result<T>> fetchCached(TenantScopedCache<T> cache,
+    CollectionResourceClient client, String recordType, String id,
+    Function<JsonObject, T> mapper) {
+
+    return cache.get(tenantId, id, () -> SingleRecordFetcher.json(client, recordType,
+          response -> succeeded(null))
+        .fetch(id)
+        .thenApply(mapResult(json -> json == null ? null : mapper.apply(json))))
+      .thenApply(mapResult(fetched -> fetched == null ? mapper.apply(null) : fetched));
+  }
+
   private <T, R> Set<R> uniqueSet(Collection<T> collection, Function<T, R> mapper) {
     return collection.stream()
       .filter(Objects::nonNull)
@@ -0,0 +1,83 @@
+package org.folio.circulation.infrastructure.storage.inventory;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.folio.Environment.getReferenceDataCacheSize;
+import static org.folio.Environment.getReferenceDataCacheTimeToLiveSeconds;
+
+import java.lang.invoke.MethodHandles;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.support.cache.TenantScopedCache;
+
+import lombok.Getter;
+
+/**
+ * Locations and the libraries, campuses and institutions they belong to, shared
+ * by all requests of a tenant.
+ * <p>
+ * This data rarely changes, entries expire after a configurable time and are
+ * invalidated when inventory storage publishes a change.
+ */
+@Getter
+public final class ReferenceDataCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final ReferenceDataCache instance = new ReferenceDataCache(
+    getReferenceDataCacheSize(), SECONDS.toMillis(getReferenceDataCacheTimeToLiveSeconds()));
+
+  private final TenantScopedCache<Location> locations;
+  private final TenantScopedCache<Library> libraries;
+  private final TenantScopedCache<Campus> campuses;
+  private final TenantScopedCache<Institution> institutions;
+
+  public static ReferenceDataCache getInstance() {
+    return instance;
+  }
+
+  private ReferenceDataCache(int maximumSize, long timeToLiveMillis) {
+    locations = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+    libraries = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+    campuses = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+    institutions = new TenantScopedCache<>(maximumSize, timeToLiveMillis);
+  }
+
+  public void invalidate(ReferenceDataType type, String tenantId, String id) {
+    log.info("invalidate:: parameters type: {}, tenantId: {}, id: {}", type, tenantId, id);
+    final TenantScopedCache<?> cache = getCache(type);
+
+    if (tenantId == null) {
+      cache.invalidateAll();
+    } else if (id == null) {
+      cache.invalidate(tenantId);
+    } else {
+      cache.invalidate(tenantId, id);
+    }
+
+    log.info("invalidate:: {} cache statistics: {}", type, cache.getStatistics());
+  }
+
+  public void dropCache() {
+    locations.invalidateAll();
+    libraries.invalidateAll();
+    campuses.invalidateAll();
+    institutions.invalidateAll();
+  }
+
+  private TenantScopedCache<?> getCache(ReferenceDataType type) {
+    return switch (type) {
+      case LOCATION -> locations;
+      case LIBRARY -> libraries;
+      case CAMPUS -> campuses;
+      case INSTITUTION -> institutions;
+    };
+  }
+
+  public enum ReferenceDataType {
+    LOCATION, LIBRARY, CAMPUS, INSTITUTION
+  }
+}
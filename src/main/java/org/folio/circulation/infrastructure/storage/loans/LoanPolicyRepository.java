@@ -28,11 +28,11 @@ import org.folio.circulation.domain.policy.FixedDueDateSchedules;
 import org.folio.circulation.domain.policy.LoanPolicy;
 import org.folio.circulation.domain.policy.NoFixedDueDateSchedules;
 import org.folio.circulation.infrastructure.storage.CirculationPolicyRepository;
+import org.folio.circulation.infrastructure.storage.PolicyCache;
 import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.support.Clients;
-import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.GetManyRecordsClient;
 import org.folio.circulation.support.results.Result;
@@ -44,7 +44,7 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
   private final GetManyRecordsClient fixedDueDateSchedulesStorageClient;
 
   public LoanPolicyRepository(Clients clients) {
-    super(clients.loanPoliciesStorage(), clients);
+    super(clients.loanPoliciesStorage(), clients, PolicyCache.getInstance().getLoanPolicies());
     this.fixedDueDateSchedulesStorageClient = clients.fixedDueDateSchedules();
   }
 
@@ -91,11 +91,7 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
       return ofAsync(() -> unknown(null));
     }
 
-    return FetchSingleRecord.<LoanPolicy>forRecord("loan policy")
-      .using(policyStorageClient)
-      .mapTo(LoanPolicy::from)
-      .whenNotFound(succeeded(unknown(loanPolicyId)))
-      .fetch(loanPolicyId);
+    return lookupPolicyById(loanPolicyId, LoanPolicy::unknown);
   }
 
   public CompletableFuture<Result<MultipleRecords<Loan>>> findLoanPoliciesForLoans(MultipleRecords<Loan> multipleLoans) {
@@ -119,15 +115,7 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
             .filter(Objects::nonNull)
             .collect(Collectors.toSet());
 
-    final FindWithMultipleCqlIndexValues<LoanPolicy> fetcher = createLoanPoliciesFetcher();
-
-    return fetcher.findByIds(loansToFetch)
-      .thenApply(mapResult(r -> r.toMap(LoanPolicy::getId)));
-  }
-
-  private FindWithMultipleCqlIndexValues<LoanPolicy> createLoanPoliciesFetcher() {
-    return findWithMultipleCqlIndexValues(policyStorageClient, "loanPolicies",
-      LoanPolicy::from);
+    return lookupPolicies(loansToFetch);
   }
 
   @Override
@@ -180,8 +168,9 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
       = findWithMultipleCqlIndexValues(fixedDueDateSchedulesStorageClient,
         "fixedDueDateSchedules", FixedDueDateSchedules::from);
 
-    return fetcher.findByIds(schedulesIds)
-      .thenApply(mapResult(schedules -> schedules.toMap(FixedDueDateSchedules::getId)));
+    return PolicyCache.getInstance().getFixedDueDateSchedules().getAll(tenantId, schedulesIds,
+      ids -> fetcher.findByIds(ids)
+        .thenApply(mapResult(schedules -> schedules.toMap(FixedDueDateSchedules::getId))));
   }
 
   @Override
@@ -189,6 +178,18 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
     return String.format("Loan policy %s could not be found, please check circulation rules", policyId);
   }
 
+  @Override
+  protected String getRecordsPropertyName() {
+    return "loanPolicies";
+  }
+
+  @Override
+  protected LoanPolicy withRuleConditions(LoanPolicy loanPolicy,
+    AppliedRuleConditions ruleConditionsEntity) {
+
+    return loanPolicy.withRuleConditions(ruleConditionsEntity);
+  }
+
   @Override
   protected Result<LoanPolicy> toPolicy(JsonObject representation, AppliedRuleConditions ruleConditionsEntity) {
     return succeeded(new LoanPolicy(representation,
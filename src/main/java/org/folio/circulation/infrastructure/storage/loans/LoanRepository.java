@@ -21,6 +21,7 @@ import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
 import static org.folio.circulation.support.http.client.CqlQuery.notIn;
+import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.http.client.PageLimit.one;
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
@@ -280,6 +281,20 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
       .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
   }
 
+  /**
+   * Fetches the loans together with their items and users, the same as
+   * {@link #getById(String)} does for a single loan
+   */
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findByIdsWithItemsAndUsers(
+    Collection<String> loanIds) {
+
+    log.debug("findByIdsWithItemsAndUsers:: parameters loanIds: {}",
+      () -> collectionAsString(loanIds));
+
+    return findByIds(loanIds)
+      .thenCompose(r -> r.after(userRepository::findUsersWithAddressTypesForLoans));
+  }
+
   public CompletableFuture<Result<Collection<Loan>>> findByItemIds(
     Collection<String> itemIds) {
 
@@ -457,6 +472,28 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
       .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
   }
 
+  /**
+   * Only fetches the item of each loan, without the records related to the item
+   * (e.g. holdings, instance, locations), these items only have the IDs of
+   * their material type and loan type
+   */
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findOpenLoansByUserIdWithItemOnly(
+    PageLimit loansLimit, String userId) {
+
+    log.debug("findOpenLoansByUserIdWithItemOnly:: parameters loansLimit: {}, userId: {}",
+      loansLimit, userId);
+
+    return findOpenLoansByUserId(loansLimit, userId)
+      .thenComposeAsync(itemRepository::fetchItems);
+  }
+
+  public CompletableFuture<Result<Integer>> countOpenLoansByUserId(String userId) {
+    log.debug("countOpenLoansByUserId:: parameters userId: {}", userId);
+
+    return findOpenLoansByUserId(limit(0), userId)
+      .thenApply(mapResult(MultipleRecords::getTotalRecords));
+  }
+
   public CompletableFuture<Result<MultipleRecords<Loan>>> findOpenLoansByUserIdWithItemAndHoldings(
     PageLimit loansLimit, String userId) {
 
@@ -1,7 +1,6 @@
 package org.folio.circulation.infrastructure.storage.loans;
 
 import static java.util.Objects.isNull;
-import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
@@ -23,12 +22,11 @@ import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.policy.OverdueFinePolicy;
 import org.folio.circulation.infrastructure.storage.CirculationPolicyRepository;
+import org.folio.circulation.infrastructure.storage.PolicyCache;
 import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.support.Clients;
-import org.folio.circulation.support.FetchSingleRecord;
-import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -36,7 +34,8 @@ import io.vertx.core.json.JsonObject;
 public class OverdueFinePolicyRepository extends CirculationPolicyRepository<OverdueFinePolicy> {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   public OverdueFinePolicyRepository(Clients clients) {
-    super(clients.overdueFinesPoliciesStorage(), clients);
+    super(clients.overdueFinesPoliciesStorage(), clients,
+      PolicyCache.getInstance().getOverdueFinePolicies());
   }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> lookupOverdueFinePolicy(
@@ -55,6 +54,11 @@ public class OverdueFinePolicyRepository extends CirculationPolicyRepository<Ove
       " please check circulation rules", policyId);
   }
 
+  @Override
+  protected String getRecordsPropertyName() {
+    return "overdueFinePolicies";
+  }
+
   @Override
   protected Result<OverdueFinePolicy> toPolicy(
     JsonObject representation, AppliedRuleConditions ruleConditionsEntity) {
@@ -86,15 +90,7 @@ public class OverdueFinePolicyRepository extends CirculationPolicyRepository<Ove
       .filter(Objects::nonNull)
       .collect(Collectors.toSet());
 
-    final FindWithMultipleCqlIndexValues<OverdueFinePolicy> fetcher = createOverdueFinePoliciesFetcher();
-
-    return fetcher.findByIds(loansToFetch)
-      .thenApply(mapResult(r -> r.toMap(OverdueFinePolicy::getId)));
-  }
-
-  private FindWithMultipleCqlIndexValues<OverdueFinePolicy> createOverdueFinePoliciesFetcher() {
-    return findWithMultipleCqlIndexValues(policyStorageClient, "overdueFinePolicies",
-      OverdueFinePolicy::from);
+    return lookupPolicies(loansToFetch);
   }
 
   public CompletableFuture<Result<Loan>> findOverdueFinePolicyForLoan(Result<Loan> loanResult) {
@@ -111,11 +107,7 @@ public class OverdueFinePolicyRepository extends CirculationPolicyRepository<Ove
       return ofAsync(() -> OverdueFinePolicy.unknown(null));
     }
 
-    return FetchSingleRecord.<OverdueFinePolicy>forRecord("overdueFinePolicies")
-      .using(policyStorageClient)
-      .mapTo(OverdueFinePolicy::from)
-      .whenNotFound(succeeded(OverdueFinePolicy.unknown(overdueFinePolicyId)))
-      .fetch(overdueFinePolicyId);
+    return lookupPolicyById(overdueFinePolicyId, OverdueFinePolicy::unknown);
   }
 
   @Override
@@ -5,6 +5,7 @@ import java.util.function.Function;
 
 import org.folio.circulation.domain.notice.PatronNoticePolicy;
 import org.folio.circulation.infrastructure.storage.CirculationPolicyRepository;
+import org.folio.circulation.infrastructure.storage.PolicyCache;
 import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.rules.CirculationRuleMatch;
@@ -23,7 +24,8 @@ public class PatronNoticePolicyRepository extends CirculationPolicyRepository<Pa
   private PatronNoticePolicyRepository(
     Clients clients,
     Function<JsonObject, Result<PatronNoticePolicy>> patronNoticePolicyMapper) {
-    super(clients.patronNoticePolicesStorageClient(), clients);
+    super(clients.patronNoticePolicesStorageClient(), clients,
+      PolicyCache.getInstance().getNoticePolicies());
     this.patronNoticePolicyMapper = patronNoticePolicyMapper;
   }
 
@@ -32,6 +34,11 @@ public class PatronNoticePolicyRepository extends CirculationPolicyRepository<Pa
     return String.format("Notice policy %s could not be found, please check circulation rules", policyId);
   }
 
+  @Override
+  protected String getRecordsPropertyName() {
+    return "patronNoticePolicies";
+  }
+
   @Override
   protected Result<PatronNoticePolicy> toPolicy(JsonObject representation,
     AppliedRuleConditions ruleConditionsEntity) {
@@ -16,15 +16,20 @@ import static org.folio.circulation.infrastructure.storage.notices.JsonScheduled
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.TIMING;
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.TRIGGERING_EVENT;
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.mapToJson;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
 import static org.folio.circulation.support.http.CommonResponseInterpreters.noContentRecordInterpreter;
 import static org.folio.circulation.support.http.ResponseMapping.flatMapUsingJson;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
 import static org.folio.circulation.support.logging.PatronNoticeLogHelper.logResponse;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.flatMapResult;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
 
+import java.lang.invoke.MethodHandles;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
@@ -33,6 +38,9 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import org.apache.commons.collections4.ListUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.notice.schedule.ScheduledNotice;
 import org.folio.circulation.domain.notice.schedule.TriggeringEvent;
@@ -48,6 +56,10 @@ import org.folio.circulation.support.results.Result;
 import io.vertx.core.json.JsonObject;
 
 public class ScheduledNoticesRepository {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  // Keeps the query for a batch of IDs well within the length allowed for a URL
+  private static final int DELETE_BATCH_SIZE = 50;
   private static final List<String> UPON_AT_AND_AFTER_TIMING =
     Arrays.asList(UPON_AT.getRepresentation(), AFTER.getRepresentation());
 
@@ -122,6 +134,63 @@ public class ScheduledNoticesRepository {
       .thenApply(flatMapResult(interpreter::apply));
   }
 
+  /**
+   * Deletes the notices using a query for each batch of IDs. When deleting a
+   * batch by query fails, the notices of the batch are deleted one at a time.
+   *
+   * @return the notices that were deleted
+   */
+  public CompletableFuture<Result<List<ScheduledNotice>>> deleteAll(
+    Collection<ScheduledNotice> scheduledNotices) {
+
+    log.debug("deleteAll:: parameters scheduledNotices: {}", scheduledNotices::size);
+
+    final List<List<ScheduledNotice>> batches = ListUtils.partition(
+      List.copyOf(scheduledNotices), DELETE_BATCH_SIZE);
+
+    return allOf(batches, this::deleteBatch)
+      .thenApply(r -> r.map(deleted -> deleted.stream()
+        .flatMap(List::stream)
+        .toList()));
+  }
+
+  private CompletableFuture<Result<List<ScheduledNotice>>> deleteBatch(
+    List<ScheduledNotice> scheduledNotices) {
+
+    final List<String> ids = scheduledNotices.stream()
+      .map(ScheduledNotice::getId)
+      .toList();
+
+    return exactMatchAny("id", ids)
+      .after(this::deleteMany)
+      .thenCompose(r -> {
+        if (r.succeeded()) {
+          return ofAsync(scheduledNotices);
+        }
+
+        log.warn("deleteBatch:: failed to delete {} notices by query, deleting them one at a time: {}",
+          scheduledNotices.size(), r.cause());
+
+        return deleteOneAtATime(scheduledNotices);
+      });
+  }
+
+  private CompletableFuture<Result<List<ScheduledNotice>>> deleteOneAtATime(
+    List<ScheduledNotice> scheduledNotices) {
+
+    return allResultsOf(scheduledNotices, this::delete)
+      .thenApply(results -> {
+        results.stream()
+          .filter(Result::failed)
+          .forEach(r -> log.warn("deleteOneAtATime:: failed to delete notice: {}", r.cause()));
+
+        return succeeded(results.stream()
+          .filter(r -> r.succeeded())
+          .map(Result::value)
+          .toList());
+      });
+  }
+
   public CompletableFuture<Result<Response>> deleteByLoanIdAndTriggeringEvent(
     String loanId, TriggeringEvent triggeringEvent) {
 
@@ -26,33 +26,35 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Item;
-import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.RequestAndRelatedRecords;
 import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.policy.RequestPolicy;
+import org.folio.circulation.infrastructure.storage.PolicyCache;
 import org.folio.circulation.rules.CirculationRuleCriteria;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.rules.CirculationRulesProcessor;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
-import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.SingleRecordFetcher;
+import org.folio.circulation.support.cache.TenantScopedCache;
 import org.folio.circulation.support.results.Result;
 
-import io.vertx.core.json.JsonObject;
-
 public class RequestPolicyRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   private final CirculationRulesProcessor circulationRulesProcessor;
   private final CollectionResourceClient requestPoliciesStorageClient;
+  private final String tenantId;
+  private final TenantScopedCache<RequestPolicy> requestPolicyCache;
 
   public RequestPolicyRepository(Clients clients) {
     this.requestPoliciesStorageClient = clients.requestPoliciesStorage();
     this.circulationRulesProcessor = clients.circulationRulesProcessor();
+    this.tenantId = clients.tenantId();
+    this.requestPolicyCache = PolicyCache.getInstance().getRequestPolicies();
   }
 
   public CompletableFuture<Result<RequestAndRelatedRecords>> lookupRequestPolicy(
@@ -77,8 +79,7 @@ public class RequestPolicyRepository {
   public CompletableFuture<Result<RequestPolicy>> lookupRequestPolicy(Item item, User user) {
     log.debug("lookupRequestPolicy:: parameters item: {}, user: {}", item, user);
     return lookupRequestPolicyId(item, user)
-      .thenComposeAsync(r -> r.after(this::lookupRequestPolicyById))
-      .thenApply(result -> result.map(RequestPolicy::from));
+      .thenComposeAsync(r -> r.after(this::lookupRequestPolicyById));
   }
 
   public CompletableFuture<Result<Map<RequestPolicy, Set<Item>>>> lookupRequestPolicies(
@@ -103,8 +104,7 @@ public class RequestPolicyRepository {
     // All the item-related parameters should be random UUIDs.
     return lookupRequestPolicyId(UUID.randomUUID().toString(), patronGroupId,
       UUID.randomUUID().toString(), UUID.randomUUID().toString())
-      .thenCompose(r -> r.after(this::lookupRequestPolicyById))
-      .thenApply(result -> result.map(RequestPolicy::from));
+      .thenCompose(r -> r.after(this::lookupRequestPolicyById));
   }
 
   private BinaryOperator<Set<Item>> itemsMergeOperator() {
@@ -112,25 +112,41 @@ public class RequestPolicyRepository {
       .collect(Collectors.toSet());
   }
 
-  private CompletableFuture<Result<JsonObject>> lookupRequestPolicyById(
+  /**
+   * Looks up the request policies not cached yet with as few requests as possible,
+   * IDs without a policy are missing from the result.
+   *
+   * @return the request policies keyed by policy ID
+   */
+  public CompletableFuture<Result<Map<String, RequestPolicy>>> lookupPolicies(
+    Collection<String> requestPolicyIds) {
+
+    log.debug("lookupPolicies:: parameters requestPolicyIds: {}", requestPolicyIds::size);
+
+    return requestPolicyCache.getAll(tenantId, requestPolicyIds, ids ->
+      findWithMultipleCqlIndexValues(requestPoliciesStorageClient, "requestPolicies",
+          RequestPolicy::from)
+        .findByIds(ids)
+        .thenApply(r -> r.map(records -> records.toMap(RequestPolicy::getId))));
+  }
+
+  private CompletableFuture<Result<RequestPolicy>> lookupRequestPolicyById(
     String requestPolicyId) {
 
     log.debug("lookupRequestPolicy:: parameters requestPolicyId: {}", requestPolicyId);
-    return SingleRecordFetcher.json(requestPoliciesStorageClient, "request policy",
-        response -> failedDueToServerError(format(
-          "Request policy %s could not be found, please check circulation rules", requestPolicyId)))
-      .fetch(requestPolicyId);
+    return requestPolicyCache.get(tenantId, requestPolicyId, () ->
+      SingleRecordFetcher.json(requestPoliciesStorageClient, "request policy",
+          response -> failedDueToServerError(format(
+            "Request policy %s could not be found, please check circulation rules", requestPolicyId)))
+        .fetch(requestPolicyId)
+        .thenApply(result -> result.map(RequestPolicy::from)));
   }
 
   private CompletableFuture<Result<Map<RequestPolicy, Set<Item>>>>
   lookupRequestPolicies(Map<String, Set<Item>> requestPolicyIdMap) {
 
-    FindWithMultipleCqlIndexValues<RequestPolicy> finder = findWithMultipleCqlIndexValues(
-      requestPoliciesStorageClient, "requestPolicies", RequestPolicy::from);
-
-    return finder.findByIds(requestPolicyIdMap.keySet())
-      .thenApply(r -> r.map(MultipleRecords::getRecords))
-      .thenApply(r -> r.map(requestPolicies -> requestPolicies.stream()
+    return lookupPolicies(requestPolicyIdMap.keySet())
+      .thenApply(r -> r.map(requestPolicies -> requestPolicies.values().stream()
         .collect(toMap(identity(), policy -> requestPolicyIdMap.get(policy.getId())))));
   }
 
@@ -43,7 +43,8 @@ import lombok.AllArgsConstructor;
 public class RequestQueueRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
-  private static final PageLimit MAXIMUM_SUPPORTED_REQUEST_QUEUE_SIZE = oneThousand();
+  // Queues are fetched a page at a time, there is no limit on the size of a queue
+  private static final PageLimit REQUEST_QUEUE_PAGE_SIZE = oneThousand();
   private final RequestRepository requestRepository;
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> get(LoanAndRelatedRecords records) {
@@ -119,7 +120,7 @@ public class RequestQueueRepository {
       .combine(statusQuery, CqlQuery::and)
       .combine(requestLevelQuery, CqlQuery::and)
       .map(q -> q.sortBy(ascending("position")))
-      .after(q -> requestRepository.findBy(q, MAXIMUM_SUPPORTED_REQUEST_QUEUE_SIZE))
+      .after(q -> requestRepository.findAllBy(q, REQUEST_QUEUE_PAGE_SIZE))
       .thenApply(r -> r.map(MultipleRecords::getRecords))
       .thenApply(r -> r.map(RequestQueue::new));
   }
@@ -131,8 +132,8 @@ public class RequestQueueRepository {
 
     return itemIdQuery.combine(statusQuery, CqlQuery::and)
       .map(q -> q.sortBy(ascending("position")))
-      .after(query -> requestRepository.findByWithoutItems(query,
-          MAXIMUM_SUPPORTED_REQUEST_QUEUE_SIZE))
+      .after(query -> requestRepository.findAllByWithoutItems(query,
+          REQUEST_QUEUE_PAGE_SIZE))
       .thenApply(r -> r.map(MultipleRecords::getRecords))
       .thenApply(r -> r.map(RequestQueue::new));
   }
@@ -150,6 +151,9 @@ public class RequestQueueRepository {
       return completedFuture(succeeded(requestQueue));
     }
 
+    log.info("updateRequestsWithChangedPositions:: {} out of {} requests changed position",
+      requestsWithChangedPosition.size(), requestQueue.size());
+
     return requestRepository.batchUpdate(requestsWithChangedPosition)
       .thenApply(r -> r.map(result -> requestQueue));
   }
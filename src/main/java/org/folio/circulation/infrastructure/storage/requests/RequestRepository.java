@@ -8,6 +8,8 @@ import static org.folio.circulation.support.fetching.RecordFetching.findWithMult
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.emptyAsync;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.of;
 import static org.folio.circulation.support.results.Result.ofAsync;
@@ -19,8 +21,13 @@ import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsStrin
 import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -43,7 +50,9 @@ import org.folio.circulation.support.RecordNotFoundFailure;
 import org.folio.circulation.support.SingleRecordFetcher;
 import org.folio.circulation.support.fetching.CqlIndexValuesFinder;
 import org.folio.circulation.support.fetching.CqlQueryFinder;
+import org.folio.circulation.support.fetching.PageableFetcher;
 import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.Offset;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
@@ -133,13 +142,60 @@ public class RequestRepository {
 
     log.debug("fetchAdditionalFields:: parameters requestRecords: {}", ()-> multipleRecordsAsString(requestRecords));
 
-    return ofAsync(() -> requestRecords)
-      .thenComposeAsync(requests -> itemRepository.fetchItemsFor(requests, Request::withItem))
-      .thenComposeAsync(result -> result.after(loanRepository::findOpenLoansFor))
-      .thenComposeAsync(result -> result.after(servicePointRepository::findServicePointsForRequests))
-      .thenComposeAsync(result -> result.after(userRepository::findUsersForRequests))
-      .thenComposeAsync(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers))
-      .thenComposeAsync(result -> result.after(instanceRepository::findInstancesForRequests));
+    // Only the patron groups depend on another of the lookups, the users,
+    // so the lookups are made at the same time and combined once they have completed
+    final var withItems = itemRepository.fetchItemsFor(succeeded(requestRecords),
+      Request::withItem);
+
+    final var withLoans = loanRepository.findOpenLoansFor(requestRecords);
+
+    final var withServicePoints = servicePointRepository
+      .findServicePointsForRequests(requestRecords);
+
+    final var withUsers = userRepository.findUsersForRequests(requestRecords)
+      .thenCompose(r -> r.after(patronGroupRepository::findPatronGroupsForRequestsUsers));
+
+    final var withInstances = instanceRepository.findInstancesForRequests(requestRecords);
+
+    return withItems
+      .thenCombine(withLoans, combineRequests(
+        (request, other) -> request.withLoan(other.getLoan())))
+      .thenCombine(withServicePoints, combineRequests(
+        (request, other) -> request.withPickupServicePoint(other.getPickupServicePoint())))
+      .thenCombine(withUsers, combineRequests((request, other) -> request
+        .withRequester(other.getRequester())
+        .withProxy(other.getProxy())
+        .withPrintDetailsRequester(other.getPrintDetailsRequester())))
+      .thenCombine(withInstances, combineRequests(
+        (request, other) -> request.withInstance(other.getInstance())));
+  }
+
+  /**
+   * Combines the records fetched by two of the lookups, requests are matched by ID
+   * as the lookups do not have to keep them in the same order
+   *
+   * @param includeFields - takes the fields set by the second lookup from the other request
+   */
+  static BiFunction<Result<MultipleRecords<Request>>, Result<MultipleRecords<Request>>,
+    Result<MultipleRecords<Request>>> combineRequests(BinaryOperator<Request> includeFields) {
+
+    return (firstResult, secondResult) -> firstResult.combineToResult(secondResult,
+      (requests, otherRequests) -> {
+        final Map<String, Request> otherRequestsById = otherRequests.toMap(Request::getId);
+
+        if (requests.size() != otherRequests.size()
+          || !otherRequestsById.keySet().containsAll(requests.toKeys(Request::getId))) {
+
+          log.error("combineRequests:: {} requests do not match {} requests with related records",
+            requests.size(), otherRequests.size());
+
+          return failedDueToServerError(
+            "Records related to requests were fetched for different requests");
+        }
+
+        return succeeded(requests.combineRecords(otherRequestsById, Request::getId,
+          includeFields, null));
+      });
   }
 
   public CompletableFuture<Result<MultipleRecords<Request>>> findByWithoutItems(
@@ -151,6 +207,49 @@ public class RequestRepository {
       .thenApply(result -> result.next(this::mapResponseToRequests));
   }
 
+  /**
+   * Fetches all of the requests matching the query, however many there are
+   *
+   * @param pageSize - number of requests fetched with each request to storage
+   */
+  CompletableFuture<Result<MultipleRecords<Request>>> findAllBy(CqlQuery query,
+    PageLimit pageSize) {
+
+    log.debug("findAllBy:: parameters query: {}, pageSize: {}", query, pageSize);
+
+    return findAllByWithoutItems(query, pageSize)
+      .thenCompose(r -> r.after(this::fetchAdditionalFields));
+  }
+
+  /**
+   * Fetches all of the requests matching the query, however many there are,
+   * without the records related to them. Pages are fetched by ID, so the
+   * requests are in the order of their IDs rather than the order of the query.
+   *
+   * @param pageSize - number of requests fetched with each request to storage
+   */
+  public CompletableFuture<Result<MultipleRecords<Request>>> findAllByWithoutItems(
+    CqlQuery query, PageLimit pageSize) {
+
+    log.debug("findAllByWithoutItems:: parameters query: {}, pageSize: {}", query, pageSize);
+
+    final List<Request> requests = new ArrayList<>();
+
+    return PageableFetcher.byId(this::findPage, pageSize, Request::getId)
+      .processPages(query, page -> {
+        requests.addAll(page.getRecords());
+        return emptyAsync();
+      })
+      .thenApply(r -> r.map(notUsed -> new MultipleRecords<>(requests, requests.size())));
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Request>>> findPage(CqlQuery query,
+    PageLimit pageSize, Offset offset) {
+
+    return requestsStorageClient.getMany(query, pageSize, offset)
+      .thenApply(result -> result.next(this::mapResponseToRequests));
+  }
+
   private Result<MultipleRecords<Request>> mapResponseToRequests(Response response) {
     log.debug("mapResponseToRequests:: parameters response: {}", response);
     return MultipleRecords.from(response, Request::from, REQUESTS_COLLECTION_NAME);
@@ -9,9 +9,11 @@ import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsStrin
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import io.vertx.core.json.JsonArray;
@@ -83,6 +85,41 @@ public class AddressTypeRepository {
       .thenApply(r -> user);
   }
 
+  /**
+   * Inserts address type names in the addresses of each of the users, the
+   * address types of all of the users are fetched together.
+   * @param users User objects, possibly with address arrays.
+   * @return The same User objects with mutated address arrays if any.
+   */
+  public CompletableFuture<Result<Collection<User>>> setAddressTypeNamesOnUsersAddresses(
+    Collection<User> users) {
+
+    log.debug("setAddressTypeNamesOnUsersAddresses:: parameters users: {}", users::size);
+
+    List<JsonArray> usersAddresses = users.stream()
+      .filter(Objects::nonNull)
+      .map(User::getAddresses)
+      .filter(addresses -> !addresses.isEmpty())
+      .toList();
+
+    if (usersAddresses.isEmpty()) {
+      return ofAsync(users);
+    }
+
+    Set<String> addressTypeIds = usersAddresses.stream()
+      .flatMap(addresses -> IntStream.range(0, addresses.size())
+        .mapToObj(index -> addresses.getJsonObject(index).getString("addressTypeId")))
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+
+    return getAddressTypesByIds(addressTypeIds)
+      .thenApply(r -> r.map(addressTypes -> {
+        usersAddresses.forEach(addresses ->
+          resolveAddressTypesNamesForIds(addressTypes, addresses));
+        return users;
+      }));
+  }
+
   private JsonArray resolveAddressTypesNamesForIds(
     MultipleRecords<AddressType> addressTypes, JsonArray addresses) {
     Map<String, AddressType> addressTypeMap = addressTypes.toMap(AddressType::getId);
@@ -31,6 +31,7 @@ import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.UserRelatedRecord;
+import org.folio.circulation.infrastructure.storage.RecordMemo;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
@@ -53,6 +54,8 @@ public class UserRepository {
 
   private final AddressTypeRepository addressTypeRepository;
 
+  private final RecordMemo<User> usersByBarcode = new RecordMemo<>(User::getBarcode);
+
   public UserRepository(Clients clients) {
     usersStorageClient = clients.usersStorage();
     patronGroupRepository = new PatronGroupRepository(clients);
@@ -150,6 +153,24 @@ public class UserRepository {
         loan -> loan.withUser(users.getOrDefault(loan.getUserId(), null)))));
   }
 
+  /**
+   * Fetches the users of all of the loans together, including the names of
+   * their address types, the same as {@link #getUser(String)} does for a single user
+   */
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findUsersWithAddressTypesForLoans(
+    MultipleRecords<Loan> multipleLoans) {
+
+    log.debug("findUsersWithAddressTypesForLoans:: parameters multipleLoans: {}",
+      () -> multipleRecordsAsString(multipleLoans));
+
+    return getUsersForLoans(multipleLoans.getRecords())
+      .thenCompose(r -> r.after(users -> addressTypeRepository
+        .setAddressTypeNamesOnUsersAddresses(users.values())
+        .thenApply(mapResult(v -> users))))
+      .thenApply(r -> r.map(users -> multipleLoans.mapRecords(
+        loan -> loan.withUser(users.getOrDefault(loan.getUserId(), null)))));
+  }
+
   public CompletableFuture<Result<Collection<Loan>>> findUsersForLoans(Collection<Loan> loans) {
     log.debug("findUsersForLoans:: parameters loans: {}", () -> collectionAsString(loans));
     return getUsersForLoans(loans)
@@ -221,6 +242,12 @@ public class UserRepository {
   private CompletableFuture<Result<User>> getUserByBarcode(String barcode,
     String propertyName) {
 
+    return usersByBarcode.get(barcode, notUsed -> fetchUserByBarcode(barcode, propertyName));
+  }
+
+  private CompletableFuture<Result<User>> fetchUserByBarcode(String barcode,
+    String propertyName) {
+
     return CqlQuery.exactMatch("barcode", barcode)
       .after(query -> usersStorageClient.getMany(query, PageLimit.one()))
       .thenApply(result -> result.next(this::mapResponseToUsers)
@@ -0,0 +1,136 @@
+package org.folio.circulation.resources;
+
+import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.BadRequestFailure;
+import org.folio.circulation.support.ForwardOnFailure;
+import org.folio.circulation.support.HttpFailure;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.ValidationErrorFailure;
+import org.folio.circulation.support.http.server.ValidationError;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Item barcodes of a request to process many items at once, and the outcome for
+ * each of them. A successful outcome has the response of the endpoint for a
+ * single item, a failed outcome has the errors that endpoint would respond with.
+ */
+final class BatchItemResults {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  static final String ITEM_BARCODES = "itemBarcodes";
+  static final String ITEM_BARCODE = "itemBarcode";
+  static final int MAXIMUM_ITEMS = 500;
+
+  private BatchItemResults() { }
+
+  static Result<List<String>> itemBarcodesFrom(JsonObject body) {
+    final JsonArray itemBarcodes = body == null ? null : body.getJsonArray(ITEM_BARCODES);
+
+    if (itemBarcodes == null || itemBarcodes.isEmpty()) {
+      log.warn("itemBarcodesFrom:: item barcodes are missing");
+      return failedValidation("Item barcodes are required", ITEM_BARCODES, null);
+    }
+
+    if (itemBarcodes.size() > MAXIMUM_ITEMS) {
+      log.warn("itemBarcodesFrom:: {} item barcodes, more than {}", itemBarcodes.size(),
+        MAXIMUM_ITEMS);
+      return failedValidation(String.format("No more than %d items can be processed at once",
+        MAXIMUM_ITEMS), ITEM_BARCODES, String.valueOf(itemBarcodes.size()));
+    }
+
+    final List<String> barcodes = new ArrayList<>(itemBarcodes.size());
+    final Set<String> distinctBarcodes = new HashSet<>();
+
+    for (int i = 0; i < itemBarcodes.size(); i++) {
+      if (!(itemBarcodes.getValue(i) instanceof String barcode) || barcode.isBlank()) {
+        log.warn("itemBarcodesFrom:: item barcode {} is not a string", i);
+        return failedValidation("Item barcodes must be non-blank strings",
+          String.format("%s[%d]", ITEM_BARCODES, i), null);
+      }
+
+      if (!distinctBarcodes.add(barcode)) {
+        log.warn("itemBarcodesFrom:: item barcode {} occurs more than once", barcode);
+        return failedValidation("Each item barcode can only occur once",
+          String.format("%s[%d]", ITEM_BARCODES, i), barcode);
+      }
+
+      barcodes.add(barcode);
+    }
+
+    return succeeded(barcodes);
+  }
+
+  /**
+   * @return the body of the request for a single item, made of the properties
+   * common to all items and the barcode of the item
+   */
+  static JsonObject singleItemRequest(JsonObject body, String itemBarcode) {
+    final JsonObject request = body.copy();
+
+    request.remove(ITEM_BARCODES);
+    request.put(ITEM_BARCODE, itemBarcode);
+
+    return request;
+  }
+
+  static JsonObject toJson(String propertyName, List<String> itemBarcodes,
+    List<Result<JsonObject>> results) {
+
+    final JsonArray array = new JsonArray();
+
+    for (int i = 0; i < itemBarcodes.size(); i++) {
+      array.add(toJson(itemBarcodes.get(i), results.get(i)));
+    }
+
+    return new JsonObject()
+      .put(propertyName, array)
+      .put("totalRecords", array.size());
+  }
+
+  private static JsonObject toJson(String itemBarcode, Result<JsonObject> result) {
+    final JsonObject json = new JsonObject().put(ITEM_BARCODE, itemBarcode);
+
+    if (result.succeeded()) {
+      return json.put("response", result.value());
+    }
+
+    log.info("toJson:: item {} could not be processed: {}", itemBarcode, result.cause());
+
+    return json.put("errors", errorsFrom(result.cause()));
+  }
+
+  private static JsonArray errorsFrom(HttpFailure failure) {
+    if (failure instanceof ValidationErrorFailure validationFailure) {
+      return new JsonArray(validationFailure.getErrors().stream()
+        .map(ValidationError::toJson)
+        .toList());
+    }
+
+    final String message;
+
+    if (failure instanceof ServerErrorFailure serverError) {
+      message = serverError.getReason();
+    } else if (failure instanceof BadRequestFailure badRequest) {
+      message = badRequest.getReason();
+    } else if (failure instanceof ForwardOnFailure forwardOnFailure) {
+      message = forwardOnFailure.getFailureResponse().getBody();
+    } else {
+      message = String.valueOf(failure);
+    }
+
+    return new JsonArray().add(new JsonObject().put("message", message));
+  }
+}
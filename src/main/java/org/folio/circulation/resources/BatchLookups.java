@@ -0,0 +1,25 @@
+package org.folio.circulation.resources;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Lookups that are the same for every item of a request to process many items
+ * at once, e.g. settings or the service point, each of them is only made once
+ * for the whole request. The endpoints for a single item use a new instance
+ * for each request, so nothing is shared between requests.
+ */
+final class BatchLookups {
+  private final Map<String, CompletableFuture<?>> lookups = new ConcurrentHashMap<>();
+
+  @SuppressWarnings("unchecked")
+  <T> CompletableFuture<Result<T>> get(String key,
+    Supplier<CompletableFuture<Result<T>>> lookup) {
+
+    return (CompletableFuture<Result<T>>) lookups.computeIfAbsent(key, k -> lookup.get());
+  }
+}
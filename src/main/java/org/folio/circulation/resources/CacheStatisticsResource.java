@@ -0,0 +1,47 @@
+package org.folio.circulation.resources;
+
+import org.folio.circulation.infrastructure.storage.CalendarCache;
+import org.folio.circulation.infrastructure.storage.PolicyCache;
+import org.folio.circulation.infrastructure.storage.SettingsCache;
+import org.folio.circulation.infrastructure.storage.inventory.ReferenceDataCache;
+import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.http.server.JsonHttpResponse;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Statistics of the caches shared by all tenants of this instance of the
+ * module, like the age of the settings served from the snapshot of a tenant.
+ * Like the health check, it is not routed through Okapi.
+ */
+public class CacheStatisticsResource {
+  public void register(Router router) {
+    new RouteRegistration("/admin/cache-statistics", router)
+      .getMany(this::getStatistics);
+  }
+
+  private void getStatistics(RoutingContext routingContext) {
+    final var policies = PolicyCache.getInstance();
+    final var referenceData = ReferenceDataCache.getInstance();
+    final var calendar = CalendarCache.getInstance();
+
+    JsonHttpResponse.ok(new JsonObject()
+        .put("settings", SettingsCache.getInstance().getStatistics().toJson())
+        .put("loanPolicies", policies.getLoanPolicies().getStatistics().toJson())
+        .put("fixedDueDateSchedules",
+          policies.getFixedDueDateSchedules().getStatistics().toJson())
+        .put("requestPolicies", policies.getRequestPolicies().getStatistics().toJson())
+        .put("noticePolicies", policies.getNoticePolicies().getStatistics().toJson())
+        .put("overdueFinePolicies", policies.getOverdueFinePolicies().getStatistics().toJson())
+        .put("lostItemPolicies", policies.getLostItemPolicies().getStatistics().toJson())
+        .put("locations", referenceData.getLocations().getStatistics().toJson())
+        .put("libraries", referenceData.getLibraries().getStatistics().toJson())
+        .put("campuses", referenceData.getCampuses().getStatistics().toJson())
+        .put("institutions", referenceData.getInstitutions().getStatistics().toJson())
+        .put("adjacentOpeningDays", calendar.getAdjacentOpeningDays().getStatistics().toJson())
+        .put("openingDays", calendar.getOpeningDays().getStatistics().toJson()))
+      .writeTo(routingContext.response());
+  }
+}
@@ -0,0 +1,74 @@
+package org.folio.circulation.resources;
+
+import static org.folio.circulation.domain.validation.UserNotFoundValidator.refuseWhenLoggedInUserNotPresent;
+import static org.folio.circulation.resources.BatchItemResults.itemBarcodesFrom;
+import static org.folio.circulation.resources.BatchItemResults.singleItemRequest;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.representations.CheckInByBarcodeRequest;
+import org.folio.circulation.domain.representations.CheckInByBarcodeResponse;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.WebContext;
+
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Checks in many items at the same service point, each item is checked in the
+ * same way as by the check in by barcode endpoint.
+ * <p>
+ * The items are checked in one after the other, so that checking in one item
+ * takes into account the request queues changed by checking in the others,
+ * for example when items share a title level request. The settings and the
+ * service point are only fetched once.
+ */
+public class CheckInByBarcodeBatchResource extends Resource {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final String rootPath;
+  private final CheckInByBarcodeResource checkInByBarcodeResource;
+
+  public CheckInByBarcodeBatchResource(String rootPath, HttpClient client,
+    CheckInByBarcodeResource checkInByBarcodeResource) {
+
+    super(client);
+    this.rootPath = rootPath;
+    this.checkInByBarcodeResource = checkInByBarcodeResource;
+  }
+
+  @Override
+  public void register(Router router) {
+    new RouteRegistration(rootPath, router).create(this::checkInItems);
+  }
+
+  private void checkInItems(RoutingContext routingContext) {
+    final var context = new WebContext(routingContext);
+    final JsonObject body = routingContext.body().asJsonObject();
+    final var clients = Clients.create(context, client);
+    final var lookups = new BatchLookups();
+
+    refuseWhenLoggedInUserNotPresent(context)
+      .next(notUsed -> itemBarcodesFrom(body))
+      .after(itemBarcodes -> {
+        log.info("checkInItems:: checking in {} items", itemBarcodes.size());
+
+        return allResultsOf(itemBarcodes, itemBarcode -> checkInByBarcodeResource
+            .checkIn(CheckInByBarcodeRequest.from(singleItemRequest(body, itemBarcode)),
+              context, clients, lookups)
+            .thenApply(r -> r.map(CheckInByBarcodeResponse::toJson)), 1)
+          .thenApply(results -> succeeded(
+            BatchItemResults.toJson("checkIns", itemBarcodes, results)));
+      })
+      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+}
@@ -5,6 +5,7 @@ import static org.folio.circulation.domain.validation.UserNotFoundValidator.refu
 import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -50,18 +51,33 @@ public class CheckInByBarcodeResource extends Resource {
 
   private void checkIn(RoutingContext routingContext) {
     final WebContext context = new WebContext(routingContext);
-
     final Clients clients = Clients.create(context, client);
 
+    checkIn(CheckInByBarcodeRequest.from(routingContext.getBodyAsJson()), context, clients)
+      .thenApply(r -> r.map(CheckInByBarcodeResponse::toHttpResponse))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  CompletableFuture<Result<CheckInByBarcodeResponse>> checkIn(
+    Result<CheckInByBarcodeRequest> checkInRequestResult, WebContext context, Clients clients) {
+
+    return checkIn(checkInRequestResult, context, clients, new BatchLookups());
+  }
+
+  /**
+   * @param lookups - can be shared by the check-ins at the same service point,
+   * so that the settings and the service point are only fetched once
+   */
+  CompletableFuture<Result<CheckInByBarcodeResponse>> checkIn(
+    Result<CheckInByBarcodeRequest> checkInRequestResult, WebContext context, Clients clients,
+    BatchLookups lookups) {
+
     final var userRepository = new UserRepository(clients);
     final var itemRepository = new ItemRepository(clients);
     final var loanRepository = new LoanRepository(clients, itemRepository, userRepository);
     final var requestRepository = RequestRepository.using(clients,
       itemRepository, userRepository, loanRepository);
 
-    final Result<CheckInByBarcodeRequest> checkInRequestResult
-      = CheckInByBarcodeRequest.from(routingContext.getBodyAsJson());
-
     final EventPublisher eventPublisher = new EventPublisher(context, clients);
 
     final var checkInValidators = new CheckInValidators(this::errorWhenInIncorrectStatus);
@@ -79,7 +95,7 @@ public class CheckInByBarcodeResource extends Resource {
     final RequestNoticeSender requestNoticeSender = RequestNoticeSender.using(clients);
     final SettingsRepository settingsRepository = new SettingsRepository(clients);
 
-    refuseWhenLoggedInUserNotPresent(context)
+    return refuseWhenLoggedInUserNotPresent(context)
       .next(notUsed -> checkInRequestResult)
       .map(CheckInContext::new)
       .combineAfter(processAdapter::findItem, (records, item) -> records
@@ -87,9 +103,11 @@ public class CheckInByBarcodeResource extends Resource {
         .withItemStatusBeforeCheckIn(item.getStatus()))
       .thenApply(checkInValidators::refuseWhenItemIsNotAllowedForCheckIn)
       .thenApply(checkInValidators::refuseWhenClaimedReturnedIsNotResolved)
-      .thenComposeAsync(r -> r.combineAfter(settingsRepository::lookupTlrSettings,
+      .thenComposeAsync(r -> r.combineAfter(
+        records -> lookups.get("tlrSettings", settingsRepository::lookupTlrSettings),
         CheckInContext::withTlrSettings))
-      .thenComposeAsync(r -> r.combineAfter(settingsRepository::lookupTimeZoneSettings,
+      .thenComposeAsync(r -> r.combineAfter(
+        records -> lookups.get("timeZone", settingsRepository::lookupTimeZoneSettings),
         CheckInContext::withTimeZone))
       .thenComposeAsync(findItemResult -> findItemResult.combineAfter(
         processAdapter::getRequestQueue, CheckInContext::withRequestQueue))
@@ -116,7 +134,9 @@ public class CheckInByBarcodeResource extends Resource {
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
         processAdapter::getDestinationServicePoint, CheckInContext::withItemAndUpdatedLoan))
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getCheckInServicePoint, CheckInContext::withCheckInServicePoint))
+        records -> lookups.get("servicePoint " + records.getCheckInServicePointId(),
+          () -> processAdapter.getCheckInServicePoint(records)),
+        CheckInContext::withCheckInServicePoint))
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
         processAdapter::getPickupServicePoint, CheckInContext::withHighestPriorityFulfillableRequest))
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
@@ -132,9 +152,7 @@ public class CheckInByBarcodeResource extends Resource {
         records -> processAdapter.createOverdueFineIfNecessary(records, context)))
       .thenComposeAsync(r -> r.after(v -> eventPublisher.publishItemCheckedInEvents(v, userRepository, loanRepository)))
       .thenApply(r -> r.next(requestScheduledNoticeService::rescheduleRequestNotices))
-      .thenApply(r -> r.map(CheckInByBarcodeResponse::fromRecords))
-      .thenApply(r -> r.map(CheckInByBarcodeResponse::toHttpResponse))
-      .thenAccept(context::writeResultToHttpResponse);
+      .thenApply(r -> r.map(CheckInByBarcodeResponse::fromRecords));
   }
 
   private ValidationErrorFailure errorWhenInIncorrectStatus(Item item) {
@@ -0,0 +1,94 @@
+package org.folio.circulation.resources;
+
+import static org.folio.circulation.resources.BatchItemResults.itemBarcodesFrom;
+import static org.folio.circulation.resources.BatchItemResults.singleItemRequest;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.LoanAndRelatedRecords;
+import org.folio.circulation.domain.LoanRepresentation;
+import org.folio.circulation.domain.representations.CheckOutByBarcodeRequest;
+import org.folio.circulation.infrastructure.storage.users.UserRepository;
+import org.folio.circulation.resources.handlers.error.OverridingErrorHandler;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.http.OkapiPermissions;
+import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Checks out many items to the same patron, each item is checked out the same
+ * way as by the check out by barcode endpoint.
+ * <p>
+ * The items are checked out one after the other, so that the item limits and
+ * automated patron blocks take the loans already made into account. The patron,
+ * proxy and settings are only fetched once.
+ */
+public class CheckOutByBarcodeBatchResource extends Resource {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final String rootPath;
+  private final CheckOutByBarcodeResource checkOutByBarcodeResource;
+
+  public CheckOutByBarcodeBatchResource(String rootPath, HttpClient client,
+    CheckOutByBarcodeResource checkOutByBarcodeResource) {
+
+    super(client);
+    this.rootPath = rootPath;
+    this.checkOutByBarcodeResource = checkOutByBarcodeResource;
+  }
+
+  @Override
+  public void register(Router router) {
+    new RouteRegistration(rootPath, router).create(this::checkOutItems);
+  }
+
+  private void checkOutItems(RoutingContext routingContext) {
+    final var context = new WebContext(routingContext);
+    final JsonObject body = routingContext.body().asJsonObject();
+    final var permissions = OkapiPermissions.from(context.getHeaders());
+    final var clients = Clients.create(context, client);
+    final var userRepository = new UserRepository(clients);
+    final var lookups = new BatchLookups();
+    final var loanRepresentation = new LoanRepresentation();
+
+    itemBarcodesFrom(body)
+      .after(itemBarcodes -> {
+        log.info("checkOutItems:: checking out {} items", itemBarcodes.size());
+
+        return allResultsOf(itemBarcodes, itemBarcode -> checkOut(body, itemBarcode,
+            routingContext, context, permissions, clients, userRepository, lookups)
+            .thenApply(r -> r.map(LoanAndRelatedRecords::getLoan))
+            .thenApply(r -> r.map(loanRepresentation::extendedLoan)), 1)
+          .thenApply(results -> succeeded(
+            BatchItemResults.toJson("checkOuts", itemBarcodes, results)));
+      })
+      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  private CompletableFuture<Result<LoanAndRelatedRecords>> checkOut(JsonObject body,
+    String itemBarcode, RoutingContext routingContext, WebContext context,
+    OkapiPermissions permissions, Clients clients, UserRepository userRepository,
+    BatchLookups lookups) {
+
+    log.debug("checkOut:: parameters itemBarcode: {}", itemBarcode);
+
+    final var request = CheckOutByBarcodeRequest.fromJson(singleItemRequest(body, itemBarcode));
+
+    return checkOutByBarcodeResource.checkOut(request, routingContext, context,
+      new OverridingErrorHandler(permissions), permissions, clients, userRepository, lookups,
+      false);
+  }
+}
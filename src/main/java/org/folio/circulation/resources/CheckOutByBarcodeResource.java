@@ -110,7 +110,21 @@ public class CheckOutByBarcodeResource extends Resource {
     RoutingContext routingContext, WebContext context, CirculationErrorHandler errorHandler,
     OkapiPermissions permissions, Clients clients, boolean isDryRun) {
 
-    final var userRepository = new UserRepository(clients);
+    return checkOut(request, routingContext, context, errorHandler, permissions, clients,
+      new UserRepository(clients), new BatchLookups(), isDryRun);
+  }
+
+  /**
+   * @param userRepository - can be shared by the check-outs to the same patron,
+   * so that the patron and proxy are only fetched once
+   * @param lookups - can be shared by the check-outs at the same service point,
+   * so that the settings are only fetched once
+   */
+  CompletableFuture<Result<LoanAndRelatedRecords>> checkOut(CheckOutByBarcodeRequest request,
+    RoutingContext routingContext, WebContext context, CirculationErrorHandler errorHandler,
+    OkapiPermissions permissions, Clients clients, UserRepository userRepository,
+    BatchLookups lookups, boolean isDryRun) {
+
     final var itemRepository = new ItemRepository(clients);
     final var loanRepository = new LoanRepository(clients, itemRepository, userRepository);
     final var requestRepository = RequestRepository.using(clients, itemRepository,
@@ -156,7 +170,8 @@ public class CheckOutByBarcodeResource extends Resource {
       .thenApply(validators::refuseWhenItemIsAlreadyCheckedOut)
       .thenApply(validators::refuseWhenItemIsNotAllowedForCheckOut)
       .thenComposeAsync(validators::refuseWhenItemHasOpenLoans)
-      .thenComposeAsync(r -> r.combineAfter(settingsRepository::lookupTlrSettings,
+      .thenComposeAsync(r -> r.combineAfter(
+        records -> lookups.get("tlrSettings", settingsRepository::lookupTlrSettings),
         LoanAndRelatedRecords::withTlrSettings))
       .thenComposeAsync(r -> r.combineAfter(l -> getRequestQueue(l, requestQueueRepository),
         LoanAndRelatedRecords::withRequestQueue))
@@ -165,7 +180,8 @@ public class CheckOutByBarcodeResource extends Resource {
       .thenComposeAsync(validators::refuseWhenItemLimitIsReached)
       .thenCompose(validators::refuseWhenItemIsNotLoanable)
       .thenApply(r -> r.next(errorHandler::failWithValidationErrors))
-      .thenCompose(r -> r.combineAfter(settingsRepository::lookupTimeZoneSettings,
+      .thenCompose(r -> r.combineAfter(
+        records -> lookups.get("timeZone", settingsRepository::lookupTimeZoneSettings),
         LoanAndRelatedRecords::withTimeZone))
       .thenComposeAsync(r -> r.after(overdueFinePolicyRepository::lookupOverdueFinePolicy))
       .thenComposeAsync(r -> r.after(lostItemPolicyRepository::lookupLostItemPolicy));
@@ -180,7 +196,7 @@ public class CheckOutByBarcodeResource extends Resource {
       .thenComposeAsync(r -> r.after(records -> checkOut(records, clients)))
       .thenApply(r -> r.map(this::checkOutItem))
       .thenApply(r -> r.map(this::markInUseIfForUseAtLocation))
-      .thenCompose(r -> r.after(l -> acquireLockIfNeededOrFail(settingsRepository,
+      .thenCompose(r -> r.after(l -> acquireLockIfNeededOrFail(settingsRepository, lookups,
         checkOutLockRepository, l, checkOutLockId, validators, errorHandler)))
       .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut))
       .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices))
@@ -199,14 +215,15 @@ public class CheckOutByBarcodeResource extends Resource {
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> acquireLockIfNeededOrFail(
-    SettingsRepository settingsRepository, CheckOutLockRepository checkOutLockRepository,
+    SettingsRepository settingsRepository, BatchLookups lookups,
+    CheckOutLockRepository checkOutLockRepository,
     LoanAndRelatedRecords loanAndRelatedRecords, AtomicReference<String> checkOutLockId,
     CheckOutValidators validators, CirculationErrorHandler errorHandler) {
 
     log.debug("acquireLockIfNeededOrFail:: parameters loanAndRelatedRecords: {}",
       () -> loanAndRelatedRecords);
 
-    return settingsRepository.lookUpCheckOutLockSettings()
+    return lookups.get("checkOutLockSettings", settingsRepository::lookUpCheckOutLockSettings)
       .thenApply(cr -> succeeded(loanAndRelatedRecords).combine(cr,
         LoanAndRelatedRecords::withCheckoutLockConfiguration))
       .thenCompose(r -> r.after(records -> this.acquireLock(records, checkOutLockRepository,
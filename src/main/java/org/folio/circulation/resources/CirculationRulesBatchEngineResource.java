@@ -0,0 +1,140 @@
+package org.folio.circulation.resources;
+
+import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.util.UuidUtil.isUuid;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.CirculationRuleMatches;
+import org.folio.circulation.rules.RulesExecutionParameters;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Applies the circulation rules to many sets of item type, loan type, patron
+ * group and location at once and returns the policies of all types for each.
+ */
+public class CirculationRulesBatchEngineResource extends Resource {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String CRITERIA = "criteria";
+  private static final String ITEM_TYPE_ID = "itemTypeId";
+  private static final String LOAN_TYPE_ID = "loanTypeId";
+  private static final String PATRON_TYPE_ID = "patronTypeId";
+  private static final String LOCATION_ID = "locationId";
+  private static final int MAXIMUM_CRITERIA = 1000;
+
+  private final String rootPath;
+
+  public CirculationRulesBatchEngineResource(String rootPath, HttpClient client) {
+    super(client);
+    this.rootPath = rootPath;
+  }
+
+  @Override
+  public void register(Router router) {
+    new RouteRegistration(rootPath, router).create(this::applyBatch);
+  }
+
+  private void applyBatch(RoutingContext routingContext) {
+    final WebContext context = new WebContext(routingContext);
+    final Clients clients = Clients.create(context, client);
+
+    toParameters(routingContext.body().asJsonObject())
+      .after(clients.circulationRulesProcessor()::getPolicyMatches)
+      .thenApply(r -> r.map(CirculationRulesBatchEngineResource::toJson))
+      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  private static Result<List<RulesExecutionParameters>> toParameters(JsonObject body) {
+    final JsonArray criteria = body == null ? null : body.getJsonArray(CRITERIA);
+
+    if (criteria == null) {
+      log.warn("toParameters:: criteria are missing");
+      return failedValidation("Criteria are required", CRITERIA, null);
+    }
+
+    if (criteria.size() > MAXIMUM_CRITERIA) {
+      log.warn("toParameters:: {} criteria, more than {}", criteria.size(), MAXIMUM_CRITERIA);
+      return failedValidation(String.format("No more than %d criteria can be applied at once",
+        MAXIMUM_CRITERIA), CRITERIA, String.valueOf(criteria.size()));
+    }
+
+    log.debug("toParameters:: {} criteria", criteria::size);
+    final List<RulesExecutionParameters> parameters = new ArrayList<>(criteria.size());
+
+    for (int i = 0; i < criteria.size(); i++) {
+      if (!(criteria.getValue(i) instanceof JsonObject criterium)) {
+        log.warn("toParameters:: criteria {} is not an object", i);
+        return failedValidation("Criteria must be objects",
+          String.format("%s[%d]", CRITERIA, i), null);
+      }
+
+      for (String key : List.of(ITEM_TYPE_ID, LOAN_TYPE_ID, PATRON_TYPE_ID, LOCATION_ID)) {
+        final String value = criterium.getString(key);
+
+        if (value == null || !isUuid(value)) {
+          log.warn("toParameters:: invalid {} of criteria {}: {}", key, i, value);
+          return failedValidation("Criteria must contain valid UUIDs",
+            String.format("%s[%d].%s", CRITERIA, i, key), value);
+        }
+      }
+
+      parameters.add(new RulesExecutionParameters(criterium.getString(LOAN_TYPE_ID),
+        criterium.getString(LOCATION_ID), criterium.getString(ITEM_TYPE_ID),
+        criterium.getString(PATRON_TYPE_ID), null));
+    }
+
+    return succeeded(parameters);
+  }
+
+  private static JsonObject toJson(List<CirculationRuleMatches> matches) {
+    final JsonArray array = new JsonArray();
+
+    matches.forEach(match -> array.add(toJson(match)));
+
+    return new JsonObject()
+      .put("circulationRuleMatches", array)
+      .put("totalRecords", array.size());
+  }
+
+  private static JsonObject toJson(CirculationRuleMatches matches) {
+    final RulesExecutionParameters parameters = matches.getParameters();
+    final CirculationRuleMatch loanPolicyMatch = matches.getLoanPolicyMatch();
+    final JsonObject json = new JsonObject();
+
+    write(json, ITEM_TYPE_ID, parameters.getMaterialTypeId());
+    write(json, LOAN_TYPE_ID, parameters.getLoanTypeId());
+    write(json, PATRON_TYPE_ID, parameters.getPatronGroupId());
+    write(json, LOCATION_ID, parameters.getLocationId());
+    write(json, "loanPolicyId", loanPolicyMatch.getPolicyId());
+    write(json, "requestPolicyId", matches.getRequestPolicyMatch().getPolicyId());
+    write(json, "noticePolicyId", matches.getNoticePolicyMatch().getPolicyId());
+    write(json, "overdueFinePolicyId", matches.getOverduePolicyMatch().getPolicyId());
+    write(json, "lostItemPolicyId", matches.getLostItemPolicyMatch().getPolicyId());
+
+    json.put("appliedRuleConditions", new JsonObject()
+      .put("materialTypeMatch", loanPolicyMatch.getAppliedRuleConditions().isItemTypePresent())
+      .put("loanTypeMatch", loanPolicyMatch.getAppliedRuleConditions().isLoanTypePresent())
+      .put("patronGroupMatch", loanPolicyMatch.getAppliedRuleConditions().isPatronGroupPresent()));
+
+    return json;
+  }
+}
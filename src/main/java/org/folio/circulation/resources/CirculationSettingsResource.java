@@ -15,6 +15,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.CirculationSetting;
 import org.folio.circulation.infrastructure.storage.CirculationSettingsRepository;
+import org.folio.circulation.infrastructure.storage.SettingsCache;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.NoContentResponse;
@@ -46,6 +47,7 @@ public class CirculationSettingsResource extends CollectionResource {
     ofAsync(circulationSetting)
       .thenApply(refuseWhenCirculationSettingIsInvalid())
       .thenCompose(r -> r.after(circulationSettingsRepository::create))
+      .thenApply(r -> r.peek(notUsed -> refreshSettings(context)))
       .thenApply(r -> r.map(CirculationSetting::getRepresentation))
       .thenApply(r -> r.map(JsonHttpResponse::created))
       .thenAccept(context::writeResultToHttpResponse);
@@ -64,6 +66,7 @@ public class CirculationSettingsResource extends CollectionResource {
     ofAsync(circulationSetting)
       .thenApply(refuseWhenCirculationSettingIsInvalid())
       .thenCompose(r -> r.after(circulationSettingsRepository::update))
+      .thenApply(r -> r.peek(notUsed -> refreshSettings(context)))
       .thenApply(r -> r.map(CirculationSetting::getRepresentation))
       .thenApply(r -> r.map(JsonHttpResponse::created))
       .thenAccept(context::writeResultToHttpResponse);
@@ -93,6 +96,7 @@ public class CirculationSettingsResource extends CollectionResource {
       .thenApply(refuseWhenIdIsInvalid())
       .thenApply(r -> r.peek(id -> log.debug("delete:: parameters id: {}", id)))
       .thenCompose(r -> r.after(clients.circulationSettingsStorageClient()::delete))
+      .thenApply(r -> r.peek(notUsed -> refreshSettings(context)))
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
       .thenAccept(context::writeResultToHttpResponse);
   }
@@ -123,6 +127,14 @@ public class CirculationSettingsResource extends CollectionResource {
       .thenAccept(context::writeResultToHttpResponse);
   }
 
+  /**
+   * Settings of the tenant that have already been looked up are fetched again
+   * after a change, instead of once their snapshot has expired
+   */
+  private static void refreshSettings(WebContext context) {
+    SettingsCache.getInstance().refresh(context.getTenantId());
+  }
+
   private static void setRandomIdIfMissing(JsonObject representation) {
     final var providedId = getProperty(representation, "id");
     if (providedId == null) {
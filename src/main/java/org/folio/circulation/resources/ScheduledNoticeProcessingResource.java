@@ -1,9 +1,24 @@
 package org.folio.circulation.resources;
 
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.folio.Environment.getScheduledNoticesProcessingTimeBudgetSeconds;
 import static org.folio.circulation.support.results.AsynchronousResultBindings.safelyInitialise;
 import static org.folio.circulation.support.results.MappingFunctions.toFixedValue;
+import static org.folio.circulation.support.results.Result.ofAsync;
 
+import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.notice.schedule.ScheduledNotice;
@@ -27,7 +42,23 @@ import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 
+/**
+ * Processes a page of due scheduled notices for each call, usually made by an
+ * Okapi timer.
+ * <p>
+ * When a time budget is configured, further pages are processed until the budget
+ * is spent or no due notices remain. Only one call per tenant processes the notices
+ * of an endpoint at a time within a module instance, other calls made in the
+ * meantime return without processing any notices.
+ */
 public abstract class ScheduledNoticeProcessingResource extends Resource {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  // Allows for the last page of a run to take longer than the rest of the time budget
+  private static final long LEASE_MARGIN_MILLIS = MINUTES.toMillis(10);
+
+  private static final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
   private final String rootPath;
 
   ScheduledNoticeProcessingResource(String rootPath, HttpClient client) {
@@ -59,16 +90,99 @@ public abstract class ScheduledNoticeProcessingResource extends Resource {
     final var patronActionSessionRepository = PatronActionSessionRepository.using(
       clients, loanRepository, userRepository);
 
+    final ProcessingRun run = new ProcessingRun(currentTimeMillis(),
+      SECONDS.toMillis(getScheduledNoticesProcessingTimeBudgetSeconds()));
+
+    final String leaseKey = clients.tenantId() + rootPath;
+    final Lease lease = acquireLease(leaseKey, run.deadline + LEASE_MARGIN_MILLIS);
+
+    if (lease == null) {
+      log.info("process:: notices of {} are already being processed, skipping", rootPath);
+      context.write(NoContentResponse.noContent());
+      return;
+    }
+
     safelyInitialise(configurationRepository::lookupSchedulerNoticesProcessingLimit)
-      .thenCompose(r -> r.after(limit -> findNoticesToSend(settingsRepository,
-        scheduledNoticesRepository, patronActionSessionRepository, limit)))
-      .thenCompose(r -> r.after(notices -> handleNotices(clients, requestRepository,
-        loanRepository, notices)))
+      .thenCompose(r -> r.after(limit -> processPages(run, limit,
+        () -> findNoticesToSend(settingsRepository, scheduledNoticesRepository,
+            patronActionSessionRepository, limit)
+          .thenCompose(notices -> notices.after(page -> handleNotices(clients,
+            requestRepository, loanRepository, page))))))
+      .whenComplete((r, t) -> {
+        leases.remove(leaseKey, lease);
+        run.logSummary(rootPath);
+      })
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
       .exceptionally(CommonFailures::failedDueToServerError)
       .thenAccept(context::writeResultToHttpResponse);
   }
 
+  private CompletableFuture<Result<Void>> processPages(ProcessingRun run, PageLimit pageLimit,
+    Supplier<CompletableFuture<Result<MultipleRecords<ScheduledNotice>>>> processPage) {
+
+    return processPage.get()
+      .thenCompose(r -> r.after(notices -> run.shouldContinueAfter(notices, pageLimit)
+        ? processPages(run, pageLimit, processPage)
+        : ofAsync((Void) null)));
+  }
+
+  private static Lease acquireLease(String key, long expiresAt) {
+    final Lease lease = new Lease(expiresAt);
+    final long now = currentTimeMillis();
+
+    final Lease current = leases.compute(key, (k, existing) ->
+      existing == null || existing.expiresAt() < now ? lease : existing);
+
+    return current == lease ? lease : null;
+  }
+
+  private record Lease(long expiresAt) { }
+
+  private static final class ProcessingRun {
+    private final long startedAt;
+    private final long deadline;
+    private final Set<String> processedNoticeIds = new HashSet<>();
+    private int pages;
+    private Integer initialBacklog;
+
+    private ProcessingRun(long startedAt, long timeBudgetMillis) {
+      this.startedAt = startedAt;
+      this.deadline = startedAt + timeBudgetMillis;
+    }
+
+    /**
+     * Notices which could not be processed, e.g. because they are cut off from their
+     * group, are still due. Processing stops once a page only has those notices.
+     */
+    private boolean shouldContinueAfter(MultipleRecords<ScheduledNotice> notices,
+      PageLimit pageLimit) {
+
+      pages++;
+
+      if (initialBacklog == null) {
+        initialBacklog = notices.getTotalRecords();
+      }
+
+      final boolean hasNewNotices = notices.getRecords().stream()
+        .map(ScheduledNotice::getId)
+        .filter(Objects::nonNull)
+        .map(processedNoticeIds::add)
+        .reduce(false, Boolean::logicalOr);
+
+      return hasNewNotices
+        && notices.size() >= pageLimit.getLimit()
+        && currentTimeMillis() < deadline;
+    }
+
+    private void logSummary(String rootPath) {
+      final long duration = Math.max(1, currentTimeMillis() - startedAt);
+
+      log.info("logSummary:: {} processed {} notices in {} pages in {} ms ({} notices per second), " +
+          "{} notices were due at the start", rootPath, processedNoticeIds.size(), pages, duration,
+        processedNoticeIds.size() * 1000L / duration, initialBacklog);
+    }
+  }
+
   protected abstract CompletableFuture<Result<MultipleRecords<ScheduledNotice>>> findNoticesToSend(
     SettingsRepository settingsRepository,
     ScheduledNoticesRepository scheduledNoticesRepository,
@@ -0,0 +1,20 @@
+package org.folio.circulation.rules;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Policies of all types the circulation rules determine for a single set of parameters.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CirculationRuleMatches {
+  private final RulesExecutionParameters parameters;
+  private final CirculationRuleMatch loanPolicyMatch;
+  private final CirculationRuleMatch requestPolicyMatch;
+  private final CirculationRuleMatch noticePolicyMatch;
+  private final CirculationRuleMatch overduePolicyMatch;
+  private final CirculationRuleMatch lostItemPolicyMatch;
+}
@@ -1,17 +1,32 @@
 package org.folio.circulation.rules;
 
+import static org.folio.circulation.support.AsyncCoordinationUtil.mapSequentially;
 import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
+import static org.folio.circulation.support.async.CirculationExecutors.supplyOnWorker;
+import static org.folio.circulation.support.results.Result.combineAll;
 import static org.folio.circulation.support.results.Result.combined;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Location;
 import org.folio.circulation.rules.cache.CirculationRulesCache;
+import org.folio.circulation.rules.cache.PolicyMatchCache;
+import org.folio.circulation.rules.cache.Rules;
 import org.folio.circulation.storage.mappers.LocationMapper;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
@@ -23,6 +38,13 @@ import lombok.val;
 public class CirculationRulesProcessor {
   private static final Logger log = LogManager.getLogger(CirculationRulesProcessor.class);
 
+  private static final String LOAN_POLICY = "loan policy";
+  private static final String REQUEST_POLICY = "request policy";
+  private static final String NOTICE_POLICY = "notice policy";
+  private static final String OVERDUE_POLICY = "overdue policy";
+  private static final String LOST_ITEM_POLICY = "lost item policy";
+  private static final int POLICY_MATCHES_CHUNK_SIZE = 25;
+
   private final String tenantId;
   private final CollectionResourceClient circulationRulesStorage;
   private final CollectionResourceClient locationStorageClient;
@@ -40,14 +62,14 @@ public class CirculationRulesProcessor {
 
     log.debug("getLoanPolicyAndMatch:: parameters params: {}", params);
 
-    return executeRules(params, ExecutableRules::determineLoanPolicy);
+    return executeRules(params, LOAN_POLICY, ExecutableRules::determineLoanPolicy);
   }
 
   public CompletableFuture<Result<JsonArray>> getLoanPolicies(RulesExecutionParameters params) {
     log.debug("getLoanPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.loanPolicies(newParams.toMap(), newParams.getLocation()));
+      (rulesEngine, newParams) -> rulesEngine.loanPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getLostItemPolicyAndMatch(
@@ -55,14 +77,14 @@ public class CirculationRulesProcessor {
 
     log.debug("getLostItemPolicyAndMatch:: parameters params: {}", params);
 
-    return executeRules(params, ExecutableRules::determineLostItemPolicy);
+    return executeRules(params, LOST_ITEM_POLICY, ExecutableRules::determineLostItemPolicy);
   }
 
   public CompletableFuture<Result<JsonArray>> getLostItemPolicies(RulesExecutionParameters params) {
     log.debug("getLostItemPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.lostItemPolicies(newParams.toMap(), newParams.getLocation()));
+      (rulesEngine, newParams) -> rulesEngine.lostItemPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getNoticePolicyAndMatch(
@@ -70,14 +92,14 @@ public class CirculationRulesProcessor {
 
     log.debug("getNoticePolicyAndMatch:: parameters params: {}", params);
 
-    return executeRules(params, ExecutableRules::determineNoticePolicy);
+    return executeRules(params, NOTICE_POLICY, ExecutableRules::determineNoticePolicy);
   }
 
   public CompletableFuture<Result<JsonArray>> getNoticePolicies(RulesExecutionParameters params) {
     log.debug("getNoticePolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.noticePolicies(newParams.toMap(), newParams.getLocation()));
+      (rulesEngine, newParams) -> rulesEngine.noticePolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getOverduePolicyAndMatch(
@@ -85,14 +107,14 @@ public class CirculationRulesProcessor {
 
     log.debug("getOverduePolicyAndMatch:: parameters params: {}", params);
 
-    return executeRules(params, ExecutableRules::determineOverduePolicy);
+    return executeRules(params, OVERDUE_POLICY, ExecutableRules::determineOverduePolicy);
   }
 
   public CompletableFuture<Result<JsonArray>> getOverduePolicies(RulesExecutionParameters params) {
     log.debug("getOverduePolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.overduePolicies(newParams.toMap(), newParams.getLocation()));
+      (rulesEngine, newParams) -> rulesEngine.overduePolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getRequestPolicyAndMatch(
@@ -100,38 +122,140 @@ public class CirculationRulesProcessor {
 
     log.debug("getRequestPolicyAndMatch:: parameters params: {}", params);
 
-    return executeRules(params, ExecutableRules::determineRequestPolicy);
+    return executeRules(params, REQUEST_POLICY, ExecutableRules::determineRequestPolicy);
   }
 
   public CompletableFuture<Result<JsonArray>> getRequestPolicies(RulesExecutionParameters params) {
     log.debug("getRequestPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.requestPolicies(newParams.toMap(), newParams.getLocation()));
+      (rulesEngine, newParams) -> rulesEngine.requestPolicies(newParams.toMap(), newParams.getLocation()));
+  }
+
+  /**
+   * Determines the policies of all types for each distinct set of parameters, the locations
+   * that are not provided are fetched in a single request.
+   *
+   * @return policy matches in the order the parameters first occur
+   */
+  public CompletableFuture<Result<List<CirculationRuleMatches>>> getPolicyMatches(
+    Collection<RulesExecutionParameters> params) {
+
+    log.debug("getPolicyMatches:: parameters params: {}", params::size);
+    final Collection<RulesExecutionParameters> distinctParams = distinct(params);
+
+    val rulesFuture = CirculationRulesCache.getInstance()
+      .getOrLoadRules(tenantId, circulationRulesStorage);
+
+    val paramsFuture = fetchLocations(distinctParams)
+      .thenApply(r -> r.map(locations -> distinctParams.stream()
+        .map(p -> p.getLocation() != null ? p : p.withLocation(locations.get(p.getLocationId())))
+        .toList()));
+
+    return paramsFuture.thenCompose(r -> r.after(paramsWithLocations ->
+      rulesFuture.thenCompose(rulesResult -> rulesResult.after(rules ->
+        determinePolicies(rules, paramsWithLocations)))));
+  }
+
+  /**
+   * Evaluates the rules on the worker threads a few parameters at a time, so that
+   * a large batch neither holds up the event loop nor the other evaluations.
+   */
+  private CompletableFuture<Result<List<CirculationRuleMatches>>> determinePolicies(
+    Rules rules, List<RulesExecutionParameters> params) {
+
+    return mapSequentially(ListUtils.partition(params, POLICY_MATCHES_CHUNK_SIZE),
+        chunk -> supplyOnWorker(() -> combineAll(chunk.stream()
+          .map(p -> determinePolicies(rules, p))
+          .toList())))
+      .thenApply(r -> r.map(chunks -> chunks.stream()
+        .flatMap(List::stream)
+        .toList()));
+  }
+
+  private static Collection<RulesExecutionParameters> distinct(
+    Collection<RulesExecutionParameters> params) {
+
+    final Map<List<String>, RulesExecutionParameters> distinctParams = new LinkedHashMap<>();
+
+    params.forEach(p -> distinctParams.putIfAbsent(Arrays.asList(p.getMaterialTypeId(),
+      p.getLoanTypeId(), p.getPatronGroupId(), p.getLocationId()), p));
+
+    return distinctParams.values();
+  }
+
+  private Result<CirculationRuleMatches> determinePolicies(Rules rules,
+    RulesExecutionParameters params) {
+
+    val executableRules = new ExecutableRules(rules.getRulesAsText(), rules.getRulesEngine());
+
+    return combineAll(List.of(
+      determinePolicy(rules, executableRules, params, LOAN_POLICY,
+        ExecutableRules::determineLoanPolicy),
+      determinePolicy(rules, executableRules, params, REQUEST_POLICY,
+        ExecutableRules::determineRequestPolicy),
+      determinePolicy(rules, executableRules, params, NOTICE_POLICY,
+        ExecutableRules::determineNoticePolicy),
+      determinePolicy(rules, executableRules, params, OVERDUE_POLICY,
+        ExecutableRules::determineOverduePolicy),
+      determinePolicy(rules, executableRules, params, LOST_ITEM_POLICY,
+        ExecutableRules::determineLostItemPolicy)))
+      .map(matches -> new CirculationRuleMatches(params, matches.get(0), matches.get(1),
+        matches.get(2), matches.get(3), matches.get(4)));
+  }
+
+  private Result<CirculationRuleMatch> determinePolicy(Rules rules,
+    ExecutableRules executableRules, RulesExecutionParameters params, String policyType,
+    BiFunction<ExecutableRules, RulesExecutionParameters, Result<CirculationRuleMatch>> rulesExecutor) {
+
+    final PolicyMatchCache policyMatchCache = rules.getPolicyMatchCache();
+
+    return policyMatchCache.get(policyType, params)
+      .map(Result::succeeded)
+      .orElseGet(() -> rulesExecutor.apply(executableRules, params)
+        .peek(match -> policyMatchCache.put(policyType, params, match)));
   }
 
   private <T> CompletableFuture<Result<T>> triggerRules(RulesExecutionParameters params,
-    BiFunction<Drools, RulesExecutionParameters, T> droolsFunction) {
+    BiFunction<RulesEngine, RulesExecutionParameters, T> rulesEngineFunction) {
 
     val rulesFuture = CirculationRulesCache.getInstance()
-      .getDrools(tenantId, circulationRulesStorage);
+      .getRulesEngine(tenantId, circulationRulesStorage);
 
     return fetchLocation(params).thenCombine(rulesFuture, combined(
-      (newParams, drools) -> {
+      (newParams, rulesEngine) -> {
         log.info("Applying circulation rules with parameters: {}", newParams);
-        return succeeded(droolsFunction.apply(drools, newParams));
+        return succeeded(rulesEngineFunction.apply(rulesEngine, newParams));
       }));
   }
 
-  private <T> CompletableFuture<Result<T>> executeRules(RulesExecutionParameters params,
-    BiFunction<ExecutableRules, RulesExecutionParameters, Result<T>> rulesExecutor) {
+  private CompletableFuture<Result<CirculationRuleMatch>> executeRules(
+    RulesExecutionParameters params, String policyType,
+    BiFunction<ExecutableRules, RulesExecutionParameters, Result<CirculationRuleMatch>> rulesExecutor) {
 
-    val rulesFuture = CirculationRulesCache.getInstance()
-      .getExecutableRules(tenantId, circulationRulesStorage);
+    return CirculationRulesCache.getInstance()
+      .getOrLoadRules(tenantId, circulationRulesStorage)
+      .thenCompose(r -> r.after(rules -> executeRules(rules, params, policyType, rulesExecutor)));
+  }
+
+  private CompletableFuture<Result<CirculationRuleMatch>> executeRules(Rules rules,
+    RulesExecutionParameters params, String policyType,
+    BiFunction<ExecutableRules, RulesExecutionParameters, Result<CirculationRuleMatch>> rulesExecutor) {
+
+    final PolicyMatchCache policyMatchCache = rules.getPolicyMatchCache();
+    final var cachedMatch = policyMatchCache.get(policyType, params);
+
+    if (cachedMatch.isPresent()) {
+      log.debug("executeRules:: found cached {} match for parameters: {}", policyType, params);
+      return ofAsync(cachedMatch.get());
+    }
+
+    val executableRules = new ExecutableRules(rules.getRulesAsText(), rules.getRulesEngine());
 
     return fetchLocation(params)
-      .thenCombine(rulesFuture, combined((parametersWithLocation, rules) ->
-        rulesExecutor.apply(rules, parametersWithLocation)));
+      .thenCompose(r -> r.after(parametersWithLocation -> supplyOnWorker(() ->
+        rulesExecutor.apply(executableRules, parametersWithLocation)
+          .peek(match -> policyMatchCache.put(policyType, parametersWithLocation, match)))));
   }
 
   private CompletableFuture<Result<RulesExecutionParameters>> fetchLocation(
@@ -152,4 +276,26 @@ public class CirculationRulesProcessor {
       .thenApply(r -> r.map(params::withLocation))
       .thenApply(r -> r.mapFailure(failure -> succeeded(params)));
   }
+
+  private CompletableFuture<Result<Map<String, Location>>> fetchLocations(
+    Collection<RulesExecutionParameters> params) {
+
+    final Set<String> locationIds = params.stream()
+      .filter(p -> p.getLocation() == null)
+      .map(RulesExecutionParameters::getLocationId)
+      .filter(StringUtils::isNotBlank)
+      .collect(Collectors.toSet());
+
+    log.debug("fetchLocations:: locationIds: {}", locationIds::size);
+
+    if (locationIds.isEmpty()) {
+      return ofAsync(Map.of());
+    }
+
+    return findWithMultipleCqlIndexValues(locationStorageClient, "locations",
+        new LocationMapper()::toDomain)
+      .findByIds(locationIds)
+      .thenApply(r -> r.map(locations -> locations.toMap(Location::getId)))
+      .thenApply(r -> r.mapFailure(failure -> succeeded(Map.of())));
+  }
 }
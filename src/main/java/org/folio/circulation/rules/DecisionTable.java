@@ -0,0 +1,318 @@
+package org.folio.circulation.rules;
+
+import static java.util.Comparator.comparingInt;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+import static org.folio.circulation.support.utils.LogUtil.asJson;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Location;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Evaluates circulation rules without Drools.
+ * <p>
+ * The rules are sorted by their Drools salience, and for each criterium type
+ * (t, a, b, c, s, m, g) the table holds the set of rules that accept a value of
+ * that type. A lookup intersects the seven sets, the set bits are the matching
+ * rules in the order Drools would fire them.
+ */
+public class DecisionTable implements RulesEngine {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String LOAN_POLICY_TYPE = "l";
+  private static final String REQUEST_POLICY_TYPE = "r";
+  private static final String NOTICE_POLICY_TYPE = "n";
+  private static final String OVERDUE_POLICY_TYPE = "o";
+  private static final String LOST_ITEM_POLICY_TYPE = "i";
+
+  private final List<Rule> rules;
+  private final Map<String, CriteriumIndex> indexes = new HashMap<>();
+
+  DecisionTable(List<Rule> unsortedRules) {
+    rules = unsortedRules.stream()
+      .sorted(comparingInt(Rule::getSalience).reversed())
+      .toList();
+
+    for (String criteriumType : List.of("t", "a", "b", "c", "s", "m", "g")) {
+      indexes.put(criteriumType, new CriteriumIndex(criteriumType, rules));
+    }
+  }
+
+  @Override
+  public CirculationRuleMatch loanPolicy(MultiMap params, Location location) {
+    log.debug("loanPolicy:: params params: {}, location: {}", params, location);
+    final Rule rule = firstMatchingRule(params, location);
+
+    if (rule == null) {
+      return new CirculationRuleMatch(null, new AppliedRuleConditions(false, false, false));
+    }
+
+    return new CirculationRuleMatch(rule.getPolicyId(LOAN_POLICY_TYPE),
+      new AppliedRuleConditions(rule.hasCondition("m"), rule.hasCondition("t"),
+        rule.hasCondition("g")));
+  }
+
+  @Override
+  public JsonArray loanPolicies(MultiMap params, Location location) {
+    log.debug("loanPolicies:: params params: {}, location: {}", params, location);
+    final JsonArray array = policies(params, location, LOAN_POLICY_TYPE, "loanPolicyId");
+    log.info("loanPolicies:: result: {}", () -> asJson(array.stream().toList()));
+
+    return array;
+  }
+
+  @Override
+  public CirculationRuleMatch requestPolicy(MultiMap params, Location location) {
+    log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
+
+    return policy(params, location, REQUEST_POLICY_TYPE);
+  }
+
+  @Override
+  public JsonArray requestPolicies(MultiMap params, Location location) {
+    log.debug("requestPolicies:: parameters params: {}, location: {}", params, location);
+    final JsonArray array = policies(params, location, REQUEST_POLICY_TYPE, "requestPolicyId");
+    log.info("requestPolicies:: result: {}", () -> asJson(array.stream().toList()));
+
+    return array;
+  }
+
+  @Override
+  public CirculationRuleMatch noticePolicy(MultiMap params, Location location) {
+    log.debug("noticePolicy:: parameters params: {}, location: {}", params, location);
+
+    return policy(params, location, NOTICE_POLICY_TYPE);
+  }
+
+  @Override
+  public JsonArray noticePolicies(MultiMap params, Location location) {
+    log.debug("noticePolicies:: parameters params: {}, location: {}", params, location);
+    final JsonArray array = policies(params, location, NOTICE_POLICY_TYPE, "noticePolicyId");
+    log.info("noticePolicies:: result: {}", () -> asJson(array.stream().toList()));
+
+    return array;
+  }
+
+  @Override
+  public CirculationRuleMatch overduePolicy(MultiMap params, Location location) {
+    log.debug("overduePolicy:: parameters params: {}, location: {}", params, location);
+
+    return policy(params, location, OVERDUE_POLICY_TYPE);
+  }
+
+  @Override
+  public JsonArray overduePolicies(MultiMap params, Location location) {
+    log.debug("overduePolicies:: parameters params: {}, location: {}", params, location);
+    final JsonArray array = policies(params, location, OVERDUE_POLICY_TYPE, "overduePolicyId");
+    log.info("overduePolicies:: result: {}", () -> asJson(array.stream().toList()));
+
+    return array;
+  }
+
+  @Override
+  public CirculationRuleMatch lostItemPolicy(MultiMap params, Location location) {
+    log.debug("lostItemPolicy:: parameters params: {}, location: {}", params, location);
+
+    return policy(params, location, LOST_ITEM_POLICY_TYPE);
+  }
+
+  @Override
+  public JsonArray lostItemPolicies(MultiMap params, Location location) {
+    log.debug("lostItemPolicies:: parameters params: {}, location: {}", params, location);
+    final JsonArray array = policies(params, location, LOST_ITEM_POLICY_TYPE, "lostItemPolicyId");
+    log.info("lostItemPolicies:: result: {}", () -> asJson(array.stream().toList()));
+
+    return array;
+  }
+
+  private CirculationRuleMatch policy(MultiMap params, Location location, String policyType) {
+    final Rule rule = firstMatchingRule(params, location);
+
+    return new CirculationRuleMatch(rule == null ? null : rule.getPolicyId(policyType),
+      new AppliedRuleConditions(false, false, false));
+  }
+
+  private JsonArray policies(MultiMap params, Location location, String policyType,
+    String policyIdPropertyName) {
+
+    final BitSet matches = matchingRules(params, location);
+    final JsonArray array = new JsonArray();
+
+    for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+      final Rule rule = rules.get(i);
+      final JsonObject json = new JsonObject();
+
+      json.put(policyIdPropertyName, rule.getPolicyId(policyType));
+      write(json, "circulationRuleLine", rule.getLine());
+
+      array.add(json);
+    }
+
+    return array;
+  }
+
+  private Rule firstMatchingRule(MultiMap params, Location location) {
+    final int index = matchingRules(params, location).nextSetBit(0);
+
+    return index < 0 ? null : rules.get(index);
+  }
+
+  private BitSet matchingRules(MultiMap params, Location location) {
+    final BitSet matches = indexes.get("m").matching(true, params.get(ITEM_TYPE_ID_NAME));
+    matches.and(indexes.get("t").lookup(true, params.get(LOAN_TYPE_ID_NAME)));
+    matches.and(indexes.get("g").lookup(true, params.get(PATRON_TYPE_ID_NAME)));
+    matches.and(indexes.get("s").lookup(true, params.get(LOCATION_ID_NAME)));
+
+    // Drools has no institution, campus and library facts when the location is unknown
+    final boolean hasLocation = location != null;
+    matches.and(indexes.get("a").lookup(hasLocation,
+      hasLocation ? location.getInstitutionId() : null));
+    matches.and(indexes.get("b").lookup(hasLocation,
+      hasLocation ? location.getCampusId() : null));
+    matches.and(indexes.get("c").lookup(hasLocation,
+      hasLocation ? location.getLibraryId() : null));
+
+    return matches;
+  }
+
+  /**
+   * Rules that accept a value of a single criterium type.
+   */
+  private static class CriteriumIndex {
+    /** rules accepting each value that is named in a condition */
+    private final Map<String, BitSet> namedValues = new HashMap<>();
+    /** rules accepting any value that is not named in a condition */
+    private final BitSet otherValues = new BitSet();
+    /** rules without a condition for the criterium type */
+    private final BitSet unconditional = new BitSet();
+
+    CriteriumIndex(String criteriumType, List<Rule> rules) {
+      final Set<String> names = new HashSet<>();
+      rules.forEach(rule -> rule.getConditions(criteriumType)
+        .forEach(condition -> names.addAll(condition.getIds())));
+
+      for (int i = 0; i < rules.size(); i++) {
+        final List<Condition> conditions = rules.get(i).getConditions(criteriumType);
+
+        if (conditions.isEmpty()) {
+          unconditional.set(i);
+        }
+        if (conditions.stream().allMatch(condition -> condition.accepts(null))) {
+          otherValues.set(i);
+        }
+        for (String name : names) {
+          if (conditions.stream().allMatch(condition -> condition.accepts(name))) {
+            namedValues.computeIfAbsent(name, k -> new BitSet()).set(i);
+          }
+        }
+      }
+    }
+
+    BitSet lookup(boolean factPresent, String value) {
+      if (!factPresent) {
+        return unconditional;
+      }
+
+      return value == null ? otherValues : namedValues.getOrDefault(value, otherValues);
+    }
+
+    BitSet matching(boolean factPresent, String value) {
+      return (BitSet) lookup(factPresent, value).clone();
+    }
+  }
+
+  /**
+   * A single line of the circulation rules with the conditions of all its parent lines.
+   */
+  @Getter
+  @ToString
+  static class Rule {
+    private final int line;
+    private final int salience;
+    private final List<Condition> conditions;
+    private final Map<String, String> policyIds;
+    private final Map<String, List<Condition>> conditionsByType = new HashMap<>();
+
+    Rule(int line, int salience, List<Condition> conditions, Map<String, String> policyIds) {
+      this.line = line;
+      this.salience = salience;
+      this.conditions = List.copyOf(conditions);
+      this.policyIds = Map.copyOf(policyIds);
+
+      conditions.forEach(condition -> conditionsByType
+        .computeIfAbsent(condition.getCriteriumType(), k -> new ArrayList<>())
+        .add(condition));
+    }
+
+    String getPolicyId(String policyType) {
+      return policyIds.get(policyType);
+    }
+
+    List<Condition> getConditions(String criteriumType) {
+      return conditionsByType.getOrDefault(criteriumType, Collections.emptyList());
+    }
+
+    boolean hasCondition(String criteriumType) {
+      return conditionsByType.containsKey(criteriumType);
+    }
+  }
+
+  /**
+   * A single criterium of a rule line, for example {@code m book dvd} or {@code g !visitor}.
+   */
+  @Getter
+  @ToString
+  static class Condition {
+    private final String criteriumType;
+    private final boolean matchesAll;
+    private final boolean negated;
+    private final Set<String> ids;
+
+    private Condition(String criteriumType, boolean matchesAll, boolean negated, Set<String> ids) {
+      this.criteriumType = criteriumType;
+      this.matchesAll = matchesAll;
+      this.negated = negated;
+      this.ids = Set.copyOf(ids);
+    }
+
+    static Condition all(String criteriumType) {
+      return new Condition(criteriumType, true, false, Set.of());
+    }
+
+    static Condition of(String criteriumType, boolean negated, Set<String> ids) {
+      return new Condition(criteriumType, false, negated, ids);
+    }
+
+    /**
+     * Same semantics as the Drools constraints generated by Text2Drools, a null
+     * value is never equal to an id.
+     */
+    boolean accepts(String value) {
+      if (matchesAll) {
+        return true;
+      }
+
+      return negated != (value != null && ids.contains(value));
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.circulation.rules;
 
+import static org.folio.Environment.getDroolsSessionPoolSize;
 import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
 import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
 import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
@@ -7,22 +8,25 @@ import static org.folio.circulation.resources.AbstractCirculationRulesEngineReso
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 import static org.folio.circulation.support.utils.LogUtil.asJson;
 
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.drools.base.definitions.rule.impl.RuleImpl;
-import org.drools.core.event.DefaultAgendaEventListener;
 import org.folio.circulation.domain.Location;
+import org.kie.api.KieBase;
 import org.kie.api.KieServices;
 import org.kie.api.builder.KieBuilder;
 import org.kie.api.builder.KieFileSystem;
 import org.kie.api.builder.Message.Level;
 import org.kie.api.builder.ReleaseId;
-import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.definition.KiePackage;
+import org.kie.api.definition.rule.Rule;
 import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieContainerSessionsPool;
 import org.kie.api.runtime.KieSession;
 
 import io.vertx.core.MultiMap;
@@ -32,12 +36,21 @@ import io.vertx.core.json.JsonObject;
 /**
  * Holds a Drools kieSession to calculate a loan policy.
  */
-public class Drools {
+public class Drools implements RulesEngine {
   // https://docs.jboss.org/drools/release/6.2.0.CR1/drools-docs/html/ch19.html
   // http://www.deepakgaikwad.net/index.php/2016/05/16/drools-tutorial-beginners.html
 
   private static final Logger log = LogManager.getLogger(CirculationRulesProcessor.class);
+  private static final String RULE_NAME_PREFIX = "line ";
+  private static final AppliedRuleConditions NO_RULE_CONDITIONS =
+    new AppliedRuleConditions(false, false, false);
+
   private final KieContainer kieContainer;
+  private final KieBase kieBase;
+  /** null unless sessions are pooled, a disposed session is reset and returned to the pool */
+  private final KieContainerSessionsPool sessionsPool;
+  /** conditions of each rule by its line number, they are the same for every evaluation */
+  private final Map<Integer, AppliedRuleConditions> ruleConditionsByLine;
 
   /**
    * Create the Drools kieSession based on a String containing a drools file.
@@ -45,6 +58,14 @@ public class Drools {
    * @param drools A file in Drools syntax with the circulation rules.
    */
   public Drools(String tenantId, String drools) {
+    this(tenantId, drools, getDroolsSessionPoolSize());
+  }
+
+  /**
+   * @param sessionPoolSize initial size of the pool of reusable sessions, 0 creates
+   * a new session for each evaluation
+   */
+  Drools(String tenantId, String drools, int sessionPoolSize) {
     // if KieServices.Factory.get() returns null add AppendingTransformer for META-INF/kie.conf
     // to maven-shade-plugin configuration (CIRC-309, CIRC-1147)
     KieServices kieServices = KieServices.Factory.get();
@@ -60,6 +81,43 @@ public class Drools {
       throw new IllegalArgumentException("Drools build errors:\n" + kieBuilder.getResults().toString());
     }
     kieContainer = kieServices.newKieContainer(releaseId);
+    kieBase = kieContainer.getKieBase();
+    sessionsPool = sessionPoolSize > 0 ? kieContainer.newKieSessionsPool(sessionPoolSize) : null;
+    ruleConditionsByLine = getRuleConditionsByLine(kieBase);
+  }
+
+  /**
+   * Releases the compiled rules, they cannot be evaluated afterwards.
+   */
+  public void dispose() {
+    if (sessionsPool != null) {
+      sessionsPool.shutdown();
+    }
+
+    KieServices.Factory.get().getRepository().removeKieModule(kieContainer.getReleaseId());
+    kieContainer.dispose();
+  }
+
+  private static Map<Integer, AppliedRuleConditions> getRuleConditionsByLine(KieBase kieBase) {
+    final Map<Integer, AppliedRuleConditions> conditionsByLine = new HashMap<>();
+
+    for (KiePackage kiePackage : kieBase.getKiePackages()) {
+      for (Rule rule : kiePackage.getRules()) {
+        if (rule.getName().startsWith(RULE_NAME_PREFIX)) {
+          final Set<String> conditions = getRuleConditions((RuleImpl) rule);
+          conditionsByLine.put(
+            Integer.parseInt(rule.getName().substring(RULE_NAME_PREFIX.length())),
+            new AppliedRuleConditions(isRuleItemTypePresent(conditions),
+              isRuleLoanTypePresent(conditions), isRulePatronGroupPresent(conditions)));
+        }
+      }
+    }
+
+    return conditionsByLine;
+  }
+
+  private KieSession newKieSession() {
+    return sessionsPool != null ? sessionsPool.newKieSession() : kieBase.newKieSession();
   }
 
   private KieSession createSession(MultiMap params, Location location, Match match) {
@@ -70,7 +128,7 @@ public class Drools {
     String patronGroupId = params.get(PATRON_TYPE_ID_NAME);
     String locationId = params.get(LOCATION_ID_NAME);
 
-    KieSession kieSession = kieContainer.newKieSession();
+    KieSession kieSession = newKieSession();
     kieSession.setGlobal("match", match);
     kieSession.insert(new ItemType(itemTypeId));
     kieSession.insert(new LoanType(loanTypeId));
@@ -92,22 +150,17 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch loanPolicy(MultiMap params, Location location) {
     log.debug("loanPolicy:: params params: {}, location: {}", params, location);
     final var match = new Match();
     final KieSession kieSession = createSession(params, location, match);
-    final RuleEventListener ruleEventListener = new RuleEventListener();
 
-    kieSession.addEventListener(ruleEventListener);
     kieSession.fireAllRules();
     kieSession.dispose();
 
-    final Set<String> appliedRuleConditions = ruleEventListener.getRuleConditions();
-
-    return new CirculationRuleMatch(match.loanPolicyId, new AppliedRuleConditions(
-      isRuleItemTypePresent(appliedRuleConditions),
-      isRuleLoanTypePresent(appliedRuleConditions),
-      isRulePatronGroupPresent(appliedRuleConditions)));
+    return new CirculationRuleMatch(match.loanPolicyId,
+      ruleConditionsByLine.getOrDefault(match.lineNumber, NO_RULE_CONDITIONS));
   }
 
   /**
@@ -117,6 +170,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a loanPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray loanPolicies(MultiMap params, Location location) {
     log.debug("loanPolicies:: params params: {}, location: {}", params, location);
     final var match = new Match();
@@ -144,6 +198,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch requestPolicy(MultiMap params, Location location) {
     log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -163,6 +218,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a requestPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray requestPolicies(MultiMap params, Location location) {
     log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
 
@@ -192,6 +248,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch noticePolicy(MultiMap params, Location location) {
     log.debug("noticePolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -211,6 +268,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a noticePolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray noticePolicies(MultiMap params, Location location) {
     log.debug("noticePolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -239,6 +297,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch overduePolicy(MultiMap params, Location location) {
     log.debug("overduePolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -258,6 +317,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a overduePolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray overduePolicies(MultiMap params, Location location) {
     log.debug("overduePolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -286,6 +346,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch lostItemPolicy(MultiMap params, Location location) {
     log.debug("lostItemPolicy:: parameters params: {}, location: {}", params, location);
 
@@ -306,6 +367,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a lostItemPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray lostItemPolicies(MultiMap params, Location location) {
     log.debug("lostItemPolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -351,43 +413,33 @@ public class Drools {
     return new Drools("test-tenant-id", droolsFile).requestPolicy(params, location).getPolicyId();
   }
 
-  private boolean isRuleItemTypePresent(Set<String> conditions) {
+  private static boolean isRuleItemTypePresent(Set<String> conditions) {
     return conditions.contains("ItemType");
   }
 
-  private boolean isRuleLoanTypePresent(Set<String> conditions) {
+  private static boolean isRuleLoanTypePresent(Set<String> conditions) {
     return conditions.contains("LoanType");
   }
 
-  private boolean isRulePatronGroupPresent(Set<String> conditions) {
+  private static boolean isRulePatronGroupPresent(Set<String> conditions) {
     return conditions.contains("PatronGroup");
   }
 
-  private static class RuleEventListener extends DefaultAgendaEventListener {
-    private Set<String> ruleConditionElements = Collections.emptySet();
-
-    @Override
-    public void afterMatchFired(AfterMatchFiredEvent event) {
-      RuleImpl rule = (RuleImpl) event.getMatch().getRule();
-
-      if (rule.getLhs() != null && rule.getLhs().getChildren() != null) {
-        log.info("afterMatchFired:: getting rule conditions");
-        ruleConditionElements = rule.getLhs().getChildren().stream()
-          .map(Object::toString)
-          .map(this::getRuleConditionFromStringRuleRepresentation)
-          .collect(Collectors.toSet());
-      }
+  private static Set<String> getRuleConditions(RuleImpl rule) {
+    if (rule.getLhs() == null || rule.getLhs().getChildren() == null) {
+      return Set.of();
     }
 
-    public Set<String> getRuleConditions() {
-      return Collections.unmodifiableSet(ruleConditionElements);
-    }
+    return rule.getLhs().getChildren().stream()
+      .map(Object::toString)
+      .map(Drools::getRuleConditionFromStringRuleRepresentation)
+      .collect(Collectors.toSet());
+  }
 
-    private String getRuleConditionFromStringRuleRepresentation(String stringRepresentation) {
-      int endIndex = stringRepresentation.indexOf(']');
-      int startIndex = stringRepresentation.lastIndexOf('.') + 1;
+  private static String getRuleConditionFromStringRuleRepresentation(String stringRepresentation) {
+    int endIndex = stringRepresentation.indexOf(']');
+    int startIndex = stringRepresentation.lastIndexOf('.') + 1;
 
-      return stringRepresentation.substring(startIndex, endIndex);
-    }
+    return stringRepresentation.substring(startIndex, endIndex);
   }
 }
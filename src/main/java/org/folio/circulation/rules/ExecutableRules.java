@@ -28,47 +28,47 @@ public class ExecutableRules {
 
   @Getter()
   private final String text;
-  private final Drools drools;
+  private final RulesEngine rulesEngine;
 
-  public ExecutableRules(String text, Drools drools) {
+  public ExecutableRules(String text, RulesEngine rulesEngine) {
     this.text = text;
-    this.drools = drools;
+    this.rulesEngine = rulesEngine;
   }
 
   public Result<CirculationRuleMatch> determineLoanPolicy(RulesExecutionParameters parameters) {
     log.debug("determineLoanPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::loanPolicy, "loan policy");
+    return determinePolicy(parameters, rulesEngine::loanPolicy, "loan policy");
   }
 
   public Result<CirculationRuleMatch> determineRequestPolicy(RulesExecutionParameters parameters) {
     log.debug("determineRequestPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::requestPolicy, "request policy");
+    return determinePolicy(parameters, rulesEngine::requestPolicy, "request policy");
   }
 
   public Result<CirculationRuleMatch> determineNoticePolicy(RulesExecutionParameters parameters) {
     log.debug("determineNoticePolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::noticePolicy, "notice policy");
+    return determinePolicy(parameters, rulesEngine::noticePolicy, "notice policy");
   }
 
   public Result<CirculationRuleMatch> determineLostItemPolicy(RulesExecutionParameters parameters) {
     log.debug("determineLostItemPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::lostItemPolicy, "lost item policy");
+    return determinePolicy(parameters, rulesEngine::lostItemPolicy, "lost item policy");
   }
 
   public Result<CirculationRuleMatch> determineOverduePolicy(RulesExecutionParameters parameters) {
     log.debug("determineOverduePolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::overduePolicy, "overdue policy");
+    return determinePolicy(parameters, rulesEngine::overduePolicy, "overdue policy");
   }
 
   private Result<CirculationRuleMatch> determinePolicy(RulesExecutionParameters parameters,
-    BiFunction<MultiMap, Location, CirculationRuleMatch> droolsExecutor, String policyType) {
+    BiFunction<MultiMap, Location, CirculationRuleMatch> rulesEngineExecutor, String policyType) {
 
-    return of(() -> droolsExecutor.apply(parameters.toMap(), parameters.getLocation()))
+    return of(() -> rulesEngineExecutor.apply(parameters.toMap(), parameters.getLocation()))
       .failWhen(this::noMatch, fail(parameters, policyType));
   }
 
@@ -4,8 +4,10 @@ import static java.util.Collections.emptySet;
 import static org.apache.commons.text.StringEscapeUtils.escapeJava;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -90,6 +92,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
       "global Match match\n" +
       "\n");
 
+  private final List<DecisionTable.Rule> rules = new ArrayList<>();
   private final LinkedList<Matcher> stack = new LinkedList<>();
   private final String[] policyTypes = {"l", "r", "n", "o", "i"};
   private final PolicyValidator policyValidator;
@@ -131,8 +134,31 @@ public class Text2Drools extends CirculationRulesBaseListener {
     return getDroolsRepresentation(text, text2drools);
   }
 
+  /**
+   * Compile circulation rules from FOLIO text format into a decision table that
+   * evaluates them without Drools, using the same priorities as the Drools file.
+   * @param text String with a circulation rules file in FOLIO syntax.
+   * @return decision table
+   */
+  public static DecisionTable compile(String text) {
+    log.debug("compile:: parameters text: {}", text);
+    Text2Drools text2drools = new Text2Drools((policyType, policies, token) -> {});
+    walk(text, text2drools);
+
+    return new DecisionTable(text2drools.rules);
+  }
+
   private static String getDroolsRepresentation(String text, Text2Drools text2drools) {
     log.debug("getDroolsRepresentation:: parameters text: {}", text);
+    walk(text, text2drools);
+
+    String droolsRepresentation = text2drools.drools.toString();
+    log.debug("getDroolsRepresentation:: result: {}", droolsRepresentation);
+
+    return droolsRepresentation;
+  }
+
+  private static void walk(String text, Text2Drools text2drools) {
     CharStream input = CharStreams.fromString(text);
     CirculationRulesLexer lexer = new CirculationRulesLexer(input);
     CommonTokenStream tokens = new CommonTokenStream(lexer);
@@ -142,11 +168,6 @@ public class Text2Drools extends CirculationRulesBaseListener {
     CirculationRulesFileContext entryPoint = parser.circulationRulesFile();
     ParseTreeWalker walker = new ParseTreeWalker();
     walker.walk(text2drools, entryPoint);
-
-    String droolsRepresentation = text2drools.drools.toString();
-    log.debug("getDroolsRepresentation:: result: {}", droolsRepresentation);
-
-    return droolsRepresentation;
   }
 
   /**
@@ -340,18 +361,28 @@ public class Text2Drools extends CirculationRulesBaseListener {
     }
 
     int line = policies.getStart().getLine();
+    int salience = getSalience(line);
+    List<DecisionTable.Condition> conditions = new ArrayList<>();
+    Map<String, String> policyIds = new HashMap<>(policyTypes.length);
+
     drools.append("rule \"line ").append(line).append("\"\n");
-    drools.append("  salience ").append(getSalience(line)).append("\n");
+    drools.append("  salience ").append(salience).append("\n");
     drools.append("  when\n");
-    stack.descendingIterator().forEachRemaining(matcher -> drools.append(matcher.drools));
+    stack.descendingIterator().forEachRemaining(matcher -> {
+      drools.append(matcher.drools);
+      conditions.addAll(matcher.conditions);
+    });
     drools.append("  then\n");
 
     for (PolicyContext policy : policies.policy()) {
       drools.append(policyMatchString(policy));
       appendQuotedString(drools, policy.NAME().getText());
       drools.append(";\n");
+      policyIds.put(policy.POLICY_TYPE().toString(), policy.NAME().getText());
     }
 
+    rules.add(new DecisionTable.Rule(line, salience, conditions, policyIds));
+
     drools.append("    match.lineNumber = ").append(line).append(";\n");
     drools.append("    drools.halt();\n");
     drools.append("end\n\n");
@@ -434,6 +465,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
     if (criteriumContext.all() != null) {
       log.debug("addCriterium:: criteriumContext.all() is not null");
       matcher.drools.append("() // all\n");
+      matcher.conditions.add(DecisionTable.Condition.all(criteriumTypeLetter));
       return;
     }
 
@@ -445,6 +477,10 @@ public class Text2Drools extends CirculationRulesBaseListener {
       not = true;
     }
 
+    Set<String> ids = new LinkedHashSet<>();
+    criteriumContext.NAME().forEach(name -> ids.add(name.getText()));
+    matcher.conditions.add(DecisionTable.Condition.of(criteriumTypeLetter, not, ids));
+
     if (criteriumContext.NAME().size() == 1) {
       log.debug("addCriterium:: criteriumContext.NAME().size() is 1");
       matcher.drools.append(not ? "(id != " : "(id == " );
@@ -502,6 +538,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
     Set<String> criteriaUsed = new HashSet<>(4);
     int maxCriteriumPriority;
     StringBuilder drools;
+    List<DecisionTable.Condition> conditions = new ArrayList<>();
 
     public Matcher(int indentation, Set<String> criteriaUsed,
       int maxCriteriumPriority, StringBuilder drools) {
@@ -0,0 +1,53 @@
+package org.folio.circulation.rules.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number and duration of the circulation rules builds since the module started.
+ */
+public class BuildStatistics {
+  private final AtomicLong builds = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong totalDurationMillis = new AtomicLong();
+  private final AtomicLong maxDurationMillis = new AtomicLong();
+  private final AtomicLong lastDurationMillis = new AtomicLong();
+
+  void recordBuild(long durationMillis, boolean succeeded) {
+    builds.incrementAndGet();
+    if (!succeeded) {
+      failures.incrementAndGet();
+    }
+    totalDurationMillis.addAndGet(durationMillis);
+    maxDurationMillis.accumulateAndGet(durationMillis, Math::max);
+    lastDurationMillis.set(durationMillis);
+  }
+
+  public long getBuilds() {
+    return builds.get();
+  }
+
+  public long getFailures() {
+    return failures.get();
+  }
+
+  public long getMaxDurationMillis() {
+    return maxDurationMillis.get();
+  }
+
+  public long getLastDurationMillis() {
+    return lastDurationMillis.get();
+  }
+
+  public long getAverageDurationMillis() {
+    final long buildCount = getBuilds();
+
+    return buildCount == 0 ? 0 : totalDurationMillis.get() / buildCount;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("builds: %d, failures: %d, last: %d ms, average: %d ms, max: %d ms",
+      getBuilds(), getFailures(), getLastDurationMillis(), getAverageDurationMillis(),
+      getMaxDurationMillis());
+  }
+}
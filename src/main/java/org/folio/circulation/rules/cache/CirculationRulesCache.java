@@ -1,35 +1,57 @@
 package org.folio.circulation.rules.cache;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.folio.Environment.getCirculationRulesCompilationPoolSize;
+import static org.folio.Environment.getDecisionTableRulesEngineTenants;
+import static org.folio.circulation.support.async.CirculationExecutors.continueOnCurrentContext;
 import static org.folio.circulation.support.results.Result.failed;
-import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.results.Result.ofAsync;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.events.DomainEvent;
 import org.folio.circulation.domain.events.EntityChangedEventData;
+import org.folio.circulation.rules.DecisionTable;
 import org.folio.circulation.rules.Drools;
-import org.folio.circulation.rules.ExecutableRules;
+import org.folio.circulation.rules.RulesEngine;
 import org.folio.circulation.rules.Text2Drools;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.cache.SingleFlight;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
+import lombok.Getter;
 
 public final class CirculationRulesCache {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
+  private static final String PREWARM_RULES = String.join("\n",
+    "priority: t, s, c, b, a, m, g",
+    "fallback-policy: l prewarm r prewarm n prewarm o prewarm i prewarm",
+    "m prewarm + g prewarm: l prewarm r prewarm n prewarm o prewarm i prewarm");
+
   private static final CirculationRulesCache instance = new CirculationRulesCache();
   /** rules and Drools for each tenantId */
   private final Map<String, Rules> rulesMap = new ConcurrentHashMap<>();
+  /** loads of the rules of a tenant that is not cached yet, concurrent cache misses share them */
+  private final SingleFlight<String, Result<Rules>> pendingLoads = new SingleFlight<>();
+  /** compiling large rules takes seconds, this keeps it off the event loop threads */
+  private final ExecutorService compilationExecutor = createCompilationExecutor();
+  @Getter
+  private final BuildStatistics buildStatistics = new BuildStatistics();
 
   public static CirculationRulesCache getInstance() {
     return instance;
@@ -41,14 +63,37 @@ public final class CirculationRulesCache {
     rulesMap.clear();
   }
 
+  /**
+   * Drops the policies matched for the tenant, or for all tenants when the tenant
+   * is not known, e.g. after the institution, campus or library of a location changed
+   */
+  public void dropPolicyMatches(String tenantId) {
+    log.info("dropPolicyMatches:: parameters tenantId: {}", tenantId);
+
+    if (tenantId == null) {
+      rulesMap.values().forEach(rules -> rules.getPolicyMatchCache().invalidateAll());
+    } else {
+      Optional.ofNullable(rulesMap.get(tenantId))
+        .ifPresent(rules -> rules.getPolicyMatchCache().invalidateAll());
+    }
+  }
+
   public CompletableFuture<Result<Drools>> reloadRules(String tenantId,
     CollectionResourceClient circulationRulesClient) {
 
-    log.info("reloadRules:: reloading rules for tenant {}", tenantId);
+    return loadRules(tenantId, circulationRulesClient)
+      .thenApply(r -> r.map(Rules::getDrools));
+  }
+
+  private CompletableFuture<Result<Rules>> loadRules(String tenantId,
+    CollectionResourceClient circulationRulesClient) {
+
+    log.info("loadRules:: reloading rules for tenant {}", tenantId);
+    final long timestamp = System.currentTimeMillis();
 
     return circulationRulesClient.get()
       .thenApply(r -> r.map(response -> getRulesAsText(response, tenantId)))
-      .thenApply(r -> r.next(rulesAsText -> buildRules(tenantId, rulesAsText)));
+      .thenCompose(r -> r.after(rulesAsText -> build(tenantId, rulesAsText, timestamp)));
   }
 
   private static String getRulesAsText(Response response, String tenantId) {
@@ -59,34 +104,102 @@ public final class CirculationRulesCache {
     return circulationRules.getString("rulesAsText");
   }
 
-  public Result<Drools> buildRules(String tenantId, String rulesAsText) {
+  public CompletableFuture<Result<Drools>> buildRules(String tenantId, String rulesAsText) {
+    return build(tenantId, rulesAsText, System.currentTimeMillis())
+      .thenApply(r -> r.map(Rules::getDrools));
+  }
+
+  /**
+   * Compiles the rules on the compilation executor, the cached rules of the tenant
+   * keep being used until the new ones are ready. The returned future completes
+   * on the Vert.x context of the caller.
+   *
+   * @param timestamp when the rules have been requested, rules that have been
+   * requested earlier never replace them in the cache
+   */
+  private CompletableFuture<Result<Rules>> build(String tenantId, String rulesAsText,
+    long timestamp) {
+
     log.info("buildRules:: building rules for tenant {}", tenantId);
     log.debug("buildRules:: rules={}", rulesAsText);
 
     if (isBlank(rulesAsText)) {
       log.warn("buildRules:: rules are blank for tenant {}", tenantId);
-      return failed(new ServerErrorFailure("Cannot apply blank circulation rules"));
+      return completedFuture(failed(new ServerErrorFailure("Cannot apply blank circulation rules")));
     }
 
-    String droolsText = Text2Drools.convert(rulesAsText);
-    Drools drools = new Drools(tenantId, droolsText);
-    log.info("buildRules:: done building Drools for tenant {}", tenantId);
-    log.debug("buildRules:: Drools as text: {}", droolsText);
+    return continueOnCurrentContext(
+        supplyAsync(() -> compile(tenantId, rulesAsText, timestamp), compilationExecutor))
+      .thenApply(r -> r.map(rules -> swapIn(tenantId, rules)));
+  }
+
+  private Result<Rules> compile(String tenantId, String rulesAsText, long timestamp) {
+    final long start = System.currentTimeMillis();
 
-    long timestamp = System.currentTimeMillis();
-    log.debug("buildRules:: timestamp={}", timestamp);
-    Rules rules = new Rules(rulesAsText, droolsText, drools, timestamp);
-    rulesMap.put(tenantId, rules);
+    final Result<Rules> result = Result.of(() -> {
+      String droolsText = Text2Drools.convert(rulesAsText);
+      Drools drools = new Drools(tenantId, droolsText);
+      log.info("buildRules:: done building Drools for tenant {}", tenantId);
+      log.debug("buildRules:: Drools as text: {}", droolsText);
 
-    return succeeded(drools);
+      DecisionTable decisionTable = null;
+      if (isDecisionTableEnabled(tenantId)) {
+        decisionTable = Text2Drools.compile(rulesAsText);
+        log.info("buildRules:: done building decision table for tenant {}", tenantId);
+      }
+
+      log.debug("buildRules:: timestamp={}", timestamp);
+      return new Rules(rulesAsText, droolsText, drools, decisionTable, timestamp);
+    });
+
+    final long duration = System.currentTimeMillis() - start;
+    buildStatistics.recordBuild(duration, result.succeeded());
+    log.info("buildRules:: building rules for tenant {} took {} ms, succeeded: {}, {}",
+      tenantId, duration, result.succeeded(), buildStatistics);
+
+    return result;
   }
 
-  public CompletableFuture<Result<ExecutableRules>> getExecutableRules(String tenantId,
-    CollectionResourceClient circulationRulesClient) {
+  private Rules swapIn(String tenantId, Rules rules) {
+    final Rules previousRules = rulesMap.get(tenantId);
+    final Rules cachedRules = rulesMap.merge(tenantId, rules,
+      (previous, built) -> built.getReloadTimestamp() >= previous.getReloadTimestamp()
+        ? built : previous);
+
+    if (cachedRules != rules) {
+      log.info("swapIn:: rules for tenant {} requested at {} are outdated, keeping rules of {}",
+        tenantId, rules.getReloadTimestamp(), cachedRules.getReloadTimestamp());
+    } else if (previousRules != null) {
+      log.info("swapIn:: dropped {} policy matches of previous rules for tenant {}, {}",
+        previousRules.getPolicyMatchCache().size(), tenantId,
+        previousRules.getPolicyMatchCache().getStatistics());
+    }
+
+    return rules;
+  }
+
+  /**
+   * Compiles sample rules so that the first build for a tenant does not pay for
+   * the initialisation of the rules compilers. The sample rules are disposed of
+   * once they are compiled.
+   */
+  public CompletableFuture<Void> prewarm() {
+    log.info("prewarm:: compiling sample circulation rules");
+
+    return supplyAsync(() -> compile("prewarm", PREWARM_RULES, System.currentTimeMillis()),
+        compilationExecutor)
+      .thenAccept(r -> r.applySideEffect(
+        rules -> {
+          rules.getDrools().dispose();
+          log.info("prewarm:: done");
+        },
+        failure -> log.warn("prewarm:: failed: {}", failure)));
+  }
+
+  private static boolean isDecisionTableEnabled(String tenantId) {
+    final var tenants = getDecisionTableRulesEngineTenants();
 
-    return getDrools(tenantId, circulationRulesClient)
-      .thenApply(r -> r.map(drools ->
-        new ExecutableRules(rulesMap.get(tenantId).getRulesAsText(), drools)));
+    return tenants.contains("*") || tenants.contains(tenantId);
   }
 
   public CompletableFuture<Result<Drools>> getDrools(String tenantId,
@@ -94,13 +207,31 @@ public final class CirculationRulesCache {
 
     log.info("getDrools:: getting Drools for tenant {}", tenantId);
 
+    return getOrLoadRules(tenantId, circulationRulesClient)
+      .thenApply(r -> r.map(Rules::getDrools));
+  }
+
+  public CompletableFuture<Result<RulesEngine>> getRulesEngine(String tenantId,
+    CollectionResourceClient circulationRulesClient) {
+
+    log.info("getRulesEngine:: getting rules engine for tenant {}", tenantId);
+
+    return getOrLoadRules(tenantId, circulationRulesClient)
+      .thenApply(r -> r.map(Rules::getRulesEngine));
+  }
+
+  public CompletableFuture<Result<Rules>> getOrLoadRules(String tenantId,
+    CollectionResourceClient circulationRulesClient) {
+
     return Optional.ofNullable(getRules(tenantId))
-      .map(Rules::getDrools)
       .map(Result::ofAsync)
-      .orElseGet(() -> reloadRules(tenantId, circulationRulesClient));
+      .orElseGet(() -> pendingLoads.execute(tenantId,
+        () -> loadRules(tenantId, circulationRulesClient)));
   }
 
-  public void handleRulesUpdateEvent(DomainEvent<EntityChangedEventData> event) {
+  public CompletableFuture<Result<Rules>> handleRulesUpdateEvent(
+    DomainEvent<EntityChangedEventData> event) {
+
     log.debug("handleRulesUpdateEvent:: event={}", () -> event);
 
     final String tenantId = event.tenantId();
@@ -112,7 +243,7 @@ public final class CirculationRulesCache {
       // if cache is empty, rules are downloaded from storage anyway when they are first requested
       log.info("handleRulesUpdateEvent:: no cached rules for tenant {}, ignoring event {}",
         tenantId, event.id());
-      return;
+      return ofAsync(cachedRules);
     }
 
     final long eventTimestamp = event.timestamp();
@@ -120,10 +251,21 @@ public final class CirculationRulesCache {
     if (eventTimestamp < cacheTimestamp) {
       log.info("handleRulesUpdateEvent:: ignoring event {}: event timestamp is {}, " +
           "cache timestamp is {}", event.id(), eventTimestamp, cacheTimestamp);
-      return;
+      return ofAsync(cachedRules);
     }
 
-    buildRules(tenantId, event.data().newVersion().getString("rulesAsText"));
+    return build(tenantId, event.data().newVersion().getString("rulesAsText"), eventTimestamp);
+  }
+
+  private static ExecutorService createCompilationExecutor() {
+    final AtomicInteger threadCount = new AtomicInteger();
+
+    return Executors.newFixedThreadPool(getCirculationRulesCompilationPoolSize(), runnable -> {
+      final Thread thread = new Thread(runnable,
+        "circulation-rules-compiler-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
   }
 
   public Rules getRules(String tenantId) {
@@ -0,0 +1,94 @@
+package org.folio.circulation.rules.cache;
+
+import java.util.Optional;
+
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.RulesExecutionParameters;
+import org.folio.circulation.support.cache.ExpiringCache;
+import org.folio.circulation.support.cache.ExpiringCacheStatistics;
+
+/**
+ * Bounded least recently used memo of the policies matched for a single version
+ * of the circulation rules of a tenant.
+ * <p>
+ * A match only depends on item type, loan type, patron group and location (the
+ * institution, campus and library are derived from the location), so these are
+ * the key. The memo belongs to {@link Rules} and is replaced with it when the
+ * rules are reloaded. As the institution, campus or library of a location can
+ * change, matches expire no later than the cached reference data does, and are
+ * dropped when inventory publishes a change to any of them.
+ */
+public class PolicyMatchCache {
+  private final ExpiringCache<Key, CirculationRuleMatch> matches;
+
+  public PolicyMatchCache(int maximumSize, long timeToLiveMillis) {
+    this(new ExpiringCache<>(maximumSize, timeToLiveMillis));
+  }
+
+  PolicyMatchCache(ExpiringCache<Key, CirculationRuleMatch> matches) {
+    this.matches = matches;
+  }
+
+  public Optional<CirculationRuleMatch> get(String policyType,
+    RulesExecutionParameters parameters) {
+
+    if (!isMemoizable(parameters)) {
+      return Optional.empty();
+    }
+
+    return matches.get(Key.of(policyType, parameters));
+  }
+
+  /**
+   * Remembers the match when the rules have been executed with the complete location
+   * identified by the location ID of the parameters.
+   */
+  public void put(String policyType, RulesExecutionParameters parameters,
+    CirculationRuleMatch match) {
+
+    if (!matches.isEnabled() || !isCompleteLocation(parameters.getLocation())
+      || !parameters.getLocation().getId().equals(parameters.getLocationId())) {
+
+      return;
+    }
+
+    matches.put(Key.of(policyType, parameters), match);
+  }
+
+  public void invalidateAll() {
+    matches.invalidateIf(key -> true);
+  }
+
+  public int size() {
+    return matches.size();
+  }
+
+  public ExpiringCacheStatistics getStatistics() {
+    return matches.getStatistics();
+  }
+
+  private boolean isMemoizable(RulesExecutionParameters parameters) {
+    final Location location = parameters.getLocation();
+
+    return matches.isEnabled() && parameters.getLocationId() != null
+      && (location == null || isCompleteLocation(location)
+        && location.getId().equals(parameters.getLocationId()));
+  }
+
+  private static boolean isCompleteLocation(Location location) {
+    return location != null && location.getId() != null
+      && location.getInstitutionId() != null
+      && location.getCampusId() != null
+      && location.getLibraryId() != null;
+  }
+
+  record Key(String policyType, String materialTypeId, String loanTypeId,
+    String patronGroupId, String locationId) {
+
+    static Key of(String policyType, RulesExecutionParameters parameters) {
+      return new Key(policyType, parameters.getMaterialTypeId(), parameters.getLoanTypeId(),
+        parameters.getPatronGroupId(), parameters.getLocationId());
+    }
+  }
+}
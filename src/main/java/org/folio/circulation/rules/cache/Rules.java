@@ -1,6 +1,12 @@
 package org.folio.circulation.rules.cache;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.folio.Environment.getCirculationRulesMatchCacheSize;
+import static org.folio.Environment.getReferenceDataCacheTimeToLiveSeconds;
+
+import org.folio.circulation.rules.DecisionTable;
 import org.folio.circulation.rules.Drools;
+import org.folio.circulation.rules.RulesEngine;
 
 import lombok.Getter;
 import lombok.AllArgsConstructor;
@@ -11,13 +17,27 @@ public class Rules {
   private final String rulesAsText;
   private final String rulesAsDrools;
   private final Drools drools;
+  /** null unless the decision table engine is enabled for the tenant */
+  private final DecisionTable decisionTable;
   /** System.currentTimeMillis() of the last load/reload of the rules from the storage */
   private final long reloadTimestamp;
+  /** matches found with this version of the rules */
+  private final PolicyMatchCache policyMatchCache = new PolicyMatchCache(
+    getCirculationRulesMatchCacheSize(),
+    SECONDS.toMillis(getReferenceDataCacheTimeToLiveSeconds()));
 
   public Rules() {
     rulesAsText = "";
     rulesAsDrools = "";
     drools = null;
+    decisionTable = null;
     reloadTimestamp = 0;
   }
+
+  /**
+   * @return the decision table when it is enabled for the tenant, Drools otherwise
+   */
+  public RulesEngine getRulesEngine() {
+    return decisionTable != null ? decisionTable : drools;
+  }
 }
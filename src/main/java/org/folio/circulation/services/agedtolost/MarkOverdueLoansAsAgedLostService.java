@@ -1,17 +1,19 @@
 package org.folio.circulation.services.agedtolost;
 
+import static org.folio.Environment.getBatchProcessingParallelism;
 import static org.folio.circulation.domain.ItemStatus.AGED_TO_LOST;
 import static org.folio.circulation.domain.ItemStatus.CLAIMED_RETURNED;
 import static org.folio.circulation.domain.ItemStatus.DECLARED_LOST;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
-import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.lessThan;
 import static org.folio.circulation.support.http.client.CqlQuery.notEqual;
 import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -51,7 +53,7 @@ public class MarkOverdueLoansAsAgedLostService {
     this.lostItemPolicyRepository = new LostItemPolicyRepository(clients);
     this.storeLoanAndItem = new StoreLoanAndItem(loanRepository, itemRepository);
     this.eventPublisher = new EventPublisher(clients);
-    this.loanPageableFetcher = new PageableFetcher<>(loanRepository);
+    this.loanPageableFetcher = PageableFetcher.byId(loanRepository, Loan::getId);
     this.loanScheduledNoticeService = LoanScheduledNoticeService.using(clients);
     this.userRepository = new UserRepository(clients);
   }
@@ -82,7 +84,8 @@ public class MarkOverdueLoansAsAgedLostService {
   private CompletableFuture<Result<List<Loan>>> publishAgedToLostEvents(
     Result<List<Loan>> allLoansResult) {
 
-    return allLoansResult.after(allLoans -> allOf(allLoans, eventPublisher::publishAgedToLostEvents))
+    return allLoansResult.after(allLoans -> allOf(allLoans,
+      eventPublisher::publishAgedToLostEvents, getBatchProcessingParallelism()))
       .thenApply(r -> r.next(ignored -> allLoansResult));
   }
 
@@ -112,7 +115,29 @@ public class MarkOverdueLoansAsAgedLostService {
 
     return loanRecordsResult
       .map(MultipleRecords::getRecords)
-      .after(loans -> allOf(loans, storeLoanAndItem::updateLoanAndItemInStorage));
+      .map(ArrayList::new)
+      .after(loans -> storeLoanAndItem.updateLoansAndItemsInStorage(loans)
+        .thenApply(loanResults -> succeeded(loansThatHaveBeenStored(loans, loanResults))));
+  }
+
+  private List<Loan> loansThatHaveBeenStored(List<Loan> loans, List<Result<Loan>> loanResults) {
+    final List<Loan> storedLoans = new ArrayList<>();
+
+    for (int index = 0; index < loans.size(); index++) {
+      final Result<Loan> loanResult = loanResults.get(index);
+
+      if (loanResult.succeeded()) {
+        storedLoans.add(loans.get(index));
+      } else {
+        log.warn("updateLoansAndItemsInStorage:: failed to age loan {} to lost: {}",
+          loans.get(index).getId(), loanResult.cause());
+      }
+    }
+
+    log.info("updateLoansAndItemsInStorage:: {} out of {} loans have been aged to lost",
+      storedLoans.size(), loans.size());
+
+    return storedLoans;
   }
 
   private Result<MultipleRecords<Loan>> getLoansThatHaveToBeAgedToLost(
@@ -148,8 +173,7 @@ public class MarkOverdueLoansAsAgedLostService {
     return statusQuery.combine(dueDateQuery, CqlQuery::and)
       .combine(claimedReturnedQuery, CqlQuery::and)
       .combine(agedToLostQuery, CqlQuery::and)
-      .combine(declaredLostQuery, CqlQuery::and)
-      .map(query -> query.sortBy(ascending("dueDate")));
+      .combine(declaredLostQuery, CqlQuery::and);
   }
 
   private CompletableFuture<Result<Void>> scheduleAgedToLostNotices(Result<List<Loan>> result) {
@@ -34,10 +34,17 @@ public class CirculationRulesUpdateEventHandler implements AsyncRecordHandler<St
         return succeededFuture(eventKey);
       }
       validate(event);
-      CirculationRulesCache.getInstance().handleRulesUpdateEvent(event);
 
-      log.info("handle:: circulation rules update event processed: {}", eventKey);
-      return succeededFuture(eventKey);
+      return Future.fromCompletionStage(CirculationRulesCache.getInstance()
+          .handleRulesUpdateEvent(event))
+        .map(result -> {
+          if (result.failed()) {
+            log.warn("handle:: failed to apply circulation rules from event {}: {}",
+              eventKey, result.cause());
+          }
+          log.info("handle:: circulation rules update event processed: {}", eventKey);
+          return eventKey;
+        });
     } catch (Exception e) {
       log.error("handle:: failed to process circulation rules update event", e);
       return failedFuture(e);
@@ -0,0 +1,62 @@
+package org.folio.circulation.services.events;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Optional;
+
+import org.folio.circulation.infrastructure.storage.inventory.ReferenceDataCache;
+import org.folio.circulation.infrastructure.storage.inventory.ReferenceDataCache.ReferenceDataType;
+import org.folio.circulation.rules.cache.CirculationRulesCache;
+import org.folio.kafka.AsyncRecordHandler;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.kafka.client.consumer.KafkaConsumerRecord;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Invalidates cached locations, libraries, campuses and institutions when
+ * inventory storage publishes that they have been created, updated or deleted,
+ * and the policies matched using them.
+ */
+@Log4j2
+public class ReferenceDataChangedEventHandler implements AsyncRecordHandler<String, String> {
+  private static final String DELETE_ALL = "DELETE_ALL";
+
+  private final ReferenceDataType referenceDataType;
+
+  public ReferenceDataChangedEventHandler(ReferenceDataType referenceDataType) {
+    this.referenceDataType = referenceDataType;
+  }
+
+  @Override
+  public Future<String> handle(KafkaConsumerRecord<String, String> consumerRecord) {
+    try {
+      final String eventKey = consumerRecord.key();
+      log.info("handle:: {} event received: key={}", referenceDataType, eventKey);
+      log.debug("handle:: value={}", consumerRecord::value);
+
+      final JsonObject event = new JsonObject(consumerRecord.value());
+      final String recordId = DELETE_ALL.equals(event.getString("type"))
+        ? null
+        : getRecordId(event).orElse(eventKey);
+
+      final String tenantId = event.getString("tenant");
+
+      ReferenceDataCache.getInstance().invalidate(referenceDataType, tenantId, recordId);
+      CirculationRulesCache.getInstance().dropPolicyMatches(tenantId);
+
+      return succeededFuture(eventKey);
+    } catch (Exception e) {
+      log.error("handle:: failed to process {} event", referenceDataType, e);
+      return failedFuture(e);
+    }
+  }
+
+  private static Optional<String> getRecordId(JsonObject event) {
+    return Optional.ofNullable(event.getJsonObject("new"))
+      .or(() -> Optional.ofNullable(event.getJsonObject("old")))
+      .map(representation -> representation.getString("id"));
+  }
+}
@@ -0,0 +1,27 @@
+package org.folio.circulation.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class ItemBatch {
+  private final List<JsonObject> items;
+
+  public ItemBatch(Collection<JsonObject> items) {
+    this.items = new ArrayList<>(items);
+  }
+
+  public List<JsonObject> getItems() {
+    return items;
+  }
+
+  public JsonObject toJson() {
+    JsonObject itemBatchAsJson = new JsonObject();
+    itemBatchAsJson.put("items", new JsonArray(new ArrayList<>(getItems())));
+
+    return itemBatchAsJson;
+  }
+}
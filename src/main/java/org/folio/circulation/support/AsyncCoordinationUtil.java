@@ -1,9 +1,12 @@
 package org.folio.circulation.support;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.succeeded;
 
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -14,9 +17,12 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.folio.circulation.support.results.Result;
 
 public class AsyncCoordinationUtil {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   private AsyncCoordinationUtil() {
     throw new UnsupportedOperationException();
@@ -48,6 +54,35 @@ public class AsyncCoordinationUtil {
       .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
   }
 
+  /**
+   * Applies {@code asyncAction} to all the elements in {@code collection}
+   * with at most {@code maximumInFlight} actions in progress at once,
+   * and combines results to list
+   */
+  public static <T, R> CompletableFuture<Result<List<R>>> allOf(
+    Collection<T> collection, Function<T, CompletableFuture<Result<R>>> asyncAction,
+    int maximumInFlight) {
+
+    return allResultsOf(collection, asyncAction, maximumInFlight)
+      .thenApply(Result::combineAll);
+  }
+
+  /**
+   * Applies {@code asyncAction} to all the elements in {@code collection}
+   * with at most {@code maximumInFlight} actions in progress at once. The next
+   * element is started as soon as any of the actions in progress completes.
+   * <p>
+   * Results are in the order of the collection. An action that throws or
+   * completes exceptionally only fails its own result.
+   */
+  public static <T, R> CompletableFuture<List<Result<R>>> allResultsOf(
+    Collection<T> collection, Function<T, CompletableFuture<Result<R>>> asyncAction,
+    int maximumInFlight) {
+
+    return new BoundedExecution<>(new ArrayList<>(collection), asyncAction,
+      Math.max(1, maximumInFlight)).start();
+  }
+
   /**
    * Applies BiFunction {@code asyncAction} to all key-value pairs in {@code map}
    * and combines results to list
@@ -113,4 +148,108 @@ public class AsyncCoordinationUtil {
 
     return future.thenApply(r -> r.map(ignored -> results));
   }
+
+  private static final class BoundedExecution<T, R> {
+    private final List<T> elements;
+    private final Function<T, CompletableFuture<Result<R>>> asyncAction;
+    private final int maximumInFlight;
+    private final Result<R>[] results;
+    private final CompletableFuture<List<Result<R>>> completed = new CompletableFuture<>();
+    private long startTime;
+    private int nextElement;
+    private int inFlight;
+    private int completedActions;
+    private boolean starting;
+
+    @SuppressWarnings("unchecked")
+    private BoundedExecution(List<T> elements,
+      Function<T, CompletableFuture<Result<R>>> asyncAction, int maximumInFlight) {
+
+      this.elements = elements;
+      this.asyncAction = asyncAction;
+      this.maximumInFlight = maximumInFlight;
+      this.results = new Result[elements.size()];
+    }
+
+    private CompletableFuture<List<Result<R>>> start() {
+      if (elements.isEmpty()) {
+        return completedFuture(List.of());
+      }
+
+      log.debug("start:: {} actions, at most {} in progress, {} waiting", elements.size(),
+        maximumInFlight, Math.max(0, elements.size() - maximumInFlight));
+
+      startTime = System.currentTimeMillis();
+      startActions();
+
+      return completed;
+    }
+
+    /**
+     * Starts actions until the window is full. Actions completing while
+     * others are being started are picked up by the same loop, so the stack
+     * does not grow with the number of elements.
+     */
+    private void startActions() {
+      synchronized (this) {
+        if (starting) {
+          return;
+        }
+
+        starting = true;
+      }
+
+      while (true) {
+        final int element;
+
+        synchronized (this) {
+          if (inFlight >= maximumInFlight || nextElement >= elements.size()) {
+            starting = false;
+            return;
+          }
+
+          element = nextElement++;
+          inFlight++;
+        }
+
+        startAction(element);
+      }
+    }
+
+    private void startAction(int element) {
+      CompletableFuture<Result<R>> action;
+
+      try {
+        action = asyncAction.apply(elements.get(element));
+      } catch (Exception e) {
+        action = completedFuture(failed(new ServerErrorFailure(e)));
+      }
+
+      action.whenComplete((result, throwable) -> actionCompleted(element,
+        throwable == null ? result : failed(new ServerErrorFailure(throwable))));
+    }
+
+    private void actionCompleted(int element, Result<R> result) {
+      final boolean allCompleted;
+
+      synchronized (this) {
+        results[element] = result;
+        inFlight--;
+        completedActions++;
+        allCompleted = completedActions == elements.size();
+      }
+
+      if (allCompleted) {
+        final long duration = System.currentTimeMillis() - startTime;
+
+        log.info("actionCompleted:: {} actions completed in {} ms ({} per second), "
+          + "at most {} in progress", elements.size(), duration,
+          duration == 0 ? elements.size() : elements.size() * 1000L / duration, maximumInFlight);
+
+        completed.complete(Arrays.asList(results));
+      } else {
+        startActions();
+      }
+    }
+  }
 }
@@ -12,399 +12,427 @@ import org.folio.circulation.support.http.server.WebContext;
 import io.vertx.core.http.HttpClient;
 
 public class Clients {
-  private final CollectionResourceClient requestsStorageClient;
-  private final CollectionResourceClient requestsBatchStorageClient;
-  private final CollectionResourceClient cancellationReasonStorageClient;
-  private final CollectionResourceClient itemsStorageClient;
-  private final CollectionResourceClient holdingsStorageClient;
-  private final CollectionResourceClient instancesStorageClient;
-  private final CollectionResourceClient identifierTypesStorageClient;
-  private final CollectionResourceClient usersStorageClient;
-  private final CollectionResourceClient addressTypesStorageClient;
-  private final CollectionResourceClient loansStorageClient;
-  private final CollectionResourceClient loansHistoryStorageClient;
-  private final CollectionResourceClient locationsStorageClient;
-  private final CollectionResourceClient institutionsStorageClient;
-  private final CollectionResourceClient campusesStorageClient;
-  private final CollectionResourceClient librariesStorageClient;
-  private final CollectionResourceClient materialTypesStorageClient;
-  private final CollectionResourceClient loanTypesStorageClient;
-  private final GetManyRecordsClient proxiesForClient;
-  private final CollectionResourceClient loanPoliciesStorageClient;
-  private final CollectionResourceClient overdueFinesPoliciesPoliciesStorageClient;
-  private final CollectionResourceClient lostItemPoliciesStorageClient;
-  private final GetManyRecordsClient fixedDueDateSchedulesStorageClient;
-  private final CirculationRulesClient circulationLoanRulesClient;
-  private final CirculationRulesClient circulationOverdueFinesRulesClient;
-  private final CirculationRulesClient circulationLostItemRulesClient;
-  private final CirculationRulesClient circulationRequestRulesClient;
-  private final CirculationRulesClient circulationNoticeRulesClient;
-  private final CollectionResourceClient circulationRulesStorageClient;
-  private final CollectionResourceClient requestPoliciesStorageClient;
-  private final CollectionResourceClient servicePointsStorageClient;
-  private final CollectionResourceClient routingServicePointsStorageClient;
-  private final CollectionResourceClient calendarStorageClient;
-  private final CollectionResourceClient patronGroupsStorageClient;
-  private final CollectionResourceClient patronNoticePolicesStorageClient;
-  private final CollectionResourceClient patronNoticeClient;
-  private final GetManyRecordsClient configurationStorageClient;
-  private final CollectionResourceClient scheduledNoticesStorageClient;
-  private final CollectionResourceClient accountsStorageClient;
-  private final CollectionResourceClient feeFineActionsStorageClient;
-  private final CollectionResourceClient feeFineOwnerStorageClient;
-  private final CollectionResourceClient feeFineStorageClient;
-  private final CollectionResourceClient anonymizeStorageLoansClient;
-  private final CollectionResourceClient patronActionSessionsStorageClient;
-  private final CollectionResourceClient patronExpiredSessionsStorageClient;
-  private final GetManyRecordsClient userManualBlocksStorageClient;
-  private final CollectionResourceClient noticeTemplatesClient;
-  private final CollectionResourceClient checkInStorageClient;
-  private final CollectionResourceClient automatedPatronBlocksClient;
-  private final CollectionResourceClient notesClient;
-  private final CollectionResourceClient noteTypesClient;
-  private final PubSubPublishingService pubSubPublishingService;
-  private final CirculationRulesProcessor circulationRulesProcessor;
-  private final CollectionResourceClient accountsRefundClient;
-  private final CollectionResourceClient accountsCancelClient;
-  private final CollectionResourceClient actualCostRecordsStorageClient;
-  private final CollectionResourceClient actualCostFeeFineCancelClient;
-  private final CollectionResourceClient departmentClient;
-  private final CollectionResourceClient checkOutLockStorageClient;
-  private final CollectionResourceClient circulationItemClient;
-  private final CollectionResourceClient searchClient;
-  private final GetManyRecordsClient settingsStorageClient;
-  private final CollectionResourceClient circulationSettingsStorageClient;
-  private final CollectionResourceClient printEventsStorageClient;
+  private final String tenantId;
+  private final String okapiLocation;
+  private final Lazy<CollectionResourceClient> requestsStorageClient;
+  private final Lazy<CollectionResourceClient> requestsBatchStorageClient;
+  private final Lazy<CollectionResourceClient> cancellationReasonStorageClient;
+  private final Lazy<CollectionResourceClient> itemsStorageClient;
+  private final Lazy<CollectionResourceClient> itemsBatchStorageClient;
+  private final Lazy<CollectionResourceClient> holdingsStorageClient;
+  private final Lazy<CollectionResourceClient> instancesStorageClient;
+  private final Lazy<CollectionResourceClient> identifierTypesStorageClient;
+  private final Lazy<CollectionResourceClient> usersStorageClient;
+  private final Lazy<CollectionResourceClient> addressTypesStorageClient;
+  private final Lazy<CollectionResourceClient> loansStorageClient;
+  private final Lazy<CollectionResourceClient> loansHistoryStorageClient;
+  private final Lazy<CollectionResourceClient> locationsStorageClient;
+  private final Lazy<CollectionResourceClient> institutionsStorageClient;
+  private final Lazy<CollectionResourceClient> campusesStorageClient;
+  private final Lazy<CollectionResourceClient> librariesStorageClient;
+  private final Lazy<CollectionResourceClient> materialTypesStorageClient;
+  private final Lazy<CollectionResourceClient> loanTypesStorageClient;
+  private final Lazy<GetManyRecordsClient> proxiesForClient;
+  private final Lazy<CollectionResourceClient> loanPoliciesStorageClient;
+  private final Lazy<CollectionResourceClient> overdueFinesPoliciesPoliciesStorageClient;
+  private final Lazy<CollectionResourceClient> lostItemPoliciesStorageClient;
+  private final Lazy<GetManyRecordsClient> fixedDueDateSchedulesStorageClient;
+  private final Lazy<CirculationRulesClient> circulationLoanRulesClient;
+  private final Lazy<CirculationRulesClient> circulationOverdueFinesRulesClient;
+  private final Lazy<CirculationRulesClient> circulationLostItemRulesClient;
+  private final Lazy<CirculationRulesClient> circulationRequestRulesClient;
+  private final Lazy<CirculationRulesClient> circulationNoticeRulesClient;
+  private final Lazy<CollectionResourceClient> circulationRulesStorageClient;
+  private final Lazy<CollectionResourceClient> requestPoliciesStorageClient;
+  private final Lazy<CollectionResourceClient> servicePointsStorageClient;
+  private final Lazy<CollectionResourceClient> routingServicePointsStorageClient;
+  private final Lazy<CollectionResourceClient> calendarStorageClient;
+  private final Lazy<CollectionResourceClient> patronGroupsStorageClient;
+  private final Lazy<CollectionResourceClient> patronNoticePolicesStorageClient;
+  private final Lazy<CollectionResourceClient> patronNoticeClient;
+  private final Lazy<GetManyRecordsClient> configurationStorageClient;
+  private final Lazy<CollectionResourceClient> scheduledNoticesStorageClient;
+  private final Lazy<CollectionResourceClient> accountsStorageClient;
+  private final Lazy<CollectionResourceClient> feeFineActionsStorageClient;
+  private final Lazy<CollectionResourceClient> feeFineOwnerStorageClient;
+  private final Lazy<CollectionResourceClient> feeFineStorageClient;
+  private final Lazy<CollectionResourceClient> anonymizeStorageLoansClient;
+  private final Lazy<CollectionResourceClient> patronActionSessionsStorageClient;
+  private final Lazy<CollectionResourceClient> patronExpiredSessionsStorageClient;
+  private final Lazy<GetManyRecordsClient> userManualBlocksStorageClient;
+  private final Lazy<CollectionResourceClient> noticeTemplatesClient;
+  private final Lazy<CollectionResourceClient> checkInStorageClient;
+  private final Lazy<CollectionResourceClient> automatedPatronBlocksClient;
+  private final Lazy<CollectionResourceClient> notesClient;
+  private final Lazy<CollectionResourceClient> noteTypesClient;
+  private final Lazy<PubSubPublishingService> pubSubPublishingService;
+  private final Lazy<CirculationRulesProcessor> circulationRulesProcessor;
+  private final Lazy<CollectionResourceClient> accountsRefundClient;
+  private final Lazy<CollectionResourceClient> accountsCancelClient;
+  private final Lazy<CollectionResourceClient> actualCostRecordsStorageClient;
+  private final Lazy<CollectionResourceClient> actualCostFeeFineCancelClient;
+  private final Lazy<CollectionResourceClient> departmentClient;
+  private final Lazy<CollectionResourceClient> checkOutLockStorageClient;
+  private final Lazy<CollectionResourceClient> circulationItemClient;
+  private final Lazy<CollectionResourceClient> searchClient;
+  private final Lazy<GetManyRecordsClient> settingsStorageClient;
+  private final Lazy<CollectionResourceClient> circulationSettingsStorageClient;
+  private final Lazy<CollectionResourceClient> printEventsStorageClient;
 
 
   public static Clients create(WebContext context, HttpClient httpClient) {
-    return new Clients(context.createHttpClient(httpClient), context);
+    return new Clients(context.createHttpClient(httpClient), context,
+      context.getTenantId());
   }
 
   public static Clients create(WebContext context, HttpClient httpClient, String tenantId) {
-    return new Clients(context.createHttpClient(httpClient, tenantId), context);
-  }
-
-  private Clients(OkapiHttpClient client, WebContext context) {
-    try {
-      requestsStorageClient = createRequestsStorageClient(client, context);
-      requestsBatchStorageClient = createRequestsBatchStorageClient(client, context);
-      cancellationReasonStorageClient = createCancellationReasonStorageClient(client, context);
-      itemsStorageClient = createItemsStorageClient(client, context);
-      holdingsStorageClient = createHoldingsStorageClient(client, context);
-      instancesStorageClient = createInstanceStorageClient(client, context);
-      identifierTypesStorageClient = createIdentifierTypesStorageClient(client, context);
-      usersStorageClient = createUsersStorageClient(client, context);
-      addressTypesStorageClient = createAddressTypesStorageClient(client, context);
-      loansStorageClient = createLoansStorageClient(client, context);
-      loansHistoryStorageClient = createLoansHistoryStorageClient(client, context);
-      overdueFinesPoliciesPoliciesStorageClient = createOverdueFinesPoliciesStorageClient(client, context);
-      lostItemPoliciesStorageClient = createLostItemPoliciesStorageClient(client, context);
-      locationsStorageClient = createLocationsStorageClient(client, context);
-      anonymizeStorageLoansClient = createAnonymizeStorageLoansClient(client, context);
-      institutionsStorageClient = createInstitutionsStorageClient(client, context);
-      campusesStorageClient = createCampusesStorageClient(client, context);
-      librariesStorageClient = createLibrariesStorageClient(client, context);
-      materialTypesStorageClient = createMaterialTypesStorageClient(client, context);
-      loanTypesStorageClient = createLoanTypesStorageClient(client, context);
-      proxiesForClient = createProxyUsersStorageClient(client, context);
-      circulationLoanRulesClient = createCirculationLoanRulesClient(client, context);
-      circulationRequestRulesClient = createCirculationRequestRulesClient(client, context);
-      circulationNoticeRulesClient = createCirculationNoticeRulesClient(client, context);
-      circulationOverdueFinesRulesClient = createCirculationOverdueFinesRulesClient(client, context);
-      circulationLostItemRulesClient = createCirculationLostItemRulesClient(client, context);
-      circulationRulesStorageClient = createCirculationRulesStorageClient(client, context);
-      loanPoliciesStorageClient = createLoanPoliciesStorageClient(client, context);
-      requestPoliciesStorageClient = createRequestPoliciesStorageClient(client, context);
-      fixedDueDateSchedulesStorageClient = createFixedDueDateSchedulesStorageClient(client, context);
-      servicePointsStorageClient = createServicePointsStorageClient(client, context);
-      routingServicePointsStorageClient = createServicePointsStorageWithCustomParam(client,
-        context, IncludeRoutingServicePoints.enabled());
-      patronGroupsStorageClient = createPatronGroupsStorageClient(client, context);
-      calendarStorageClient = createCalendarStorageClient(client, context);
-      patronNoticePolicesStorageClient = createPatronNoticePolicesStorageClient(client, context);
-      patronNoticeClient = createPatronNoticeClient(client, context);
-      configurationStorageClient = createConfigurationStorageClient(client, context);
-      scheduledNoticesStorageClient = createScheduledNoticesStorageClient(client, context);
-      accountsStorageClient = createAccountsStorageClient(client, context);
-      feeFineActionsStorageClient = createFeeFineActionsStorageClient(client,context);
-      feeFineOwnerStorageClient = createFeeFineOwnerStorageClient(client,context);
-      feeFineStorageClient = createFeeFineStorageClient(client,context);
-      patronActionSessionsStorageClient = createPatronActionSessionsStorageClient(client, context);
-      patronExpiredSessionsStorageClient = createPatronExpiredSessionsStorageClient(client, context);
-      userManualBlocksStorageClient = createUserManualBlocksStorageClient(client, context);
-      noticeTemplatesClient = createNoticeTemplatesClient(client, context);
-      checkInStorageClient = createCheckInStorageClient(client, context);
-      automatedPatronBlocksClient = createAutomatedPatronBlocksClient(client, context);
-      notesClient = createNotesClient(client, context);
-      noteTypesClient = createNoteTypesClient(client, context);
-      pubSubPublishingService = createPubSubPublishingService(context);
-      circulationRulesProcessor = new CirculationRulesProcessor(context.getTenantId(),
-        circulationRulesStorageClient, locationsStorageClient);
-      accountsRefundClient = createAccountsRefundClient(client, context);
-      accountsCancelClient = createAccountsCancelClient(client, context);
-      actualCostRecordsStorageClient = createActualCostRecordClient(client, context);
-      actualCostFeeFineCancelClient = createActualCostFeeFineCancelClient(client, context);
-      departmentClient = createDepartmentClient(client, context);
-      checkOutLockStorageClient = createCheckoutLockClient(client, context);
-      settingsStorageClient = createSettingsStorageClient(client, context);
-      circulationItemClient = createCirculationItemClient(client, context);
-      searchClient = createSearchClient(client, context);
-      circulationSettingsStorageClient = createCirculationSettingsStorageClient(client, context);
-      printEventsStorageClient = createPrintEventsStorageClient(client, context);
-
-    }
-    catch(MalformedURLException e) {
-      throw new InvalidOkapiLocationException(context.getOkapiLocation(), e);
-    }
+    return new Clients(context.createHttpClient(httpClient, tenantId), context, tenantId);
+  }
+
+  private Clients(OkapiHttpClient client, WebContext context, String tenantId) {
+    this.tenantId = tenantId;
+    this.okapiLocation = context.getOkapiLocation();
+
+    requestsStorageClient = lazily(() -> createRequestsStorageClient(client, context));
+    requestsBatchStorageClient = lazily(() -> createRequestsBatchStorageClient(client, context));
+    cancellationReasonStorageClient = lazily(() ->
+      createCancellationReasonStorageClient(client, context));
+    itemsStorageClient = lazily(() -> createItemsStorageClient(client, context));
+    itemsBatchStorageClient = lazily(() -> createItemsBatchStorageClient(client, context));
+    holdingsStorageClient = lazily(() -> createHoldingsStorageClient(client, context));
+    instancesStorageClient = lazily(() -> createInstanceStorageClient(client, context));
+    identifierTypesStorageClient = lazily(() ->
+      createIdentifierTypesStorageClient(client, context));
+    usersStorageClient = lazily(() -> createUsersStorageClient(client, context));
+    addressTypesStorageClient = lazily(() -> createAddressTypesStorageClient(client, context));
+    loansStorageClient = lazily(() -> createLoansStorageClient(client, context));
+    loansHistoryStorageClient = lazily(() -> createLoansHistoryStorageClient(client, context));
+    overdueFinesPoliciesPoliciesStorageClient = lazily(() ->
+      createOverdueFinesPoliciesStorageClient(client, context));
+    lostItemPoliciesStorageClient = lazily(() ->
+      createLostItemPoliciesStorageClient(client, context));
+    locationsStorageClient = lazily(() -> createLocationsStorageClient(client, context));
+    anonymizeStorageLoansClient = lazily(() -> createAnonymizeStorageLoansClient(client, context));
+    institutionsStorageClient = lazily(() -> createInstitutionsStorageClient(client, context));
+    campusesStorageClient = lazily(() -> createCampusesStorageClient(client, context));
+    librariesStorageClient = lazily(() -> createLibrariesStorageClient(client, context));
+    materialTypesStorageClient = lazily(() -> createMaterialTypesStorageClient(client, context));
+    loanTypesStorageClient = lazily(() -> createLoanTypesStorageClient(client, context));
+    proxiesForClient = lazily(() -> createProxyUsersStorageClient(client, context));
+    circulationLoanRulesClient = lazily(() -> createCirculationLoanRulesClient(client, context));
+    circulationRequestRulesClient = lazily(() ->
+      createCirculationRequestRulesClient(client, context));
+    circulationNoticeRulesClient = lazily(() ->
+      createCirculationNoticeRulesClient(client, context));
+    circulationOverdueFinesRulesClient = lazily(() ->
+      createCirculationOverdueFinesRulesClient(client, context));
+    circulationLostItemRulesClient = lazily(() ->
+      createCirculationLostItemRulesClient(client, context));
+    circulationRulesStorageClient = lazily(() ->
+      createCirculationRulesStorageClient(client, context));
+    loanPoliciesStorageClient = lazily(() -> createLoanPoliciesStorageClient(client, context));
+    requestPoliciesStorageClient = lazily(() ->
+      createRequestPoliciesStorageClient(client, context));
+    fixedDueDateSchedulesStorageClient = lazily(() ->
+      createFixedDueDateSchedulesStorageClient(client, context));
+    servicePointsStorageClient = lazily(() -> createServicePointsStorageClient(client, context));
+    routingServicePointsStorageClient = lazily(() -> createServicePointsStorageWithCustomParam(
+      client, context, IncludeRoutingServicePoints.enabled()));
+    patronGroupsStorageClient = lazily(() -> createPatronGroupsStorageClient(client, context));
+    calendarStorageClient = lazily(() -> createCalendarStorageClient(client, context));
+    patronNoticePolicesStorageClient = lazily(() ->
+      createPatronNoticePolicesStorageClient(client, context));
+    patronNoticeClient = lazily(() -> createPatronNoticeClient(client, context));
+    configurationStorageClient = lazily(() -> createConfigurationStorageClient(client, context));
+    scheduledNoticesStorageClient = lazily(() ->
+      createScheduledNoticesStorageClient(client, context));
+    accountsStorageClient = lazily(() -> createAccountsStorageClient(client, context));
+    feeFineActionsStorageClient = lazily(() -> createFeeFineActionsStorageClient(client,context));
+    feeFineOwnerStorageClient = lazily(() -> createFeeFineOwnerStorageClient(client,context));
+    feeFineStorageClient = lazily(() -> createFeeFineStorageClient(client,context));
+    patronActionSessionsStorageClient = lazily(() ->
+      createPatronActionSessionsStorageClient(client, context));
+    patronExpiredSessionsStorageClient = lazily(() ->
+      createPatronExpiredSessionsStorageClient(client, context));
+    userManualBlocksStorageClient = lazily(() ->
+      createUserManualBlocksStorageClient(client, context));
+    noticeTemplatesClient = lazily(() -> createNoticeTemplatesClient(client, context));
+    checkInStorageClient = lazily(() -> createCheckInStorageClient(client, context));
+    automatedPatronBlocksClient = lazily(() -> createAutomatedPatronBlocksClient(client, context));
+    notesClient = lazily(() -> createNotesClient(client, context));
+    noteTypesClient = lazily(() -> createNoteTypesClient(client, context));
+    pubSubPublishingService = lazily(() -> createPubSubPublishingService(context));
+    circulationRulesProcessor = lazily(() -> new CirculationRulesProcessor(
+      context.getTenantId(), circulationRulesStorage(), locationsStorage()));
+    accountsRefundClient = lazily(() -> createAccountsRefundClient(client, context));
+    accountsCancelClient = lazily(() -> createAccountsCancelClient(client, context));
+    actualCostRecordsStorageClient = lazily(() -> createActualCostRecordClient(client, context));
+    actualCostFeeFineCancelClient = lazily(() ->
+      createActualCostFeeFineCancelClient(client, context));
+    departmentClient = lazily(() -> createDepartmentClient(client, context));
+    checkOutLockStorageClient = lazily(() -> createCheckoutLockClient(client, context));
+    settingsStorageClient = lazily(() -> createSettingsStorageClient(client, context));
+    circulationItemClient = lazily(() -> createCirculationItemClient(client, context));
+    searchClient = lazily(() -> createSearchClient(client, context));
+    circulationSettingsStorageClient = lazily(() ->
+      createCirculationSettingsStorageClient(client, context));
+    printEventsStorageClient = lazily(() -> createPrintEventsStorageClient(client, context));
+  }
+
+  public String tenantId() {
+    return tenantId;
   }
 
   public CollectionResourceClient requestsStorage() {
-    return requestsStorageClient;
+    return requestsStorageClient.get();
   }
 
   public CollectionResourceClient requestsBatchStorage() {
-    return requestsBatchStorageClient;
+    return requestsBatchStorageClient.get();
   }
 
   public CollectionResourceClient cancellationReasonStorage() {
-    return cancellationReasonStorageClient;
+    return cancellationReasonStorageClient.get();
   }
 
   public CollectionResourceClient requestPoliciesStorage() {
-    return requestPoliciesStorageClient;
+    return requestPoliciesStorageClient.get();
   }
 
   public CollectionResourceClient itemsStorage() {
-    return itemsStorageClient;
+    return itemsStorageClient.get();
+  }
+
+  public CollectionResourceClient itemsBatchStorage() {
+    return itemsBatchStorageClient.get();
   }
 
   public CollectionResourceClient holdingsStorage() {
-    return holdingsStorageClient;
+    return holdingsStorageClient.get();
   }
 
   public CollectionResourceClient instancesStorage() {
-    return instancesStorageClient;
+    return instancesStorageClient.get();
   }
 
   public CollectionResourceClient identifierTypesStorage() {
-    return identifierTypesStorageClient;
+    return identifierTypesStorageClient.get();
   }
 
   public CollectionResourceClient usersStorage() {
-    return usersStorageClient;
+    return usersStorageClient.get();
   }
 
   public CollectionResourceClient addressTypesStorage() {
-    return addressTypesStorageClient;
+    return addressTypesStorageClient.get();
   }
 
   public CollectionResourceClient loansStorage() {
-    return loansStorageClient;
+    return loansStorageClient.get();
   }
 
   public CollectionResourceClient loansHistoryStorageClient() {
-    return loansHistoryStorageClient;
+    return loansHistoryStorageClient.get();
   }
 
   public CollectionResourceClient anonymizeStorageLoansClient() {
-    return anonymizeStorageLoansClient;
+    return anonymizeStorageLoansClient.get();
   }
 
   public CollectionResourceClient locationsStorage() {
-    return locationsStorageClient;
+    return locationsStorageClient.get();
   }
 
   public CollectionResourceClient institutionsStorage() {
-    return institutionsStorageClient;
+    return institutionsStorageClient.get();
   }
 
   public CollectionResourceClient campusesStorage() {
-    return campusesStorageClient;
+    return campusesStorageClient.get();
   }
 
   public CollectionResourceClient librariesStorage() {
-    return librariesStorageClient;
+    return librariesStorageClient.get();
   }
 
   public CollectionResourceClient materialTypesStorage() {
-    return materialTypesStorageClient;
+    return materialTypesStorageClient.get();
   }
 
   public CollectionResourceClient loanTypesStorage() {
-    return loanTypesStorageClient;
+    return loanTypesStorageClient.get();
   }
 
   public CollectionResourceClient loanPoliciesStorage() {
-    return loanPoliciesStorageClient;
+    return loanPoliciesStorageClient.get();
   }
 
   public CollectionResourceClient overdueFinesPoliciesStorage() {
-    return overdueFinesPoliciesPoliciesStorageClient;
+    return overdueFinesPoliciesPoliciesStorageClient.get();
   }
 
   public CollectionResourceClient lostItemPoliciesStorage() {
-    return lostItemPoliciesStorageClient;
+    return lostItemPoliciesStorageClient.get();
   }
 
   public GetManyRecordsClient fixedDueDateSchedules() {
-    return fixedDueDateSchedulesStorageClient;
+    return fixedDueDateSchedulesStorageClient.get();
   }
 
   public CollectionResourceClient servicePointsStorage() {
-    return servicePointsStorageClient;
+    return servicePointsStorageClient.get();
   }
 
   public CollectionResourceClient routingServicePointsStorage() {
-    return routingServicePointsStorageClient;
+    return routingServicePointsStorageClient.get();
   }
 
   public CollectionResourceClient patronGroupsStorage() {
-    return patronGroupsStorageClient;
+    return patronGroupsStorageClient.get();
   }
 
   public CollectionResourceClient actualCostRecordsStorage() {
-    return actualCostRecordsStorageClient;
+    return actualCostRecordsStorageClient.get();
   }
 
   public CollectionResourceClient calendarStorageClient() {
-    return calendarStorageClient;
+    return calendarStorageClient.get();
   }
 
   public GetManyRecordsClient configurationStorageClient() {
-    return configurationStorageClient;
+    return configurationStorageClient.get();
   }
 
   public GetManyRecordsClient userProxies() {
-    return proxiesForClient;
+    return proxiesForClient.get();
   }
 
   public CirculationRulesClient circulationLoanRules() {
-    return circulationLoanRulesClient;
+    return circulationLoanRulesClient.get();
   }
 
   public CirculationRulesClient circulationOverdueFineRules() {
-    return circulationOverdueFinesRulesClient;
+    return circulationOverdueFinesRulesClient.get();
   }
 
   public CirculationRulesClient circulationLostItemRules() {
-    return circulationLostItemRulesClient;
+    return circulationLostItemRulesClient.get();
   }
 
   public CirculationRulesClient circulationRequestRules(){
-    return circulationRequestRulesClient;
+    return circulationRequestRulesClient.get();
   }
 
   public CirculationRulesClient circulationNoticeRules(){
-    return circulationNoticeRulesClient;
+    return circulationNoticeRulesClient.get();
   }
 
   public CollectionResourceClient circulationRulesStorage() {
-    return circulationRulesStorageClient;
+    return circulationRulesStorageClient.get();
   }
 
   public CollectionResourceClient patronNoticePolicesStorageClient() {
-    return patronNoticePolicesStorageClient;
+    return patronNoticePolicesStorageClient.get();
   }
 
   public CollectionResourceClient patronNoticeClient() {
-    return patronNoticeClient;
+    return patronNoticeClient.get();
   }
 
   public CollectionResourceClient scheduledNoticesStorageClient() {
-    return scheduledNoticesStorageClient;
+    return scheduledNoticesStorageClient.get();
   }
 
   public CollectionResourceClient accountsStorageClient() {
-    return accountsStorageClient;
+    return accountsStorageClient.get();
   }
 
   public CollectionResourceClient feeFineActionsStorageClient() {
-    return feeFineActionsStorageClient;
+    return feeFineActionsStorageClient.get();
   }
 
   public CollectionResourceClient feeFineOwnerStorageClient() {
-    return feeFineOwnerStorageClient;
+    return feeFineOwnerStorageClient.get();
   }
 
   public CollectionResourceClient feeFineStorageClient() {
-    return feeFineStorageClient;
+    return feeFineStorageClient.get();
   }
 
   public CollectionResourceClient patronActionSessionsStorageClient() {
-    return patronActionSessionsStorageClient;
+    return patronActionSessionsStorageClient.get();
   }
 
   public CollectionResourceClient patronExpiredSessionsStorageClient() {
-    return patronExpiredSessionsStorageClient;
+    return patronExpiredSessionsStorageClient.get();
   }
 
   public GetManyRecordsClient userManualBlocksStorageClient() {
-    return userManualBlocksStorageClient;
+    return userManualBlocksStorageClient.get();
   }
 
   public CollectionResourceClient checkInStorageClient() {
-    return checkInStorageClient;
+    return checkInStorageClient.get();
   }
 
   public CollectionResourceClient automatedPatronBlocksClient() {
-    return automatedPatronBlocksClient;
+    return automatedPatronBlocksClient.get();
   }
 
   public CollectionResourceClient notesClient() {
-    return notesClient;
+    return notesClient.get();
   }
 
   public CollectionResourceClient noteTypesClient() {
-    return noteTypesClient;
+    return noteTypesClient.get();
   }
 
   public CirculationRulesProcessor circulationRulesProcessor() {
-    return circulationRulesProcessor;
+    return circulationRulesProcessor.get();
   }
 
   public PubSubPublishingService pubSubPublishingService() {
-    return pubSubPublishingService;
+    return pubSubPublishingService.get();
   }
 
   public CollectionResourceClient accountsRefundClient() {
-    return accountsRefundClient;
+    return accountsRefundClient.get();
   }
 
   public CollectionResourceClient accountsCancelClient() {
-    return accountsCancelClient;
+    return accountsCancelClient.get();
   }
 
   public CollectionResourceClient actualCostFeeFineCancelClient() {
-    return actualCostFeeFineCancelClient;
+    return actualCostFeeFineCancelClient.get();
   }
 
   public CollectionResourceClient departmentClient() {
-    return departmentClient;
+    return departmentClient.get();
   }
 
   public CollectionResourceClient checkOutLockClient() {
-    return checkOutLockStorageClient;
+    return checkOutLockStorageClient.get();
   }
 
   public GetManyRecordsClient settingsStorageClient() {
-    return settingsStorageClient;
+    return settingsStorageClient.get();
   }
 
   public CollectionResourceClient circulationItemClient() {
-    return circulationItemClient;
+    return circulationItemClient.get();
   }
 
   public CollectionResourceClient searchClient() {
-    return searchClient;
+    return searchClient.get();
   }
 
   public CollectionResourceClient circulationSettingsStorageClient() {
-    return circulationSettingsStorageClient;
+    return circulationSettingsStorageClient.get();
   }
 
   public CollectionResourceClient printEventsStorageClient() {
-    return printEventsStorageClient;
+    return printEventsStorageClient.get();
   }
 
   private static CollectionResourceClient getCollectionResourceClient(
@@ -424,7 +452,7 @@ public class Clients {
   }
 
   public CollectionResourceClient noticeTemplatesClient() {
-    return noticeTemplatesClient;
+    return noticeTemplatesClient.get();
   }
 
   private static CirculationRulesClient createCirculationLoanRulesClient(
@@ -498,6 +526,15 @@ public class Clients {
     return getCollectionResourceClient(client, context, "/item-storage/items");
   }
 
+  private static CollectionResourceClient createItemsBatchStorageClient(
+    OkapiHttpClient client, WebContext context)
+    throws MalformedURLException {
+
+    // Existing items are replaced, as for a PUT of each of the items
+    return getCollectionResourceClient(client, context,
+      "/item-storage/batch/synchronous?upsert=true");
+  }
+
   private static CollectionResourceClient createHoldingsStorageClient(
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
@@ -878,4 +915,34 @@ public class Clients {
       "/settings/entries");
   }
 
+  private <T> Lazy<T> lazily(ThrowingSupplier<T, MalformedURLException> factory) {
+    return new Lazy<>(factory, okapiLocation);
+  }
+
+  /**
+   * Creates a client when it is first used, a request only needs a few of the clients
+   */
+  private static final class Lazy<T> {
+    private final ThrowingSupplier<T, MalformedURLException> factory;
+    private final String okapiLocation;
+    private T instance;
+
+    private Lazy(ThrowingSupplier<T, MalformedURLException> factory, String okapiLocation) {
+      this.factory = factory;
+      this.okapiLocation = okapiLocation;
+    }
+
+    synchronized T get() {
+      if (instance == null) {
+        try {
+          instance = factory.get();
+        }
+        catch (MalformedURLException e) {
+          throw new InvalidOkapiLocationException(okapiLocation, e);
+        }
+      }
+
+      return instance;
+    }
+  }
 }
@@ -109,6 +109,11 @@ public class CollectionResourceClient implements GetManyRecordsClient {
     return client.get(collectionRoot, cqlQuery, pageLimit, offset);
   }
 
+  @Override
+  public String getTenantId() {
+    return client == null ? null : client.getTenantId();
+  }
+
   String individualRecordUrl(String id) {
     return format("%s/%s", collectionRoot, id);
   }
@@ -13,4 +13,11 @@ public interface FindWithCqlQuery<T> {
 
   CompletableFuture<Result<MultipleRecords<T>>> findByQuery(
     Result<CqlQuery> queryResult, PageLimit pageLimit);
+
+  /**
+   * @return the tenant whose records are searched, null when not known
+   */
+  default String getTenantId() {
+    return null;
+  }
 }
@@ -14,4 +14,8 @@ public interface GetManyRecordsClient {
 
     CompletableFuture<Result<Response>> getMany(CqlQuery cqlQuery,
       PageLimit pageLimit, Offset offset);
+
+    default String getTenantId() {
+      return null;
+    }
 }
@@ -0,0 +1,94 @@
+package org.folio.circulation.support.async;
+
+import static org.folio.Environment.getAsyncStagesOnVertxContext;
+import static org.folio.Environment.getCpuWorkerPoolSize;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Executors for the asynchronous stages of handling a request.
+ * <p>
+ * Stages that continue after I/O run on the Vert.x context of the request,
+ * which keeps the logging context and avoids handing each stage to another
+ * thread. Work that keeps a thread busy for longer, like evaluating the
+ * circulation rules, runs on a pool of worker threads so that it does not
+ * hold up the event loop.
+ */
+public final class CirculationExecutors {
+  private static final boolean stagesOnVertxContext = getAsyncStagesOnVertxContext();
+  private static final ExecutorService cpuWorkers = createCpuWorkers();
+
+  private CirculationExecutors() { }
+
+  /**
+   * @return executor running tasks on the Vert.x context of the calling thread,
+   * null when there is no context or stages do not run on the context
+   */
+  public static Executor currentContextExecutor() {
+    if (!stagesOnVertxContext) {
+      return null;
+    }
+
+    final Context context = Vertx.currentContext();
+
+    if (context == null) {
+      return null;
+    }
+
+    return task -> context.runOnContext(v -> task.run());
+  }
+
+  /**
+   * Runs the task on a worker thread, the stages that depend on the returned
+   * future continue on the Vert.x context of the calling thread
+   */
+  public static <T> CompletableFuture<T> supplyOnWorker(Supplier<T> task) {
+    return continueOnCurrentContext(CompletableFuture.supplyAsync(task, cpuWorkers));
+  }
+
+  /**
+   * @return future of its own for the calling thread, completed on its Vert.x
+   * context once the source completes, wherever the source is completed
+   */
+  public static <T> CompletableFuture<T> continueOnCurrentContext(CompletableFuture<T> source) {
+    final Executor contextExecutor = currentContextExecutor();
+    final CompletableFuture<T> completed = ContextBoundFuture.onCurrentContext();
+
+    source.whenComplete((value, throwable) -> {
+      final Runnable complete = () -> {
+        if (throwable != null) {
+          completed.completeExceptionally(throwable);
+        } else {
+          completed.complete(value);
+        }
+      };
+
+      if (contextExecutor == null) {
+        complete.run();
+      } else {
+        contextExecutor.execute(complete);
+      }
+    });
+
+    return completed;
+  }
+
+  private static ExecutorService createCpuWorkers() {
+    final AtomicInteger threadCount = new AtomicInteger();
+
+    return Executors.newFixedThreadPool(Math.max(1, getCpuWorkerPoolSize()), runnable -> {
+      final Thread thread = new Thread(runnable,
+        "circulation-cpu-worker-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+}
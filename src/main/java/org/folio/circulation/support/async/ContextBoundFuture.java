@@ -0,0 +1,47 @@
+package org.folio.circulation.support.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Future whose asynchronous stages without an explicit executor run using the
+ * executor it was created with, instead of the common fork join pool. The
+ * stages that depend on it are bound to the same executor.
+ */
+public class ContextBoundFuture<T> extends CompletableFuture<T> {
+  private final Executor executor;
+
+  ContextBoundFuture(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * @return future bound to the Vert.x context of the calling thread, or a
+   * plain future when there is no context
+   */
+  public static <T> CompletableFuture<T> onCurrentContext() {
+    final Executor contextExecutor = CirculationExecutors.currentContextExecutor();
+
+    return contextExecutor == null
+      ? new CompletableFuture<>()
+      : new ContextBoundFuture<>(contextExecutor);
+  }
+
+  public static <T> CompletableFuture<T> completedOnCurrentContext(T value) {
+    final CompletableFuture<T> future = onCurrentContext();
+
+    future.complete(value);
+
+    return future;
+  }
+
+  @Override
+  public Executor defaultExecutor() {
+    return executor;
+  }
+
+  @Override
+  public <U> CompletableFuture<U> newIncompleteFuture() {
+    return new ContextBoundFuture<>(executor);
+  }
+}
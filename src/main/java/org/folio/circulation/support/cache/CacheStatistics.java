@@ -0,0 +1,59 @@
+package org.folio.circulation.support.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Counters of an in-memory cache, safe to update from several threads.
+ */
+public class CacheStatistics {
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  public void recordHit() {
+    hits.incrementAndGet();
+  }
+
+  public void recordMiss() {
+    misses.incrementAndGet();
+  }
+
+  public void recordEviction() {
+    evictions.incrementAndGet();
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  public double getHitRatio() {
+    final long hitCount = getHits();
+    final long requestCount = hitCount + getMisses();
+
+    return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+  }
+
+  public JsonObject toJson() {
+    return new JsonObject()
+      .put("hits", getHits())
+      .put("misses", getMisses())
+      .put("evictions", getEvictions())
+      .put("hitRatio", getHitRatio());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("hits: %d, misses: %d, evictions: %d, hit ratio: %.3f",
+      getHits(), getMisses(), getEvictions(), getHitRatio());
+  }
+}
@@ -0,0 +1,118 @@
+package org.folio.circulation.support.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import lombok.Getter;
+
+/**
+ * Bounded least recently used cache whose entries expire a fixed time after
+ * they have been stored.
+ */
+public class ExpiringCache<K, V> {
+  private final int maximumSize;
+  private final long timeToLiveMillis;
+  private final LongSupplier clock;
+  private final Map<K, Entry<V>> entries;
+  @Getter
+  private final ExpiringCacheStatistics statistics = new ExpiringCacheStatistics();
+
+  public ExpiringCache(int maximumSize, long timeToLiveMillis) {
+    this(maximumSize, timeToLiveMillis, System::currentTimeMillis);
+  }
+
+  /**
+   * @param clock - current time in milliseconds
+   */
+  public ExpiringCache(int maximumSize, long timeToLiveMillis, LongSupplier clock) {
+    this.maximumSize = maximumSize;
+    this.timeToLiveMillis = timeToLiveMillis;
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        final boolean evict = size() > ExpiringCache.this.maximumSize;
+        if (evict) {
+          statistics.recordEviction();
+        }
+        return evict;
+      }
+    };
+  }
+
+  public boolean isEnabled() {
+    return maximumSize > 0 && timeToLiveMillis > 0;
+  }
+
+  public Optional<V> get(K key) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+
+    final long now = clock.getAsLong();
+    final Entry<V> entry;
+
+    synchronized (entries) {
+      final Entry<V> stored = entries.get(key);
+
+      if (stored != null && now - stored.storedAt() >= timeToLiveMillis) {
+        entries.remove(key);
+        statistics.recordExpiration();
+        entry = null;
+      } else {
+        entry = stored;
+      }
+    }
+
+    if (entry == null) {
+      statistics.recordMiss();
+      return Optional.empty();
+    }
+
+    statistics.recordHit(now - entry.storedAt());
+    return Optional.of(entry.value());
+  }
+
+  public void put(K key, V value) {
+    if (!isEnabled() || value == null) {
+      return;
+    }
+
+    final Entry<V> entry = new Entry<>(value, clock.getAsLong());
+
+    synchronized (entries) {
+      entries.put(key, entry);
+    }
+  }
+
+  public void invalidate(K key) {
+    synchronized (entries) {
+      if (entries.remove(key) != null) {
+        statistics.recordInvalidation();
+      }
+    }
+  }
+
+  public void invalidateIf(Predicate<K> keyFilter) {
+    synchronized (entries) {
+      entries.keySet().removeIf(key -> {
+        final boolean remove = keyFilter.test(key);
+        if (remove) {
+          statistics.recordInvalidation();
+        }
+        return remove;
+      });
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private record Entry<V>(V value, long storedAt) { }
+}
@@ -0,0 +1,85 @@
+package org.folio.circulation.support.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Counters of a cache with expiring entries, the age of the entries served
+ * from the cache tells how stale the data handed out is.
+ */
+public class ExpiringCacheStatistics extends CacheStatistics {
+  private final AtomicLong expirations = new AtomicLong();
+  private final AtomicLong invalidations = new AtomicLong();
+  private final AtomicLong totalServedAgeMillis = new AtomicLong();
+  private final AtomicLong maximumServedAgeMillis = new AtomicLong();
+  private final AtomicLong loads = new AtomicLong();
+  private final AtomicLong totalLoadMillis = new AtomicLong();
+
+  public void recordHit(long ageMillis) {
+    recordHit();
+    totalServedAgeMillis.addAndGet(ageMillis);
+    maximumServedAgeMillis.accumulateAndGet(ageMillis, Math::max);
+  }
+
+  public void recordExpiration() {
+    expirations.incrementAndGet();
+  }
+
+  public void recordInvalidation() {
+    invalidations.incrementAndGet();
+  }
+
+  public void recordLoad(long durationMillis) {
+    loads.incrementAndGet();
+    totalLoadMillis.addAndGet(durationMillis);
+  }
+
+  public long getExpirations() {
+    return expirations.get();
+  }
+
+  public long getInvalidations() {
+    return invalidations.get();
+  }
+
+  public long getMaximumServedAgeMillis() {
+    return maximumServedAgeMillis.get();
+  }
+
+  public long getAverageServedAgeMillis() {
+    final long hitCount = getHits();
+
+    return hitCount == 0 ? 0 : totalServedAgeMillis.get() / hitCount;
+  }
+
+  public long getLoads() {
+    return loads.get();
+  }
+
+  public long getAverageLoadMillis() {
+    final long loadCount = getLoads();
+
+    return loadCount == 0 ? 0 : totalLoadMillis.get() / loadCount;
+  }
+
+  @Override
+  public JsonObject toJson() {
+    return super.toJson()
+      .put("expirations", getExpirations())
+      .put("invalidations", getInvalidations())
+      .put("averageServedAgeMillis", getAverageServedAgeMillis())
+      .put("maximumServedAgeMillis", getMaximumServedAgeMillis())
+      .put("loads", getLoads())
+      .put("averageLoadMillis", getAverageLoadMillis());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s, expirations: %d, invalidations: %d, " +
+        "average age served: %d ms, maximum age served: %d ms, loads: %d, " +
+        "average load time: %d ms", super.toString(), getExpirations(), getInvalidations(),
+      getAverageServedAgeMillis(), getMaximumServedAgeMillis(), getLoads(),
+      getAverageLoadMillis());
+  }
+}
@@ -0,0 +1,53 @@
+package org.folio.circulation.support.cache;
+
+import static org.folio.circulation.support.async.CirculationExecutors.continueOnCurrentContext;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Makes concurrent callers asking for the same key share a single in-flight
+ * computation instead of starting one each.
+ * <p>
+ * Each caller gets a future of its own that completes on its own Vert.x
+ * context, callers sharing a computation may be on different event loops.
+ */
+public class SingleFlight<K, V> {
+  private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * @return the future of the computation already running for the key, or of a
+   * computation started with the supplier when none is running
+   */
+  public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> computation) {
+    final CompletableFuture<V> promise = new CompletableFuture<>();
+    final CompletableFuture<V> running = inFlight.putIfAbsent(key, promise);
+
+    if (running != null) {
+      return continueOnCurrentContext(running);
+    }
+
+    try {
+      computation.get().whenComplete((value, throwable) -> {
+        inFlight.remove(key, promise);
+
+        if (throwable != null) {
+          promise.completeExceptionally(throwable);
+        } else {
+          promise.complete(value);
+        }
+      });
+    } catch (Exception e) {
+      inFlight.remove(key, promise);
+      promise.completeExceptionally(e);
+    }
+
+    return continueOnCurrentContext(promise);
+  }
+
+  public boolean isInFlight(K key) {
+    return inFlight.containsKey(key);
+  }
+}
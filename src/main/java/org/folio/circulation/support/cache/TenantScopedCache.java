@@ -0,0 +1,212 @@
+package org.folio.circulation.support.cache;
+
+import static org.folio.circulation.support.results.Result.ofAsync;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Read through cache of records identified by tenant and record ID.
+ * <p>
+ * Only successfully loaded records are stored, records that are not found are
+ * fetched again on the next request. Concurrent loads of the same record share
+ * a single request. A record invalidated while it is being loaded is not
+ * stored when the load completes, as it may have been loaded before the change.
+ */
+public class TenantScopedCache<V> {
+  private final ExpiringCache<Key, V> records;
+  private final SingleFlight<Key, Result<V>> pendingLoads = new SingleFlight<>();
+  /** records being loaded, guarded by itself */
+  private final Map<Key, Load> loads = new HashMap<>();
+  /** incremented by each invalidation, guarded by loads */
+  private long generation;
+
+  public TenantScopedCache(int maximumSize, long timeToLiveMillis) {
+    this(new ExpiringCache<>(maximumSize, timeToLiveMillis));
+  }
+
+  TenantScopedCache(ExpiringCache<Key, V> records) {
+    this.records = records;
+  }
+
+  public CompletableFuture<Result<V>> get(String tenantId, String id,
+    Supplier<CompletableFuture<Result<V>>> loader) {
+
+    if (!isCacheable(tenantId)) {
+      return loader.get();
+    }
+
+    final Key key = new Key(tenantId, id);
+
+    return records.get(key)
+      .map(Result::ofAsync)
+      .orElseGet(() -> pendingLoads.execute(key, () -> load(Set.of(key),
+          () -> loader.get().thenApply(r -> r.map(value -> keyed(key, value))))
+        .thenApply(r -> r.map(loaded -> loaded.get(key)))));
+  }
+
+  /**
+   * @param loader fetches the records that are not cached, the map is keyed by record ID
+   * @return the cached and the loaded records keyed by record ID
+   */
+  public CompletableFuture<Result<Map<String, V>>> getAll(String tenantId,
+    Collection<String> ids,
+    Function<Set<String>, CompletableFuture<Result<Map<String, V>>>> loader) {
+
+    final Set<String> uniqueIds = new HashSet<>(ids);
+    uniqueIds.remove(null);
+
+    if (!isCacheable(tenantId)) {
+      return loader.apply(uniqueIds);
+    }
+
+    final Map<String, V> cached = new HashMap<>();
+    final Set<String> missing = new HashSet<>();
+
+    uniqueIds.forEach(id -> records.get(new Key(tenantId, id))
+      .ifPresentOrElse(value -> cached.put(id, value), () -> missing.add(id)));
+
+    if (missing.isEmpty()) {
+      return ofAsync(cached);
+    }
+
+    final Set<Key> missingKeys = missing.stream()
+      .map(id -> new Key(tenantId, id))
+      .collect(Collectors.toSet());
+
+    return load(missingKeys, () -> loader.apply(missing)
+        .thenApply(r -> r.map(loaded -> keyed(tenantId, loaded))))
+      .thenApply(r -> r.map(loaded -> {
+        final Map<String, V> all = new HashMap<>(cached);
+        loaded.forEach((key, value) -> all.put(key.id(), value));
+
+        return all;
+      }));
+  }
+
+  public void invalidate(String tenantId, String id) {
+    final Key invalidatedKey = new Key(tenantId, id);
+
+    synchronized (loads) {
+      generation++;
+      Optional.ofNullable(loads.get(invalidatedKey))
+        .ifPresent(load -> load.invalidatedAt = generation);
+      records.invalidate(invalidatedKey);
+    }
+  }
+
+  public void invalidate(String tenantId) {
+    invalidateIf(key -> Objects.equals(key.tenantId(), tenantId));
+  }
+
+  public void invalidateAll() {
+    invalidateIf(key -> true);
+  }
+
+  private void invalidateIf(Predicate<Key> keyFilter) {
+    synchronized (loads) {
+      generation++;
+      loads.forEach((key, load) -> {
+        if (keyFilter.test(key)) {
+          load.invalidatedAt = generation;
+        }
+      });
+      records.invalidateIf(keyFilter);
+    }
+  }
+
+  /**
+   * Loads the records and stores those that have not been invalidated since
+   * the load started
+   */
+  private CompletableFuture<Result<Map<Key, V>>> load(Set<Key> keys,
+    Supplier<CompletableFuture<Result<Map<Key, V>>>> loader) {
+
+    final long startedAt = loadStarted(keys);
+    final CompletableFuture<Result<Map<Key, V>>> loading;
+
+    try {
+      loading = timed(loader);
+    } catch (RuntimeException e) {
+      loadFinished(keys, startedAt, Map.of());
+      throw e;
+    }
+
+    return loading.whenComplete((result, throwable) -> loadFinished(keys, startedAt,
+      result != null && result.succeeded() ? result.value() : Map.of()));
+  }
+
+  private long loadStarted(Set<Key> keys) {
+    synchronized (loads) {
+      keys.forEach(key -> loads.computeIfAbsent(key, k -> new Load()).inProgress++);
+      return generation;
+    }
+  }
+
+  private void loadFinished(Set<Key> keys, long startedAt, Map<Key, V> loaded) {
+    synchronized (loads) {
+      for (Key key : keys) {
+        final Load load = loads.get(key);
+
+        if (load.invalidatedAt <= startedAt && loaded.get(key) != null) {
+          records.put(key, loaded.get(key));
+        }
+
+        if (--load.inProgress == 0) {
+          loads.remove(key);
+        }
+      }
+    }
+  }
+
+  private Map<Key, V> keyed(Key key, V value) {
+    return value == null ? Map.of() : Map.of(key, value);
+  }
+
+  private Map<Key, V> keyed(String tenantId, Map<String, V> recordsById) {
+    final Map<Key, V> keyedRecords = new HashMap<>();
+
+    recordsById.forEach((id, value) -> keyedRecords.put(new Key(tenantId, id), value));
+
+    return keyedRecords;
+  }
+
+  public ExpiringCacheStatistics getStatistics() {
+    return records.getStatistics();
+  }
+
+  public int size() {
+    return records.size();
+  }
+
+  private <R> CompletableFuture<R> timed(Supplier<CompletableFuture<R>> loader) {
+    final long start = System.currentTimeMillis();
+
+    return loader.get().whenComplete((result, throwable) ->
+      records.getStatistics().recordLoad(System.currentTimeMillis() - start));
+  }
+
+  private boolean isCacheable(String tenantId) {
+    return tenantId != null && records.isEnabled();
+  }
+
+  record Key(String tenantId, String id) { }
+
+  private static final class Load {
+    private int inProgress;
+    /** generation of the last invalidation of the record while it was being loaded */
+    private long invalidatedAt = -1;
+  }
+}
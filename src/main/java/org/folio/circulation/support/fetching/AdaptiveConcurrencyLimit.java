@@ -0,0 +1,159 @@
+package org.folio.circulation.support.fetching;
+
+import static org.folio.Environment.getCqlLookupMaximumConcurrentQueries;
+import static org.folio.Environment.getCqlLookupSlowQueryMillis;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.ForwardOnFailure;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Limits the number of queries a tenant has in flight against storage.
+ * <p>
+ * The limit starts at the configured maximum. It is halved when a query fails
+ * with a server error or takes longer than the slow query threshold, and grows
+ * back by one for each limit's worth of successful queries. Queries over the
+ * limit wait in order of arrival.
+ */
+public class AdaptiveConcurrencyLimit {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final Map<String, AdaptiveConcurrencyLimit> tenantLimits =
+    new ConcurrentHashMap<>();
+
+  private final int maximumLimit;
+  private final long slowQueryMillis;
+  private final Deque<Runnable> waitingQueries = new ArrayDeque<>();
+  private double limit;
+  private int inFlight;
+
+  public static AdaptiveConcurrencyLimit forTenant(String tenantId) {
+    if (tenantId == null) {
+      return new AdaptiveConcurrencyLimit(getCqlLookupMaximumConcurrentQueries(),
+        getCqlLookupSlowQueryMillis());
+    }
+
+    return tenantLimits.computeIfAbsent(tenantId, id -> new AdaptiveConcurrencyLimit(
+      getCqlLookupMaximumConcurrentQueries(), getCqlLookupSlowQueryMillis()));
+  }
+
+  AdaptiveConcurrencyLimit(int maximumLimit, long slowQueryMillis) {
+    this.maximumLimit = Math.max(1, maximumLimit);
+    this.slowQueryMillis = slowQueryMillis;
+    this.limit = this.maximumLimit;
+  }
+
+  /**
+   * Starts the query straight away when the limit allows, otherwise once
+   * enough of the queries in flight have completed
+   */
+  public <T> CompletableFuture<Result<T>> run(
+    Supplier<CompletableFuture<Result<T>>> query) {
+
+    final CompletableFuture<Result<T>> completed = new CompletableFuture<>();
+    final Runnable start = () -> start(query, completed);
+
+    final boolean canStart;
+
+    synchronized (this) {
+      canStart = inFlight < currentLimit();
+
+      if (canStart) {
+        inFlight++;
+      } else {
+        waitingQueries.add(start);
+      }
+    }
+
+    if (canStart) {
+      start.run();
+    }
+
+    return completed;
+  }
+
+  public synchronized int currentLimit() {
+    return (int) limit;
+  }
+
+  synchronized int waitingQueries() {
+    return waitingQueries.size();
+  }
+
+  private <T> void start(Supplier<CompletableFuture<Result<T>>> query,
+    CompletableFuture<Result<T>> completed) {
+
+    final long startTime = System.currentTimeMillis();
+
+    CompletableFuture<Result<T>> result;
+
+    try {
+      result = query.get();
+    } catch (Exception e) {
+      result = CompletableFuture.failedFuture(e);
+    }
+
+    result.whenComplete((r, throwable) -> {
+      final long duration = System.currentTimeMillis() - startTime;
+
+      release(throwable != null || isOverloaded(r, duration));
+
+      if (throwable != null) {
+        completed.completeExceptionally(throwable);
+      } else {
+        completed.complete(r);
+      }
+    });
+  }
+
+  private void release(boolean overloaded) {
+    final List<Runnable> queriesToStart = new ArrayList<>();
+
+    synchronized (this) {
+      inFlight--;
+
+      if (overloaded) {
+        limit = Math.max(1, limit / 2);
+        log.warn("release:: storage is overloaded, concurrent query limit reduced to {}",
+          currentLimit());
+      } else {
+        limit = Math.min(maximumLimit, limit + 1 / limit);
+      }
+
+      while (inFlight < currentLimit() && !waitingQueries.isEmpty()) {
+        inFlight++;
+        queriesToStart.add(waitingQueries.poll());
+      }
+    }
+
+    queriesToStart.forEach(Runnable::run);
+  }
+
+  private boolean isOverloaded(Result<?> result, long duration) {
+    if (duration > slowQueryMillis) {
+      return true;
+    }
+
+    if (result.succeeded()) {
+      return false;
+    }
+
+    if (result.cause() instanceof ForwardOnFailure forwardOnFailure) {
+      return forwardOnFailure.getFailureResponse().getStatusCode() >= 500;
+    }
+
+    return result.cause() instanceof ServerErrorFailure;
+  }
+}
@@ -1,16 +1,19 @@
 package org.folio.circulation.support.fetching;
 
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.collectingAndThen;
-import static org.apache.commons.collections4.ListUtils.partition;
 import static org.folio.circulation.domain.MultipleRecords.empty;
 import static org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria.byId;
 import static org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria.byIndex;
 import static org.folio.circulation.support.http.client.PageLimit.maximumLimit;
 import static org.folio.circulation.support.results.Result.of;
 
+import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -23,21 +26,38 @@ import org.folio.circulation.support.results.Result;
 
 import lombok.val;
 
+/**
+ * Finds the records matching any of multiple values of an index.
+ * <p>
+ * Repeated values are only searched for once. The values are split across
+ * as few queries as the maximum length of a query allows. When more than one
+ * query is needed, the number of queries in flight for the tenant is limited
+ * by an {@link AdaptiveConcurrencyLimit}.
+ */
 public class CqlIndexValuesFinder<T> implements FindWithMultipleCqlIndexValues<T> {
-  private static final int DEFAULT_MAX_ID_VALUES_PER_CQL_SEARCH_QUERY = 50;
+  // Leaves room for the rest of the request line within the 4 KB usually allowed for it
+  private static final int DEFAULT_MAX_ENCODED_QUERY_LENGTH = 3500;
 
   private final FindWithCqlQuery<T> cqlFinder;
   private final int maxValuesPerCqlSearchQuery;
+  private final int maxEncodedQueryLength;
 
   public CqlIndexValuesFinder(FindWithCqlQuery<T> cqlFinder,
-    int maxValuesPerCqlSearchQuery) {
+    int maxValuesPerCqlSearchQuery, int maxEncodedQueryLength) {
 
     this.cqlFinder = cqlFinder;
     this.maxValuesPerCqlSearchQuery = maxValuesPerCqlSearchQuery;
+    this.maxEncodedQueryLength = maxEncodedQueryLength;
+  }
+
+  public CqlIndexValuesFinder(FindWithCqlQuery<T> cqlFinder,
+    int maxValuesPerCqlSearchQuery) {
+
+    this(cqlFinder, maxValuesPerCqlSearchQuery, DEFAULT_MAX_ENCODED_QUERY_LENGTH);
   }
 
   public CqlIndexValuesFinder(FindWithCqlQuery<T> cqlFinder) {
-    this(cqlFinder, DEFAULT_MAX_ID_VALUES_PER_CQL_SEARCH_QUERY);
+    this(cqlFinder, Integer.MAX_VALUE);
   }
 
   @Override
@@ -78,20 +98,62 @@ public class CqlIndexValuesFinder<T> implements FindWithMultipleCqlIndexValues<T
   private List<Result<CqlQuery>> buildBatchQueriesByIndexName(MultipleCqlIndexValuesCriteria criteria) {
     val indexName = criteria.getIndexName();
     val indexOperator = criteria.getIndexOperator();
-    val values = criteria.getValues();
+    val values = new ArrayList<>(new LinkedHashSet<>(criteria.getValues()));
+    val maxValuesLength = maxEncodedQueryLength - encodedLength(indexName)
+      - criteria.getAndQuery().map(CqlQuery::encodedLength).orElse(0);
 
-    return partition(new ArrayList<>(values), maxValuesPerCqlSearchQuery)
+    return partition(values, maxValuesLength)
       .stream()
       .map(partitionedIds -> indexOperator.apply(indexName, partitionedIds))
       .collect(Collectors.toList());
   }
 
+  /**
+   * Each partition holds as many values as fit within the maximum length,
+   * but at least one value
+   */
+  private List<List<String>> partition(List<String> values, int maxValuesLength) {
+    final List<List<String>> partitions = new ArrayList<>();
+
+    List<String> partition = new ArrayList<>();
+    int partitionLength = 0;
+
+    for (String value : values) {
+      final int valueLength = encodedLength(value);
+
+      if (!partition.isEmpty() && (partition.size() >= maxValuesPerCqlSearchQuery
+        || partitionLength + valueLength > maxValuesLength)) {
+
+        partitions.add(partition);
+        partition = new ArrayList<>();
+        partitionLength = 0;
+      }
+
+      partition.add(value);
+      partitionLength += valueLength;
+    }
+
+    partitions.add(partition);
+
+    return partitions;
+  }
+
+  private static int encodedLength(String value) {
+    return value == null ? 0 : URLEncoder.encode(format("\"%s\" or ", value), UTF_8).length();
+  }
+
   private CompletableFuture<Result<MultipleRecords<T>>> findByBatchQueries(
     List<Result<CqlQuery>> queries) {
 
     // NOTE: query limit is max value to ensure all records are returned
+    if (queries.size() == 1) {
+      return cqlFinder.findByQuery(queries.get(0), maximumLimit());
+    }
+
+    final var concurrencyLimit = AdaptiveConcurrencyLimit.forTenant(cqlFinder.getTenantId());
+
     List<CompletableFuture<Result<MultipleRecords<T>>>> results = queries.stream()
-      .map(query -> cqlFinder.findByQuery(query, maximumLimit()))
+      .map(query -> concurrencyLimit.run(() -> cqlFinder.findByQuery(query, maximumLimit())))
       .collect(Collectors.toList());
 
     return CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
@@ -43,6 +43,11 @@ public class CqlQueryFinder<T> implements FindWithCqlQuery<T> {
       .thenApply(result -> result.next(this::mapToRecords));
   }
 
+  @Override
+  public String getTenantId() {
+    return client.getTenantId();
+  }
+
   private Result<MultipleRecords<T>> mapToRecords(Response response) {
     return MultipleRecords.from(response, recordMapper, recordsPropertyName);
   }
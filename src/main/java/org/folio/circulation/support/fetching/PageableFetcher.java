@@ -1,13 +1,20 @@
 package org.folio.circulation.support.fetching;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.Environment.getPageableFetcherPrefetchPages;
 import static org.folio.circulation.support.http.client.Offset.zeroOffset;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.ServerErrorFailure;
@@ -16,57 +23,176 @@ import org.folio.circulation.support.http.client.Offset;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.results.Result;
 
-import lombok.AllArgsConstructor;
-
-@AllArgsConstructor
+/**
+ * Fetches all of the records matching a query page by page and hands each
+ * page to a processor before continuing with the next one.
+ * <p>
+ * By default pages are fetched by growing offset. When created using
+ * {@link #byId(GetManyRecordsRepository, Function)}, pages are fetched by ID
+ * instead, which keeps the cost of fetching a page the same regardless of its
+ * position and is not affected by processing changing which records match the
+ * query. The next pages are then fetched while the current one is processed.
+ */
 public final class PageableFetcher<T> {
   private static final Logger log = LogManager.getLogger(PageableFetcher.class);
 
-  // This limit needed to prevent stack overflow for recursive fetch
+  // Pages are processed iteratively, this limit only guards against runaway processing
   private static final int DEFAULT_MAX_ALLOWED_RECORDS_LIMIT = 1_000_000;
   private static final PageLimit DEFAULT_PAGE_SIZE_LIMIT = limit(500);
+  private static final String ID_INDEX = "id";
 
   private final GetManyRecordsRepository<T> repository;
   private final PageLimit pageSize;
   private final int maxAllowedRecordsToFetchLimit;
+  private final Function<T, String> idMapper;
+  private final int prefetchPages;
 
   public PageableFetcher(GetManyRecordsRepository<T> repository) {
     this(repository, DEFAULT_PAGE_SIZE_LIMIT, DEFAULT_MAX_ALLOWED_RECORDS_LIMIT);
   }
 
+  public PageableFetcher(GetManyRecordsRepository<T> repository, PageLimit pageSize,
+    int maxAllowedRecordsToFetchLimit) {
+
+    this(repository, pageSize, maxAllowedRecordsToFetchLimit, null, 0);
+  }
+
+  /**
+   * @param idMapper - gets the ID of a record, the last ID on a page is where the next page starts
+   * @param prefetchPages - number of pages fetched ahead of the page being processed
+   */
+  public PageableFetcher(GetManyRecordsRepository<T> repository, PageLimit pageSize,
+    int maxAllowedRecordsToFetchLimit, Function<T, String> idMapper, int prefetchPages) {
+
+    this.repository = repository;
+    this.pageSize = pageSize;
+    this.maxAllowedRecordsToFetchLimit = maxAllowedRecordsToFetchLimit;
+    this.idMapper = idMapper;
+    this.prefetchPages = prefetchPages;
+  }
+
+  public static <T> PageableFetcher<T> byId(GetManyRecordsRepository<T> repository,
+    Function<T, String> idMapper) {
+
+    return new PageableFetcher<>(repository, DEFAULT_PAGE_SIZE_LIMIT,
+      DEFAULT_MAX_ALLOWED_RECORDS_LIMIT, idMapper, getPageableFetcherPrefetchPages());
+  }
+
+  /**
+   * Fetches pages by ID, each page only once the previous one has been processed
+   */
+  public static <T> PageableFetcher<T> byId(GetManyRecordsRepository<T> repository,
+    PageLimit pageSize, Function<T, String> idMapper) {
+
+    return new PageableFetcher<>(repository, pageSize, DEFAULT_MAX_ALLOWED_RECORDS_LIMIT,
+      idMapper, 0);
+  }
+
   public CompletableFuture<Result<Void>> processPages(CqlQuery query, PageProcessor<T> pageProcessor) {
-    return processPagesRecursively(query, pageProcessor, zeroOffset(), 0);
+    final Pages pages = idMapper == null
+      ? new PagesByOffset(query)
+      : new PagesById(query);
+
+    return repeat(() -> processNextPage(pages, pageProcessor));
   }
 
-  private CompletableFuture<Result<Void>> processPagesRecursively(CqlQuery query,
-    PageProcessor<T> pageProcessor, Offset currentOffset, int recordsFetchedOnPreviousIteration) {
+  /**
+   * @return whether there are more pages to process
+   */
+  private CompletableFuture<Result<Boolean>> processNextPage(Pages pages,
+    PageProcessor<T> pageProcessor) {
 
-    return repository.getMany(query, pageSize, currentOffset)
+    return pages.next()
       .thenCompose(r -> r.after(records -> pageProcessor.processPage(records)
-          .thenCompose(processResult -> processResult.after(unused -> {
-            final int recordsFetchedSoFar = recordsFetchedOnPreviousIteration + records.size();
+        .thenApply(processResult -> processResult.next(unused -> {
+          final int recordsFetchedSoFar = pages.recordsFetched();
+
+          if (hasFetchedAllPages(records)) {
+            log.info("All pages have been fetched, total records fetched {}", recordsFetchedSoFar);
+
+            return succeeded(false);
+          } else if (hasReachedRecordsLimit(recordsFetchedSoFar)) {
+            log.warn("Terminating fetching because records limit in {} has been reached",
+              maxAllowedRecordsToFetchLimit);
+
+            return itemCountLimitHasBeenReached();
+          } else {
+            return succeeded(true);
+          }
+        }))));
+  }
+
+  /**
+   * Runs the step until it no longer asks to continue. Steps which complete
+   * straight away are run in a loop, so the stack does not grow with the
+   * number of pages.
+   */
+  private static CompletableFuture<Result<Void>> repeat(
+    Supplier<CompletableFuture<Result<Boolean>>> step) {
+
+    final CompletableFuture<Result<Void>> completed = new CompletableFuture<>();
+
+    runSteps(step, completed);
+
+    return completed;
+  }
+
+  private static void runSteps(Supplier<CompletableFuture<Result<Boolean>>> step,
+    CompletableFuture<Result<Void>> completed) {
+
+    while (true) {
+      final CompletableFuture<Result<Boolean>> stepResult = step.get();
+
+      if (!stepResult.isDone()) {
+        stepResult.whenComplete((result, throwable) -> {
+          if (shouldContinue(result, throwable, completed)) {
+            runSteps(step, completed);
+          }
+        });
+
+        return;
+      }
+
+      Result<Boolean> result;
+
+      try {
+        result = stepResult.join();
+      } catch (CompletionException e) {
+        completed.completeExceptionally(e.getCause());
+        return;
+      }
+
+      if (!shouldContinue(result, null, completed)) {
+        return;
+      }
+    }
+  }
+
+  private static boolean shouldContinue(Result<Boolean> result, Throwable throwable,
+    CompletableFuture<Result<Void>> completed) {
 
-            if (hasFetchedAllPages(records)) {
-              log.info("All pages have been fetched, total records fetched {}", recordsFetchedSoFar);
+    if (throwable != null) {
+      completed.completeExceptionally(throwable);
+      return false;
+    }
 
-              return completedFuture(processResult);
-            } else if (hasReachedRecordsLimit(recordsFetchedSoFar)) {
-              log.warn("Terminating fetching because records limit in {} has been reached",
-                maxAllowedRecordsToFetchLimit);
+    if (result.failed()) {
+      completed.complete(failed(result.cause()));
+      return false;
+    }
 
-              return itemCountLimitHasBeenReached();
-            } else {
-              final var nextOffset = currentOffset.nextPage(pageSize);
-              return processPagesRecursively(query, pageProcessor, nextOffset, recordsFetchedSoFar);
-            }
-          }))
-      ));
+    if (!result.value()) {
+      completed.complete(succeeded(null));
+      return false;
+    }
+
+    return true;
   }
 
-  private CompletableFuture<Result<Void>> itemCountLimitHasBeenReached() {
-    return completedFuture(failed(new ServerErrorFailure(
+  private Result<Boolean> itemCountLimitHasBeenReached() {
+    return failed(new ServerErrorFailure(
       "Maximum allowed item count is set to " + maxAllowedRecordsToFetchLimit
-        + " and it has been reached")));
+        + " and it has been reached"));
   }
 
   private boolean hasReachedRecordsLimit(int recordFetchedSoFar) {
@@ -80,4 +206,84 @@ public final class PageableFetcher<T> {
 
     return latestPage.size() < pageSize.getLimit();
   }
+
+  private abstract class Pages {
+    private int recordsFetched;
+
+    protected abstract CompletableFuture<Result<MultipleRecords<T>>> fetchNext();
+
+    CompletableFuture<Result<MultipleRecords<T>>> next() {
+      return fetchNext()
+        .thenApply(r -> r.peek(records -> recordsFetched += records.size()));
+    }
+
+    int recordsFetched() {
+      return recordsFetched;
+    }
+  }
+
+  private final class PagesByOffset extends Pages {
+    private final CqlQuery query;
+    private Offset nextOffset = zeroOffset();
+
+    private PagesByOffset(CqlQuery query) {
+      this.query = query;
+    }
+
+    @Override
+    protected CompletableFuture<Result<MultipleRecords<T>>> fetchNext() {
+      final Offset offset = nextOffset;
+      nextOffset = offset.nextPage(pageSize);
+
+      return repository.getMany(query, pageSize, offset);
+    }
+  }
+
+  /**
+   * Each page starts after the last ID on the previous one, so a page can be
+   * requested as soon as the previous one has arrived
+   */
+  private final class PagesById extends Pages {
+    private final CqlQuery query;
+    private final Deque<CompletableFuture<Result<MultipleRecords<T>>>> requestedPages =
+      new ArrayDeque<>();
+    private CompletableFuture<Result<MultipleRecords<T>>> lastRequestedPage;
+
+    private PagesById(CqlQuery query) {
+      this.query = query;
+    }
+
+    @Override
+    protected CompletableFuture<Result<MultipleRecords<T>>> fetchNext() {
+      while (requestedPages.size() <= prefetchPages) {
+        lastRequestedPage = requestPageAfter(lastRequestedPage);
+        requestedPages.add(lastRequestedPage);
+      }
+
+      return requestedPages.poll();
+    }
+
+    private CompletableFuture<Result<MultipleRecords<T>>> requestPageAfter(
+      CompletableFuture<Result<MultipleRecords<T>>> previousPage) {
+
+      if (previousPage == null) {
+        return fetchPageStartingAfter(null);
+      }
+
+      return previousPage.thenCompose(r -> r.after(records -> hasFetchedAllPages(records)
+        ? completedFuture(succeeded(MultipleRecords.empty()))
+        : fetchPageStartingAfter(lastId(records))));
+    }
+
+    private CompletableFuture<Result<MultipleRecords<T>>> fetchPageStartingAfter(String id) {
+      return repository.getMany(query.startingAfter(ID_INDEX, id), pageSize, zeroOffset());
+    }
+
+    private String lastId(MultipleRecords<T> records) {
+      return records.getRecords().stream()
+        .reduce((first, second) -> second)
+        .map(idMapper)
+        .orElse(null);
+    }
+  }
 }
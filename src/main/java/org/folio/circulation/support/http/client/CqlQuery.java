@@ -26,6 +26,8 @@ import org.apache.logging.log4j.Logger;
 public class CqlQuery implements QueryParameter {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
+  private static final String MATCH_ALL_RECORDS = "cql.allRecords=1";
+
   private final String query;
   private final CqlSortBy sortBy;
 
@@ -133,6 +135,27 @@ public class CqlQuery implements QueryParameter {
     return new CqlQuery(query, sortBy);
   }
 
+  /**
+   * Restricts the query to the records following the value of the index and
+   * orders them by that index, allows paging through a large number of records
+   * without an offset
+   *
+   * @param value - last value of the index on the previous page, null for the first page
+   */
+  public CqlQuery startingAfter(String index, String value) {
+    final CqlSortBy byIndex = CqlSortBy.ascending(index);
+
+    if (value == null) {
+      return new CqlQuery(StringUtils.defaultIfBlank(query, MATCH_ALL_RECORDS), byIndex);
+    }
+
+    final String afterValue = format("%s>\"%s\"", index, value);
+
+    return StringUtils.isBlank(query)
+      ? new CqlQuery(afterValue, byIndex)
+      : new CqlQuery(format("(%s) and %s", query, afterValue), byIndex);
+  }
+
   public Result<String> encode() {
     final String sortedQuery = asText();
 
@@ -141,6 +164,13 @@ public class CqlQuery implements QueryParameter {
     return of(() -> URLEncoder.encode(sortedQuery, valueOf(UTF_8)));
   }
 
+  /**
+   * Length of the query once encoded as a query string parameter
+   */
+  public int encodedLength() {
+    return URLEncoder.encode(asText(), UTF_8).length();
+  }
+
   String asText() {
     return sortBy.applyTo(query);
   }
@@ -40,4 +40,11 @@ public interface OkapiHttpClient {
 
   CompletableFuture<Result<Response>> delete(String url,
       Duration timeout, QueryParameter... queryParameters);
+
+  /**
+   * @return the tenant the requests are made on behalf of, null when not known
+   */
+  default String getTenantId() {
+    return null;
+  }
 }
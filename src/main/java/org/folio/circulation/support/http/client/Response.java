@@ -3,6 +3,8 @@ package org.folio.circulation.support.http.client;
 import static io.vertx.core.MultiMap.caseInsensitiveMultiMap;
 import static java.lang.String.format;
 
+import java.util.Optional;
+
 import org.apache.commons.lang3.StringUtils;
 import org.folio.circulation.support.http.ContentType;
 
@@ -12,12 +14,20 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.HttpResponse;
 import lombok.val;
 
+/**
+ * Response received from another module.
+ * <p>
+ * The body received over HTTP is kept as it arrived, it is only decoded
+ * to a string or parsed to JSON when needed and at most once.
+ */
 public class Response {
-  protected final String body;
+  private final Buffer bodyBuffer;
   private final int statusCode;
   private final String contentType;
   private final MultiMap headers;
   private final String fromUrl;
+  private String body;
+  private JsonObject json;
 
   public Response(int statusCode, String body, String contentType) {
     this(statusCode, body, contentType, caseInsensitiveMultiMap(), null);
@@ -26,7 +36,14 @@ public class Response {
   public Response(int statusCode, String body, String contentType,
     MultiMap headers, String fromUrl) {
 
+    this(statusCode, null, body, contentType, headers, fromUrl);
+  }
+
+  private Response(int statusCode, Buffer bodyBuffer, String body,
+    String contentType, MultiMap headers, String fromUrl) {
+
     this.statusCode = statusCode;
+    this.bodyBuffer = bodyBuffer;
     this.body = body;
     this.contentType = contentType;
     this.headers = headers;
@@ -38,11 +55,15 @@ public class Response {
 
     headers.addAll(response.headers());
 
-    return new Response(response.statusCode(), response.bodyAsString(),
+    return new Response(response.statusCode(), response.body(), null,
       headers.get(ContentType.CONTENT_TYPE), headers, url);
   }
 
   public boolean hasBody() {
+    if (body == null && bodyBuffer != null) {
+      return !isBlank(bodyBuffer);
+    }
+
     return StringUtils.isNotBlank(getBody());
   }
 
@@ -51,16 +72,33 @@ public class Response {
   }
 
   public String getBody() {
+    if (body == null && bodyBuffer != null) {
+      body = bodyBuffer.toString();
+    }
+
     return body;
   }
 
+  /**
+   * The body is parsed the first time it is needed, the same object is
+   * returned by each call
+   */
   public JsonObject getJson() {
-    if(hasBody()) {
-      return new JsonObject(getBody());
-    }
-    else {
-      return new JsonObject();
+    if (json == null) {
+      json = parseJson();
     }
+
+    return json;
+  }
+
+  /**
+   * The body as it was received, when it has not been parsed yet. Allows
+   * reading a large body without building a {@link JsonObject} for all of it.
+   */
+  public Optional<Buffer> getUnparsedBody() {
+    return json == null && hasBody()
+      ? Optional.ofNullable(bodyBuffer)
+      : Optional.empty();
   }
 
   public String getContentType() {
@@ -75,6 +113,26 @@ public class Response {
     return fromUrl;
   }
 
+  private JsonObject parseJson() {
+    if (!hasBody()) {
+      return new JsonObject();
+    }
+
+    return body == null && bodyBuffer != null
+      ? bodyBuffer.toJsonObject()
+      : new JsonObject(getBody());
+  }
+
+  private static boolean isBlank(Buffer buffer) {
+    for (int index = 0; index < buffer.length(); index++) {
+      if (!Character.isWhitespace(buffer.getByte(index))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
   @Override
   public String toString() {
     return format(
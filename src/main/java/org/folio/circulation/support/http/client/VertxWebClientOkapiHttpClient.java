@@ -17,6 +17,7 @@ import java.util.stream.Stream;
 
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.async.ContextBoundFuture;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.vertx.core.AsyncResult;
@@ -59,6 +60,11 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     this.requestId = requestId;
   }
 
+  @Override
+  public String getTenantId() {
+    return tenantId;
+  }
+
   @Override
   public CompletableFuture<Result<Response>> post(URL url, JsonObject body) {
     return post(url.toString(), body, DEFAULT_TIMEOUT);
@@ -74,7 +80,7 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     JsonObject body, Duration timeout) {
 
     final CompletableFuture<AsyncResult<HttpResponse<Buffer>>> futureResponse
-      = new CompletableFuture<>();
+      = ContextBoundFuture.onCurrentContext();
 
     final HttpRequest<Buffer> request = withStandardHeaders(
       webClient.requestAbs(HttpMethod.POST, url));
@@ -92,7 +98,7 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     Duration timeout, QueryParameter... queryParameters) {
 
     final CompletableFuture<AsyncResult<HttpResponse<Buffer>>> futureResponse
-      = new CompletableFuture<>();
+      = ContextBoundFuture.onCurrentContext();
 
     final HttpRequest<Buffer> request = withStandardHeaders(
       webClient.requestAbs(HttpMethod.GET, url));
@@ -137,7 +143,7 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     Duration timeout) {
 
     final CompletableFuture<AsyncResult<HttpResponse<Buffer>>> futureResponse
-      = new CompletableFuture<>();
+      = ContextBoundFuture.onCurrentContext();
 
     final HttpRequest<Buffer> request = withStandardHeaders(
       webClient.requestAbs(HttpMethod.PUT, url));
@@ -169,7 +175,7 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     Duration timeout, QueryParameter... queryParameters) {
 
     final CompletableFuture<AsyncResult<HttpResponse<Buffer>>> futureResponse
-      = new CompletableFuture<>();
+      = ContextBoundFuture.onCurrentContext();
 
     final HttpRequest<Buffer> request = withStandardHeaders(
       webClient.requestAbs(HttpMethod.DELETE, url));
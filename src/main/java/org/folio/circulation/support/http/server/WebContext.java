@@ -10,6 +10,7 @@ import static org.folio.circulation.support.http.OkapiHeader.USER_ID;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.folio.circulation.support.InvalidOkapiLocationException;
 import org.folio.circulation.support.http.client.OkapiHttpClient;
@@ -20,6 +21,10 @@ import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.RoutingContext;
 
 public class WebContext {
+  // URLs are immutable and requests usually come from the same Okapi, so are shared
+  private static final int MAXIMUM_OKAPI_BASED_URLS = 1000;
+  private static final Map<String, URL> okapiBasedUrls = new ConcurrentHashMap<>();
+
   private final RoutingContext routingContext;
 
   public WebContext(RoutingContext routingContext) {
@@ -69,10 +74,26 @@ public class WebContext {
   }
 
   public URL getOkapiBasedUrl(String path) throws MalformedURLException {
-    URL currentRequestUrl = new URL(getOkapiLocation());
+    final String okapiLocation = getOkapiLocation();
+    final String key = okapiLocation + path;
+    final URL cachedUrl = okapiBasedUrls.get(key);
+
+    if (cachedUrl != null) {
+      return cachedUrl;
+    }
+
+    URL currentRequestUrl = new URL(okapiLocation);
 
-    return new URL(currentRequestUrl.getProtocol(), currentRequestUrl.getHost(),
+    final URL url = new URL(currentRequestUrl.getProtocol(), currentRequestUrl.getHost(),
       currentRequestUrl.getPort(), path);
+
+    if (okapiBasedUrls.size() >= MAXIMUM_OKAPI_BASED_URLS) {
+      okapiBasedUrls.clear();
+    }
+
+    okapiBasedUrls.put(key, url);
+
+    return url;
   }
 
   public OkapiHttpClient createHttpClient(HttpClient httpClient) {
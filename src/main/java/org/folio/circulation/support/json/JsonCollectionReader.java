@@ -0,0 +1,86 @@
+package org.folio.circulation.support.json;
+
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.DatabindCodec;
+import io.vertx.core.json.jackson.JacksonCodec;
+
+/**
+ * Reads a collection of records, e.g. a page of items from storage, one record
+ * at a time without building a {@link JsonObject} for the whole collection.
+ */
+public class JsonCollectionReader {
+  private static final TypeReference<Map<String, Object>> RECORD_TYPE = new TypeReference<>() { };
+
+  private JsonCollectionReader() { }
+
+  /**
+   * Entries of the array that are not objects are skipped, the same as
+   * {@link JsonObjectArrayPropertyFetcher#toStream(JsonObject, String)}
+   *
+   * @param recordConsumer receives each of the records in the order they appear
+   * @return the value of the total property, or null when it is not present
+   */
+  public static Integer readCollection(Buffer body, String recordsPropertyName,
+    String totalPropertyName, Consumer<JsonObject> recordConsumer) {
+
+    try (JsonParser parser = JacksonCodec.createParser(body)) {
+      if (parser.nextToken() != START_OBJECT) {
+        throw new DecodeException("Collection representation is not a JSON object");
+      }
+
+      Integer total = null;
+
+      while (parser.nextToken() == FIELD_NAME) {
+        final String propertyName = parser.currentName();
+        final JsonToken value = parser.nextToken();
+
+        if (propertyName.equals(recordsPropertyName) && value == START_ARRAY) {
+          readRecords(parser, recordConsumer);
+        } else if (propertyName.equals(totalPropertyName) && value.isNumeric()) {
+          total = parser.getIntValue();
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      return total;
+    }
+    catch (IOException e) {
+      throw new DecodeException("Failed to decode: " + e.getMessage(), e);
+    }
+  }
+
+  private static void readRecords(JsonParser parser, Consumer<JsonObject> recordConsumer)
+    throws IOException {
+
+    JsonToken entry;
+
+    while ((entry = parser.nextToken()) != END_ARRAY) {
+      if (entry == null) {
+        throw new DecodeException("Unexpected end of collection representation");
+      }
+
+      if (entry == START_OBJECT) {
+        recordConsumer.accept(new JsonObject(
+          DatabindCodec.mapper().readValue(parser, RECORD_TYPE)));
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+}
@@ -1,6 +1,6 @@
 package org.folio.circulation.support.results;
 
-import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.async.ContextBoundFuture.completedOnCurrentContext;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -37,7 +37,7 @@ public class AsynchronousResult<T> {
    * @return a new {@link org.folio.circulation.support.results.AsynchronousResult}
    */
   public static <T> AsynchronousResult<T> successful(T value) {
-    return new AsynchronousResult<>(completedFuture(Result.of(() -> value)));
+    return new AsynchronousResult<>(completedOnCurrentContext(Result.of(() -> value)));
   }
 
   /**
@@ -48,7 +48,7 @@ public class AsynchronousResult<T> {
    * @return a new {@link org.folio.circulation.support.results.AsynchronousResult}
    */
   public static <T> AsynchronousResult<T> failure(HttpFailure cause) {
-    return new AsynchronousResult<>(completedFuture(Result.failed(cause)));
+    return new AsynchronousResult<>(completedOnCurrentContext(Result.failed(cause)));
   }
 
   /**
@@ -1,17 +1,16 @@
 package org.folio.circulation.support.results;
 
-import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.folio.circulation.support.async.ContextBoundFuture.completedOnCurrentContext;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.folio.circulation.support.HttpFailure;
@@ -38,10 +37,11 @@ public interface Result<T> {
    * unless an exception is thrown
    *
    * @param supplier of the result value
-   * @return completed future with successful result or failed result with error
+   * @return completed future with successful result or failed result with error,
+   * bound to the Vert.x context of the calling thread when there is one
    */
   static <T> CompletableFuture<Result<T>> ofAsync(ThrowingSupplier<T, Exception> supplier) {
-    return completedFuture(of(supplier));
+    return completedOnCurrentContext(of(supplier));
   }
 
   /**
@@ -73,10 +73,19 @@ public interface Result<T> {
    */
   @SafeVarargs
   static <T> Result<List<T>> combineAll(List<Result<T>>... results) {
-    return Stream.of(results).flatMap(Collection::stream)
-      .map(r -> r.map(Stream::of))
-      .reduce(of(Stream::empty), Result::combineResultStream)
-      .map(stream -> stream.collect(Collectors.toList()));
+    final List<T> values = new ArrayList<>();
+
+    for (List<Result<T>> resultList : results) {
+      for (Result<T> result : resultList) {
+        if (result.failed()) {
+          return failed(result.cause());
+        }
+
+        values.add(result.value());
+      }
+    }
+
+    return succeeded(values);
   }
 
   /**
@@ -178,8 +187,8 @@ public interface Result<T> {
     Function<T, HttpFailure> failure) {
 
     return after(MappingFunctions.when(condition,
-      value -> completedFuture(failed(failure.apply(value))),
-      value -> completedFuture(succeeded(value))));
+      value -> completedOnCurrentContext(failed(failure.apply(value))),
+      value -> completedOnCurrentContext(succeeded(value))));
   }
 
   /**
@@ -264,14 +273,14 @@ public interface Result<T> {
     Function<T, CompletableFuture<Result<R>>> action) {
 
     if(failed()) {
-      return completedFuture(failed(cause()));
+      return completedOnCurrentContext(failed(cause()));
     }
 
     try {
       return action.apply(value())
         .exceptionally(CommonFailures::failedDueToServerError);
     } catch (Exception e) {
-      return completedFuture(failedDueToServerError(e));
+      return completedOnCurrentContext(failedDueToServerError(e));
     }
   }
 
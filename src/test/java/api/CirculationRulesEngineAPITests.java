@@ -7,6 +7,7 @@ import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.StringContains.containsString;
 
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.folio.circulation.rules.Campus;
 import org.folio.circulation.rules.Institution;
@@ -363,6 +364,54 @@ class CirculationRulesEngineAPITests extends APITests {
     assertThat(applyRequestPolicy(itemType, loanType, patronGroup, locationThatDoesNotExist), is(rp2));
   }
 
+  @Test
+  void canDetermineAllPolicyTypesForBatch() {
+    setRules(rulesWithInstitution);
+
+    JsonArray matches = circulationRulesFixture.applyRulesForBatch(new JsonObject()
+      .put("criteria", new JsonArray()
+        .add(criteria(m1, t2, g2, s2))
+        .add(criteria(m2, t2, g2, s2))
+        .add(criteria(m1, t2, g2, s1))
+        .add(criteria(m1, t2, g2, s2))));
+
+    assertThat(matches.size(), is(3));
+
+    matchesAllPolicies(matches.getJsonObject(0), m1, s2, lp2, rp1, np1, op1, lip1);
+    matchesAllPolicies(matches.getJsonObject(1), m2, s2, lp3, rp2, np2, op1, lip1);
+    matchesAllPolicies(matches.getJsonObject(2), m1, s1, lp4, rp2, np2, op2, lip2);
+    assertThat(matches.getJsonObject(1).getJsonObject("appliedRuleConditions")
+      .getBoolean("materialTypeMatch"), is(true));
+  }
+
+  @Test
+  void batchWithInvalidCriteriaIsRejected() {
+    setRules(rulesFallback);
+
+    final Response response = circulationRulesFixture.attemptToApplyRulesForBatch(
+      new JsonObject().put("criteria", new JsonArray()
+        .add(criteria(m1, t1, g1, s1))
+        .add(criteria(m1, t1, g1, s1).put("locationId", "not-a-uuid"))), 422);
+
+    assertThat(response.getBody(), containsString("criteria[1].locationId"));
+  }
+
+  @Test
+  void batchWithTooManyCriteriaIsRejected() {
+    setRules(rulesFallback);
+
+    final JsonArray criteria = new JsonArray();
+
+    IntStream.rangeClosed(0, 1000).forEach(i -> criteria.add(criteria(m1, t1, g1, s1)));
+
+    final Response response = circulationRulesFixture.attemptToApplyRulesForBatch(
+      new JsonObject().put("criteria", criteria), 422);
+
+    assertThat(response.getBody(),
+      containsString("No more than 1000 criteria can be applied at once"));
+    assertThat(response.getBody(), containsString("\"criteria\""));
+  }
+
   @Test
   void setRulesInvalidatesCache() {
     setRules(rulesFallback);
@@ -407,6 +456,29 @@ class CirculationRulesEngineAPITests extends APITests {
       patronGroup, location);
   }
 
+  private JsonObject criteria(ItemType itemType, LoanType loanType,
+    PatronGroup patronGroup, ItemLocation location) {
+
+    return new JsonObject()
+      .put("itemTypeId", itemType.id)
+      .put("loanTypeId", loanType.id)
+      .put("patronTypeId", patronGroup.id)
+      .put("locationId", location.id);
+  }
+
+  private void matchesAllPolicies(JsonObject match, ItemType itemType,
+    ItemLocation location, Policy loanPolicy, Policy requestPolicy, Policy noticePolicy,
+    Policy overduePolicy, Policy lostItemPolicy) {
+
+    assertThat(match.getString("itemTypeId"), is(itemType.id));
+    assertThat(match.getString("locationId"), is(location.id));
+    assertThat(match.getString("loanPolicyId"), is(loanPolicy.id));
+    assertThat(match.getString("requestPolicyId"), is(requestPolicy.id));
+    assertThat(match.getString("noticePolicyId"), is(noticePolicy.id));
+    assertThat(match.getString("overdueFinePolicyId"), is(overduePolicy.id));
+    assertThat(match.getString("lostItemPolicyId"), is(lostItemPolicy.id));
+  }
+
   private void matchesLoanPolicy(JsonArray array, int match, Policy policy,
       int line) {
 
@@ -0,0 +1,104 @@
+package api.loans;
+
+import static api.support.matchers.ItemMatchers.isAvailable;
+import static api.support.matchers.ItemMatchers.isAwaitingPickup;
+import static api.support.matchers.LoanMatchers.isClosed;
+import static api.support.matchers.RequestMatchers.hasPosition;
+import static api.support.matchers.RequestMatchers.isOpenAwaitingPickup;
+import static api.support.matchers.ValidationErrorMatchers.hasErrorWith;
+import static api.support.matchers.ValidationErrorMatchers.hasMessage;
+import static org.folio.circulation.domain.RequestType.HOLD;
+import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
+import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import api.support.APITests;
+import api.support.http.ItemResource;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class CheckInByBarcodeBatchTests extends APITests {
+  @Test
+  void canCheckInManyItems() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var nod = itemsFixture.basedUponNod();
+    final var steve = usersFixture.steve();
+
+    checkOutFixture.checkOutByBarcode(smallAngryPlanet, steve);
+    checkOutFixture.checkOutByBarcode(nod, steve);
+
+    final var response = checkInFixture.checkInByBarcodeBatch(checkInRequest(
+      smallAngryPlanet.getBarcode(), nod.getBarcode()));
+
+    final JsonArray checkIns = response.getJson().getJsonArray("checkIns");
+
+    assertThat(checkIns.size(), is(2));
+
+    for (int i = 0; i < checkIns.size(); i++) {
+      assertThat(checkIns.getJsonObject(i).getJsonObject("response").getJsonObject("loan"),
+        isClosed());
+    }
+
+    assertThat(itemsClient.get(smallAngryPlanet).getJson(), isAvailable());
+    assertThat(itemsClient.get(nod).getJson(), isAvailable());
+  }
+
+  @Test
+  void itemThatCannotBeCheckedInDoesNotPreventOthersBeingCheckedIn() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+
+    checkOutFixture.checkOutByBarcode(smallAngryPlanet, usersFixture.steve());
+
+    final var response = checkInFixture.checkInByBarcodeBatch(checkInRequest(
+      "unknown-barcode", smallAngryPlanet.getBarcode()));
+
+    final JsonArray checkIns = response.getJson().getJsonArray("checkIns");
+
+    assertThat(checkIns.getJsonObject(0), hasErrorWith(
+      hasMessage("No item with barcode unknown-barcode exists")));
+    assertThat(checkIns.getJsonObject(1).getJsonObject("response").getJsonObject("loan"),
+      isClosed());
+  }
+
+  @Test
+  void itemsOfSameTitleAreCheckedInOneAfterTheOther() {
+    settingsFixture.enableTlrFeature();
+    final List<ItemResource> items = itemsFixture.createMultipleItemsForTheSameInstance(2);
+    final var firstItem = items.get(0);
+    final var secondItem = items.get(1);
+
+    checkOutFixture.checkOutByBarcode(firstItem, usersFixture.jessica());
+    checkOutFixture.checkOutByBarcode(secondItem, usersFixture.james());
+
+    final var request = requestsFixture.placeTitleLevelRequest(HOLD,
+      firstItem.getInstanceId(), usersFixture.steve());
+
+    final var response = checkInFixture.checkInByBarcodeBatch(checkInRequest(
+      firstItem.getBarcode(), secondItem.getBarcode()));
+
+    final JsonArray checkIns = response.getJson().getJsonArray("checkIns");
+
+    assertThat(checkIns.getJsonObject(0).getJsonObject("response").getJsonObject("item"),
+      isAwaitingPickup());
+    assertThat(checkIns.getJsonObject(1).getJsonObject("response").getJsonObject("item"),
+      isAvailable());
+
+    final JsonObject fulfilledRequest = requestsFixture.getById(request.getId()).getJson();
+
+    assertThat(fulfilledRequest, allOf(isOpenAwaitingPickup(), hasPosition(1)));
+    assertThat(fulfilledRequest.getString("itemId"), is(firstItem.getId().toString()));
+  }
+
+  private JsonObject checkInRequest(String... itemBarcodes) {
+    return new JsonObject()
+      .put("servicePointId", servicePointsFixture.cd1().getId().toString())
+      .put("checkInDate", formatDateTime(getZonedDateTime()))
+      .put("itemBarcodes", new JsonArray(List.of(itemBarcodes)));
+  }
+}
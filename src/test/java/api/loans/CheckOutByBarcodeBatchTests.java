@@ -0,0 +1,97 @@
+package api.loans;
+
+import static api.support.matchers.ItemMatchers.isCheckedOut;
+import static api.support.matchers.LoanMatchers.isOpen;
+import static api.support.matchers.ValidationErrorMatchers.hasErrorWith;
+import static api.support.matchers.ValidationErrorMatchers.hasMessage;
+import static api.support.matchers.ValidationErrorMatchers.hasParameter;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import org.junit.jupiter.api.Test;
+
+import api.support.APITests;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class CheckOutByBarcodeBatchTests extends APITests {
+  @Test
+  void canCheckOutManyItemsToSamePatron() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var nod = itemsFixture.basedUponNod();
+    final var steve = usersFixture.steve();
+
+    final var response = checkOutFixture.checkOutByBarcodeBatch(new JsonObject()
+      .put("userBarcode", steve.getBarcode())
+      .put("servicePointId", servicePointsFixture.cd1().getId().toString())
+      .put("itemBarcodes", new JsonArray()
+        .add(smallAngryPlanet.getBarcode())
+        .add(nod.getBarcode())));
+
+    final JsonArray checkOuts = response.getJson().getJsonArray("checkOuts");
+
+    assertThat(checkOuts.size(), is(2));
+
+    for (int i = 0; i < checkOuts.size(); i++) {
+      final JsonObject loan = checkOuts.getJsonObject(i).getJsonObject("response");
+
+      assertThat(loan, isOpen());
+      assertThat(loan.getString("userId"), is(steve.getId().toString()));
+    }
+
+    assertThat(checkOuts.getJsonObject(0).getString("itemBarcode"),
+      is(smallAngryPlanet.getBarcode()));
+    assertThat(itemsClient.get(smallAngryPlanet).getJson(), isCheckedOut());
+    assertThat(itemsClient.get(nod).getJson(), isCheckedOut());
+  }
+
+  @Test
+  void itemThatCannotBeCheckedOutDoesNotPreventOthersBeingCheckedOut() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var steve = usersFixture.steve();
+
+    final var response = checkOutFixture.checkOutByBarcodeBatch(new JsonObject()
+      .put("userBarcode", steve.getBarcode())
+      .put("servicePointId", servicePointsFixture.cd1().getId().toString())
+      .put("itemBarcodes", new JsonArray()
+        .add("unknown-barcode")
+        .add(smallAngryPlanet.getBarcode())));
+
+    final JsonArray checkOuts = response.getJson().getJsonArray("checkOuts");
+
+    assertThat(checkOuts.getJsonObject(0), hasErrorWith(
+      hasMessage("No item with barcode unknown-barcode could be found")));
+    assertThat(checkOuts.getJsonObject(1).getJsonObject("response"), isOpen());
+    assertThat(itemsClient.get(smallAngryPlanet).getJson(), isCheckedOut());
+  }
+
+  @Test
+  void cannotCheckOutWithoutItemBarcodes() {
+    final var steve = usersFixture.steve();
+
+    final var response = checkOutFixture.attemptCheckOutByBarcodeBatch(new JsonObject()
+      .put("userBarcode", steve.getBarcode())
+      .put("servicePointId", servicePointsFixture.cd1().getId().toString())
+      .put("itemBarcodes", new JsonArray()));
+
+    assertThat(response.getJson(), hasErrorWith(hasMessage("Item barcodes are required")));
+  }
+
+  @Test
+  void cannotCheckOutSameItemTwice() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var steve = usersFixture.steve();
+
+    final var response = checkOutFixture.attemptCheckOutByBarcodeBatch(new JsonObject()
+      .put("userBarcode", steve.getBarcode())
+      .put("servicePointId", servicePointsFixture.cd1().getId().toString())
+      .put("itemBarcodes", new JsonArray()
+        .add(smallAngryPlanet.getBarcode())
+        .add(smallAngryPlanet.getBarcode())));
+
+    assertThat(response.getJson(), hasErrorWith(allOf(
+      hasMessage("Each item barcode can only occur once"),
+      hasParameter("itemBarcodes[1]", smallAngryPlanet.getBarcode()))));
+  }
+}
@@ -6,6 +6,8 @@ import static api.support.matchers.ScheduledNoticeMatchers.hasScheduledLoanNotic
 import static api.support.utl.PatronNoticeTestHelper.verifyNumberOfPublishedEvents;
 import static api.support.utl.PatronNoticeTestHelper.verifyNumberOfScheduledNotices;
 import static api.support.utl.PatronNoticeTestHelper.verifyNumberOfSentNotices;
+import static io.vertx.core.http.HttpMethod.DELETE;
+import static io.vertx.core.http.HttpMethod.GET;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Comparator.comparing;
 import static org.folio.circulation.domain.representations.logs.LogEventType.NOTICE;
@@ -13,6 +15,7 @@ import static org.folio.circulation.domain.representations.logs.LogEventType.NOT
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getDateTimeProperty;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
 import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 
@@ -31,6 +34,7 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import api.support.builders.AddInfoRequestBuilder;
+import org.folio.Environment;
 import org.folio.circulation.domain.LoanStatus;
 import org.folio.circulation.domain.policy.Period;
 import org.folio.circulation.support.utils.ClockUtil;
@@ -50,6 +54,7 @@ import api.support.builders.NoticeConfigurationBuilder;
 import api.support.builders.NoticePolicyBuilder;
 import api.support.builders.UserBuilder;
 import api.support.fakes.FakeModNotify;
+import api.support.fakes.FakeStorageModule;
 import api.support.fakes.FakePubSub;
 import api.support.fixtures.ConfigurationExample;
 import api.support.fixtures.TemplateContextMatchers;
@@ -283,6 +288,20 @@ class DueDateScheduledNoticesProcessingTests extends APITests {
     verifyNumberOfPublishedEvents(NOTICE_ERROR, 0);
   }
 
+  @Test
+  void allDueNoticesAreProcessedWhenTimeBudgetIsSet() {
+    Environment.MOCK_ENV.put("SCHEDULED_NOTICES_PROCESSING_TIME_BUDGET_SECONDS", "60");
+    generateLoanAndScheduledNotices();
+
+    int numberOfNotices = 259;
+
+    createNotices(numberOfNotices);
+    scheduledNoticeProcessingClient.runLoanNoticesProcessing();
+
+    verifyNumberOfScheduledNotices(0);
+    verifyNumberOfPublishedEvents(NOTICE_ERROR, 0);
+  }
+
   @Test
   void testDefaultNumberOfProcessedNotices() {
     generateLoanAndScheduledNotices();
@@ -295,6 +314,33 @@ class DueDateScheduledNoticesProcessingTests extends APITests {
     verifyNumberOfPublishedEvents(NOTICE_ERROR, 0);
   }
 
+  @Test
+  void loansOfNoticesAreFetchedTogether() {
+    generateLoanAndScheduledNotices();
+
+    createNotices(SCHEDULED_NOTICES_PROCESSING_LIMIT);
+    FakeStorageModule.clearRequestsById();
+    scheduledNoticeProcessingClient.runLoanNoticesProcessing();
+
+    verifyNumberOfScheduledNotices(0);
+    assertThat(FakeStorageModule.getNumberOfRequestsById(GET, "/loan-storage/loans"), is(0));
+    assertThat(FakeStorageModule.getNumberOfRequestsById(GET, "/item-storage/items"), is(0));
+    assertThat(FakeStorageModule.getNumberOfRequestsById(GET, "/users"), is(0));
+  }
+
+  @Test
+  void irrelevantNoticesAreDeletedTogether() {
+    generateLoanAndScheduledNotices();
+
+    createNotices(SCHEDULED_NOTICES_PROCESSING_LIMIT);
+    FakeStorageModule.clearRequestsById();
+    scheduledNoticeProcessingClient.runLoanNoticesProcessing();
+
+    verifyNumberOfScheduledNotices(0);
+    assertThat(FakeStorageModule.getNumberOfRequestsById(DELETE,
+      "/scheduled-notice-storage/scheduled-notices"), is(0));
+  }
+
   @Test
   void testNoticeIsDeletedIfItHasNoLoanId() {
     generateLoanAndScheduledNotices();
@@ -1,9 +1,11 @@
 package api.requests;
 
 import static api.support.JsonCollectionAssistant.getRecordById;
+import static api.support.ReferenceDataEvents.publishUpdated;
 import static api.support.matchers.ItemMatchers.isInTransit;
 import static api.support.matchers.TextDateTimeMatcher.isEquivalentTo;
 import static java.time.ZoneOffset.UTC;
+import static org.folio.circulation.infrastructure.storage.inventory.ReferenceDataCache.ReferenceDataType.LOCATION;
 import static org.folio.circulation.support.StreamToListMapper.toList;
 import static org.folio.circulation.support.json.JsonStringArrayPropertyFetcher.toStream;
 import static org.hamcrest.CoreMatchers.hasItems;
@@ -493,9 +495,11 @@ class ItemsInTransitReportTests extends APITests {
     Response response = itemsClient.getById(item.getId());
     JsonObject checkedInItemJson = response.getJson();
     UUID permanentLocationId = UUID.fromString(checkedInItemJson.getString("permanentLocationId"));
-    JsonObject location = locationsClient.getById(permanentLocationId).getJson();
+    JsonObject originalLocation = locationsClient.getById(permanentLocationId).getJson();
+    JsonObject location = originalLocation.copy();
     location.putNull("primaryServicePoint");
     locationsClient.replace(permanentLocationId, location);
+    publishUpdated(LOCATION, originalLocation, location);
 
     List<JsonObject> itemsInTransitReport = ResourceClient.forItemsInTransitReport().getAll();
 
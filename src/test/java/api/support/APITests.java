@@ -27,6 +27,10 @@ import java.util.concurrent.TimeoutException;
 import api.support.fixtures.SearchInstanceFixture;
 
 import org.folio.Environment;
+import org.folio.circulation.infrastructure.storage.CalendarCache;
+import org.folio.circulation.infrastructure.storage.PolicyCache;
+import org.folio.circulation.infrastructure.storage.SettingsCache;
+import org.folio.circulation.infrastructure.storage.inventory.ReferenceDataCache;
 import org.junit.Assert;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -360,8 +364,15 @@ public abstract class APITests {
     FakeModNotify.clearSentPatronNotices();
     FakeModNotify.setFailPatronNoticesWithBadRequest(false);
     FakeStorageModule.cleanUpRequestMappings();
+    FakeStorageModule.clearRequestsById();
 
     Environment.MOCK_ENV.clear();
+    // storage does not publish changes to policies and settings, tests expect
+    // changes to be visible immediately
+    Environment.MOCK_ENV.put("POLICY_CACHE_TTL_SECONDS", "0");
+    Environment.MOCK_ENV.put("SETTINGS_CACHE_TTL_SECONDS", "0");
+    PolicyCache.reconfigure();
+    SettingsCache.reconfigure();
   }
 
   @AfterEach
@@ -369,6 +380,13 @@ public abstract class APITests {
   public final void baseTearDown() {
     forTenantStorage().deleteAll();
     scheduledNoticesClient.deleteAll();
+    ReferenceDataCache.getInstance().dropCache();
+    CalendarCache.getInstance().dropCache();
+    // unit tests run in the same JVM expect the caches to be configured as usual
+    Environment.MOCK_ENV.remove("POLICY_CACHE_TTL_SECONDS");
+    Environment.MOCK_ENV.remove("SETTINGS_CACHE_TTL_SECONDS");
+    PolicyCache.reconfigure();
+    SettingsCache.reconfigure();
 
     mockClockManagerToReturnDefaultDateTime();
   }
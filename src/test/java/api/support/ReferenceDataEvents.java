@@ -0,0 +1,36 @@
+package api.support;
+
+import static api.support.APITestContext.TENANT_ID;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.circulation.infrastructure.storage.inventory.ReferenceDataCache.ReferenceDataType;
+import org.folio.circulation.services.events.ReferenceDataChangedEventHandler;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.kafka.client.consumer.impl.KafkaConsumerRecordImpl;
+
+/**
+ * Inventory storage publishes changes to locations, libraries, campuses and
+ * institutions, the fake storage module does not. Tests that change them hand
+ * the event to the handler directly, so that the change is visible straight away.
+ */
+public class ReferenceDataEvents {
+  private ReferenceDataEvents() { }
+
+  public static void publishUpdated(ReferenceDataType type, JsonObject oldRecord,
+    JsonObject newRecord) {
+
+    final JsonObject event = new JsonObject()
+      .put("type", "UPDATE")
+      .put("tenant", TENANT_ID)
+      .put("old", oldRecord)
+      .put("new", newRecord);
+
+    new ReferenceDataChangedEventHandler(type)
+      .handle(new KafkaConsumerRecordImpl<>(new ConsumerRecord<>(type.name(), 0, 0,
+        newRecord.getString("id"), event.encode())))
+      .toCompletionStage()
+      .toCompletableFuture()
+      .join();
+  }
+}
@@ -22,6 +22,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -75,11 +77,20 @@ public class FakeStorageModule extends AbstractVerticle {
   private final List<BiFunction<JsonObject, JsonObject, JsonObject>> recordPreProcessors;
   private final Collection<String> additionalQueryParameters;
   private final static Map<Endpoint, HttpStatus> requestMappings = new HashMap<>();
+  private static final Map<String, AtomicInteger> requestsById = new ConcurrentHashMap<>();
 
   public static Stream<String> getQueries() {
     return queries.stream();
   }
 
+  public static int getNumberOfRequestsById(HttpMethod method, String rootPath) {
+    return requestsById.getOrDefault(method + " " + rootPath, new AtomicInteger()).get();
+  }
+
+  public static void clearRequestsById() {
+    requestsById.clear();
+  }
+
   FakeStorageModule(
     String rootPath,
     String collectionPropertyName,
@@ -318,6 +329,8 @@ public class FakeStorageModule extends AbstractVerticle {
   private void getById(RoutingContext routingContext) {
     WebContext context = new WebContext(routingContext);
 
+    countRequestById(routingContext);
+
     Result<UUID> idParsingResult = getIdParameter(routingContext);
 
     if (idParsingResult.failed()) {
@@ -446,6 +459,8 @@ public class FakeStorageModule extends AbstractVerticle {
   private void delete(RoutingContext routingContext) {
     WebContext context = new WebContext(routingContext);
 
+    countRequestById(routingContext);
+
     String id = routingContext.request().getParam("id");
 
     Map<String, JsonObject> resourcesForTenant = getResourcesForTenant(context);
@@ -460,6 +475,11 @@ public class FakeStorageModule extends AbstractVerticle {
     }
   }
 
+  private void countRequestById(RoutingContext routingContext) {
+    requestsById.computeIfAbsent(routingContext.request().method() + " " + rootPath,
+      key -> new AtomicInteger()).incrementAndGet();
+  }
+
   private Map<String, JsonObject> getResourcesForTenant(WebContext context) {
     return storage.getTenantResources(rootPath, context.getTenantId());
   }
@@ -1,6 +1,7 @@
 package api.support.fixtures;
 
 import static api.support.APITestContext.getOkapiHeadersFromContext;
+import static api.support.http.InterfaceUrls.checkInByBarcodeBatchUrl;
 import static api.support.http.InterfaceUrls.checkInByBarcodeUrl;
 
 import java.time.ZonedDateTime;
@@ -38,6 +39,11 @@ public class CheckInFixture {
     return restAssuredClient.post(builder.create(), checkInByBarcodeUrl(), okapiHeaders);
   }
 
+  public Response checkInByBarcodeBatch(JsonObject request) {
+    return restAssuredClient.post(request, checkInByBarcodeBatchUrl(), 200,
+      "check-in-by-barcode-batch-request");
+  }
+
   public CheckInByBarcodeResponse checkInByBarcode(CheckInByBarcodeRequestBuilder builder) {
     return new CheckInByBarcodeResponse(restAssuredClient.post(builder.create(),
       checkInByBarcodeUrl(), 200, "check-in-by-barcode-request"));
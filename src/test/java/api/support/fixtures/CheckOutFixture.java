@@ -1,6 +1,7 @@
 package api.support.fixtures;
 
 import static api.support.APITestContext.getOkapiHeadersFromContext;
+import static api.support.http.InterfaceUrls.checkOutByBarcodeBatchUrl;
 import static api.support.http.InterfaceUrls.checkOutByBarcodeDryRunUrl;
 import static api.support.http.InterfaceUrls.checkOutByBarcodeUrl;
 
@@ -73,6 +74,16 @@ public class CheckOutFixture {
       checkOutByBarcodeDryRunUrl(), 422, "check-out-by-barcode-dry-run-request"));
   }
 
+  public Response checkOutByBarcodeBatch(JsonObject request) {
+    return restAssuredClient.post(request, checkOutByBarcodeBatchUrl(), 200,
+      "check-out-by-barcode-batch-request");
+  }
+
+  public Response attemptCheckOutByBarcodeBatch(JsonObject request) {
+    return restAssuredClient.post(request, checkOutByBarcodeBatchUrl(), 422,
+      "check-out-by-barcode-batch-request");
+  }
+
   public Response attemptCheckOutByBarcode(IndividualResource item, IndividualResource to) {
     return attemptCheckOutByBarcode(new CheckOutByBarcodeRequestBuilder()
       .forItem(item)
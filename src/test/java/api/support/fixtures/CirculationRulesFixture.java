@@ -56,7 +56,7 @@ public class CirculationRulesFixture {
 
     if (response.getStatusCode() == HttpStatus.SC_NO_CONTENT) {
       String rulesAsText = new JsonObject(body).getString("rulesAsText");
-      CirculationRulesCache.getInstance().buildRules(getTenantId(), rulesAsText);
+      CirculationRulesCache.getInstance().buildRules(getTenantId(), rulesAsText).join();
     }
 
     return response;
@@ -215,6 +215,17 @@ public class CirculationRulesFixture {
       requestId);
   }
 
+  public JsonArray applyRulesForBatch(JsonObject criteria) {
+    final Response response = attemptToApplyRulesForBatch(criteria, 200);
+
+    return response.getJson().getJsonArray("circulationRuleMatches");
+  }
+
+  public Response attemptToApplyRulesForBatch(JsonObject criteria, int expectedStatusCode) {
+    return restAssuredClient.post(criteria.encodePrettily(),
+      circulationRulesUrl("/apply-batch"), expectedStatusCode, "apply-rules-for-batch");
+  }
+
   public Response attemptToApplyRulesWithNoParameters(String path) {
     return restAssuredClient.get(circulationRulesUrl(path), 400,
       "apply-rules-with-no-parameters");
@@ -149,11 +149,19 @@ public class InterfaceUrls {
     return circulationModuleUrl("/circulation/check-out-by-barcode-dry-run");
   }
 
+  public static URL checkOutByBarcodeBatchUrl() {
+    return circulationModuleUrl("/circulation/check-out-by-barcode-batch");
+  }
+
 
   public static URL checkInByBarcodeUrl() {
     return circulationModuleUrl("/circulation/check-in-by-barcode");
   }
 
+  public static URL checkInByBarcodeBatchUrl() {
+    return circulationModuleUrl("/circulation/check-in-by-barcode-batch");
+  }
+
   public static URL renewByBarcodeUrl() {
     return circulationModuleUrl("/circulation/renew-by-barcode");
   }
@@ -12,10 +12,12 @@ import static org.folio.HttpStatus.HTTP_UNPROCESSABLE_ENTITY;
 import static org.folio.circulation.EventConsumerVerticle.buildConfig;
 import static org.folio.circulation.domain.events.DomainEventType.CIRCULATION_RULES_UPDATED;
 import static org.folio.circulation.rules.cache.CirculationRulesCache.getInstance;
+import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.kafka.services.KafkaEnvironmentProperties.environment;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.emptyOrNullString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.params.provider.EnumSource.Mode.EXCLUDE;
@@ -25,10 +27,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.folio.circulation.domain.Location;
 import org.folio.circulation.domain.events.DomainEventPayloadType;
 import org.folio.circulation.domain.events.DomainEventType;
+import org.folio.circulation.infrastructure.storage.inventory.ReferenceDataCache;
 import org.folio.circulation.rules.cache.Rules;
+import org.folio.circulation.support.cache.TenantScopedCache;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.utils.ClockUtil;
 import org.folio.util.pubsub.support.PomReader;
@@ -54,6 +60,7 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class EventConsumerVerticleTest extends APITests {
   private static final String CIRCULATION_RULES_TOPIC = buildTopicName("circulation", "rules");
+  private static final String LOCATION_TOPIC = buildTopicName("inventory", "location");
 
   @BeforeEach
   public void beforeEach() {
@@ -260,6 +267,37 @@ public class EventConsumerVerticleTest extends APITests {
     assertThat(newCachedRules.getReloadTimestamp(), equalTo(originalCachedRules.getReloadTimestamp()));
   }
 
+  @Test
+  void locationChangedEventInvalidatesCachedLocation() {
+    final String locationId = randomId();
+    final var locations = ReferenceDataCache.getInstance().getLocations();
+    locations.get(TENANT_ID, locationId, () -> ofAsync(Location.unknown(locationId))).join();
+    assertThat(isFetched(locations, locationId), is(false));
+
+    final JsonObject location = new JsonObject()
+      .put("id", locationId)
+      .put("name", "Main library");
+
+    publishEvent(LOCATION_TOPIC, new JsonObject()
+      .put("type", "UPDATE")
+      .put("tenant", TENANT_ID)
+      .put("old", location)
+      .put("new", location.copy().put("name", "Annex")));
+
+    waitAtMost(30, SECONDS).until(() -> isFetched(locations, locationId));
+  }
+
+  private static boolean isFetched(TenantScopedCache<Location> locations, String locationId) {
+    final var fetched = new AtomicBoolean();
+
+    locations.get(TENANT_ID, locationId, () -> {
+      fetched.set(true);
+      return ofAsync(Location.unknown(locationId));
+    }).join();
+
+    return fetched.get();
+  }
+
   private void warmUpCirculationRulesCache() {
     tenantActivationFixture.postTenant();
   }
@@ -55,6 +55,22 @@ class ConfigurationServiceTest {
     assertEquals(DEFAULT_TIMEOUT_CONFIGURATION, actualSessionTimeout);
   }
 
+  @Test
+  void shouldUseConfiguredSchedulerNoticesParallelism() {
+    List<Configuration> records = Collections.singletonList(
+      new Configuration(new JsonObject().put(VALUE, "4")));
+
+    assertEquals(Integer.valueOf(4), service.findSchedulerNoticesParallelism(records));
+  }
+
+  @Test
+  void shouldUseDefaultSchedulerNoticesParallelismWhenConfiguredValueIsNotPositive() {
+    List<Configuration> records = Collections.singletonList(
+      new Configuration(new JsonObject().put(VALUE, "0")));
+
+    assertEquals(Integer.valueOf(10), service.findSchedulerNoticesParallelism(records));
+  }
+
   private String getJsonConfigWithCheckoutTimeoutDurationAsString(String checkoutTimeoutDuration) {
     final JsonObject encodedValue = new JsonObject();
     write(encodedValue, "checkoutTimeoutDuration", checkoutTimeoutDuration);
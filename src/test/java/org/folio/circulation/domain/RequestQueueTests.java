@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,7 @@ import io.vertx.core.json.JsonObject;
 
 class RequestQueueTests {
   private static final String TOP_FULFILLABLE_REQUEST_ID = randomId();
+  private static final int LARGE_QUEUE_SIZE = 1500;
 
   @ParameterizedTest
   @MethodSource("argumentsForUpdateRequestPositionOnCheckIn")
@@ -58,6 +60,63 @@ class RequestQueueTests {
     assertEquals(requestId, firstInQueueRequestId);
   }
 
+  @Test
+  void onlyNewRequestChangesPositionWhenAddedToLargeQueue() {
+    RequestQueue requestQueue = new RequestQueue(buildRequests(LARGE_QUEUE_SIZE));
+    Request newRequest = buildRequest(null, OPEN_NOT_YET_FILLED, randomId());
+
+    requestQueue.add(newRequest);
+
+    assertEquals(List.of(newRequest), requestQueue.getRequestsWithChangedPosition());
+    assertEquals(LARGE_QUEUE_SIZE + 1, newRequest.getPosition());
+  }
+
+  @Test
+  void noRequestsChangePositionWhenLastRequestIsRemovedFromLargeQueue() {
+    List<Request> requests = buildRequests(LARGE_QUEUE_SIZE);
+    RequestQueue requestQueue = new RequestQueue(requests);
+
+    requestQueue.remove(requests.get(LARGE_QUEUE_SIZE - 1));
+
+    assertEquals(0, requestQueue.getRequestsWithChangedPosition().size());
+  }
+
+  @Test
+  void onlyRequestsAfterRemovedRequestChangePositionInLargeQueue() {
+    List<Request> requests = buildRequests(LARGE_QUEUE_SIZE);
+    RequestQueue requestQueue = new RequestQueue(requests);
+
+    requestQueue.remove(requests.get(LARGE_QUEUE_SIZE - 10));
+
+    assertEquals(9, requestQueue.getRequestsWithChangedPosition().size());
+  }
+
+  @Test
+  void requestDoesNotChangePositionWhenMovedBackToItsOriginalPosition() {
+    List<Request> requests = buildRequests(LARGE_QUEUE_SIZE);
+    RequestQueue requestQueue = new RequestQueue(requests);
+    Request lastRequest = requests.get(LARGE_QUEUE_SIZE - 1);
+
+    requestQueue.remove(lastRequest);
+    requestQueue.add(lastRequest);
+
+    assertEquals(LARGE_QUEUE_SIZE, lastRequest.getPosition());
+    assertEquals(0, requestQueue.getRequestsWithChangedPosition().size());
+  }
+
+  @Test
+  void previousPositionIsPositionBeforeFirstMove() {
+    List<Request> requests = buildRequests(3);
+    RequestQueue requestQueue = new RequestQueue(requests);
+    Request lastRequest = requests.get(2);
+
+    requestQueue.remove(requests.get(0));
+    requestQueue.remove(requests.get(1));
+
+    assertEquals(1, lastRequest.getPosition());
+    assertEquals(3, lastRequest.getPreviousPosition());
+  }
+
   private static Stream<Arguments> argumentsForUpdateRequestPositionOnCheckIn() {
     return Stream.of(
       Arguments.of(List.of(
@@ -95,7 +154,13 @@ class RequestQueueTests {
     );
   }
 
-  private static Request buildRequest(int position, RequestStatus status, String requestId) {
+  private static List<Request> buildRequests(int numberOfRequests) {
+    return IntStream.rangeClosed(1, numberOfRequests)
+      .mapToObj(position -> buildRequest(position, OPEN_NOT_YET_FILLED, randomId()))
+      .toList();
+  }
+
+  private static Request buildRequest(Integer position, RequestStatus status, String requestId) {
     JsonObject json = new JsonObject()
       .put("id", requestId)
       .put("status", status.getValue())
@@ -0,0 +1,112 @@
+package org.folio.circulation.domain.validation;
+
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.LoanAndRelatedRecords;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.policy.LoanPolicy;
+import org.folio.circulation.domain.representations.CheckOutByBarcodeRequest;
+import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
+import org.folio.circulation.rules.AppliedRuleConditions;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+import lombok.SneakyThrows;
+
+class ItemLimitValidatorTests {
+  private static final String MATERIAL_TYPE_ID = UUID.randomUUID().toString();
+  private static final String OTHER_MATERIAL_TYPE_ID = UUID.randomUUID().toString();
+  private static final String USER_ID = UUID.randomUUID().toString();
+
+  private final LoanRepository loanRepository = mock(LoanRepository.class);
+
+  @Test
+  void loansAreNotFetchedWhenPatronHasFewerOpenLoansThanLimit() {
+    when(loanRepository.countOpenLoansByUserId(USER_ID)).thenReturn(ofAsync(2));
+
+    final var result = validate(3);
+
+    assertThat(result.succeeded(), is(true));
+    verify(loanRepository, never())
+      .findOpenLoansByUserIdWithItemOnly(any(PageLimit.class), anyString());
+  }
+
+  @Test
+  void allowWhenTooFewOpenLoansAreForItemsOfSameMaterialType() {
+    when(loanRepository.countOpenLoansByUserId(USER_ID)).thenReturn(ofAsync(3));
+    when(loanRepository.findOpenLoansByUserIdWithItemOnly(any(PageLimit.class), anyString()))
+      .thenReturn(ofAsync(openLoans(MATERIAL_TYPE_ID, MATERIAL_TYPE_ID,
+        OTHER_MATERIAL_TYPE_ID)));
+
+    final var result = validate(3);
+
+    assertThat(result.succeeded(), is(true));
+  }
+
+  @Test
+  void refuseWhenOpenLoansForItemsOfSameMaterialTypeReachLimit() {
+    when(loanRepository.countOpenLoansByUserId(USER_ID)).thenReturn(ofAsync(3));
+    when(loanRepository.findOpenLoansByUserIdWithItemOnly(any(PageLimit.class), anyString()))
+      .thenReturn(ofAsync(openLoans(MATERIAL_TYPE_ID, MATERIAL_TYPE_ID,
+        MATERIAL_TYPE_ID)));
+
+    final var result = validate(3);
+
+    assertThat(result.failed(), is(true));
+  }
+
+  @SneakyThrows
+  private Result<LoanAndRelatedRecords> validate(int itemLimit) {
+    final var validator = new ItemLimitValidator(
+      CheckOutByBarcodeRequest.fromJson(new JsonObject().put("itemBarcode", "12345")),
+      loanRepository);
+
+    return validator.refuseWhenItemLimitIsReached(loanBeingCheckedOut(itemLimit))
+      .get(1, TimeUnit.SECONDS);
+  }
+
+  private static LoanAndRelatedRecords loanBeingCheckedOut(int itemLimit) {
+    final var loanPolicy = LoanPolicy.from(new JsonObject()
+        .put("loansPolicy", new JsonObject().put("itemLimit", itemLimit)))
+      .withRuleConditions(new AppliedRuleConditions(true, false, false));
+
+    final var loan = Loan.from(new JsonObject().put("userId", USER_ID))
+      .withItem(item(MATERIAL_TYPE_ID))
+      .withLoanPolicy(loanPolicy);
+
+    return new LoanAndRelatedRecords(loan);
+  }
+
+  private static MultipleRecords<Loan> openLoans(String... materialTypeIds) {
+    final List<Loan> loans = IntStream.range(0, materialTypeIds.length)
+      .mapToObj(index -> Loan.from(new JsonObject().put("userId", USER_ID))
+        .withItem(item(materialTypeIds[index])))
+      .toList();
+
+    return new MultipleRecords<>(loans, loans.size());
+  }
+
+  private static Item item(String materialTypeId) {
+    return Item.from(new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("materialTypeId", materialTypeId)
+      .put("status", new JsonObject().put("name", "Checked out")));
+  }
+}
@@ -5,19 +5,24 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.results.Result;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import io.vertx.core.json.JsonObject;
+
 class CalendarRepositoryTest {
 
   private static final ZoneId UTC = ZoneId.of("UTC");
@@ -71,4 +76,25 @@ class CalendarRepositoryTest {
     assertThat(actualPath, is(expectedPath));
   }
 
+  @Test
+  void surroundingOpeningsAreFetchedOnceUntilCacheIsDropped() {
+    Clients clients = mock(Clients.class);
+    CollectionResourceClient collectionResourceClient = mock(CollectionResourceClient.class);
+    String tenantId = UUID.randomUUID().toString();
+    when(clients.tenantId()).thenReturn(tenantId);
+    when(clients.calendarStorageClient()).thenReturn(collectionResourceClient);
+    when(collectionResourceClient.get(any(String.class)))
+      .thenReturn(ofAsync(new Response(200, new JsonObject().encode(), "application/json")));
+
+    String servicePointId = UUID.randomUUID().toString();
+    LocalDate date = LocalDate.of(2024, 7, 24);
+
+    new CalendarRepository(clients).lookupOpeningDays(date, servicePointId).join();
+    new CalendarRepository(clients).lookupOpeningDays(date, servicePointId).join();
+    verify(collectionResourceClient, times(1)).get(any(String.class));
+
+    CalendarCache.getInstance().dropCache();
+    new CalendarRepository(clients).lookupOpeningDays(date, servicePointId).join();
+    verify(collectionResourceClient, times(2)).get(any(String.class));
+  }
 }
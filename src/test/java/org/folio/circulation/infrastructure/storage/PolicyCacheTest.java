@@ -0,0 +1,55 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.waitAtMost;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import org.folio.Environment;
+import org.folio.circulation.domain.policy.LoanPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class PolicyCacheTest {
+  private static final String TENANT_ID = "tenant1";
+  private static final String POLICY_ID = "loan-policy-1";
+
+  @AfterEach
+  void afterEach() {
+    Environment.MOCK_ENV.remove("POLICY_CACHE_TTL_SECONDS");
+    PolicyCache.reconfigure();
+  }
+
+  @Test
+  void changedPolicyIsVisibleOnceCachedPolicyHasExpired() {
+    Environment.MOCK_ENV.put("POLICY_CACHE_TTL_SECONDS", "1");
+    PolicyCache.reconfigure();
+
+    assertThat(getLoanPolicyName("Original"), is("Original"));
+    assertThat(getLoanPolicyName("Changed"), is("Original"));
+
+    waitAtMost(5, SECONDS).until(() -> getLoanPolicyName("Changed").equals("Changed"));
+  }
+
+  @Test
+  void changedPolicyIsVisibleImmediatelyWithoutTimeToLive() {
+    Environment.MOCK_ENV.put("POLICY_CACHE_TTL_SECONDS", "0");
+    PolicyCache.reconfigure();
+
+    assertThat(getLoanPolicyName("Original"), is("Original"));
+    assertThat(getLoanPolicyName("Changed"), is("Changed"));
+  }
+
+  private static String getLoanPolicyName(String storedName) {
+    return PolicyCache.getInstance().getLoanPolicies()
+      .get(TENANT_ID, POLICY_ID, () -> ofAsync(LoanPolicy.from(new JsonObject()
+        .put("id", POLICY_ID)
+        .put("name", storedName))))
+      .join()
+      .value()
+      .getName();
+  }
+}
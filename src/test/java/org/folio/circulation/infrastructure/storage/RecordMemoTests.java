@@ -0,0 +1,91 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.Holdings;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+class RecordMemoTests {
+  private final RecordMemo<Holdings> memo = new RecordMemo<>(Holdings::getId);
+  private final List<String> fetchedIds = new ArrayList<>();
+
+  @Test
+  void recordIsOnlyFetchedOnce() {
+    get(memo.get("1", this::fetchHoldings));
+    final var holdings = get(memo.get("1", this::fetchHoldings));
+
+    assertThat(holdings.value().getId(), is("1"));
+    assertThat(fetchedIds, is(List.of("1")));
+  }
+
+  @Test
+  void onlyRecordsNotFetchedBeforeAreFetched() {
+    get(memo.get("1", this::fetchHoldings));
+
+    final var holdings = get(memo.getMany(Set.of("1", "2", "3"), this::fetchManyHoldings));
+
+    assertThat(holdings.value().toKeys(Holdings::getId), containsInAnyOrder("1", "2", "3"));
+    assertThat(fetchedIds, containsInAnyOrder("1", "2", "3"));
+  }
+
+  @Test
+  void nothingIsFetchedWhenAllRecordsHaveBeenFetchedBefore() {
+    get(memo.getMany(Set.of("1", "2"), this::fetchManyHoldings));
+
+    final var holdings = get(memo.getMany(Set.of("1", "2"), this::fetchManyHoldings));
+
+    assertThat(holdings.value().size(), is(2));
+    assertThat(fetchedIds, containsInAnyOrder("1", "2"));
+  }
+
+  @Test
+  void failuresAreNotRemembered() {
+    get(memo.get("1", id -> completedFuture(
+      failed(new ServerErrorFailure("Something went wrong")))));
+
+    final var holdings = get(memo.get("1", this::fetchHoldings));
+
+    assertThat(holdings.value().getId(), is("1"));
+    assertThat(fetchedIds, is(List.of("1")));
+  }
+
+  private CompletableFuture<Result<Holdings>> fetchHoldings(String id) {
+    fetchedIds.add(id);
+
+    return ofAsync(Holdings.unknown(id));
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Holdings>>> fetchManyHoldings(
+    Collection<String> ids) {
+
+    fetchedIds.addAll(ids);
+
+    final var holdings = ids.stream()
+      .map(Holdings::unknown)
+      .toList();
+
+    return ofAsync(new MultipleRecords<>(holdings, holdings.size()));
+  }
+
+  @SneakyThrows
+  private <T> Result<T> get(CompletableFuture<Result<T>> future) {
+    return future.get(1, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.waitAtMost;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import org.folio.Environment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SettingsCacheTest {
+  private static final String TIME_ZONE = "timeZone";
+
+  @AfterEach
+  void afterEach() {
+    Environment.MOCK_ENV.remove("SETTINGS_CACHE_TTL_SECONDS");
+    SettingsCache.reconfigure();
+  }
+
+  @Test
+  void changedSettingIsVisibleOnceSnapshotHasExpired() {
+    Environment.MOCK_ENV.put("SETTINGS_CACHE_TTL_SECONDS", "1");
+    SettingsCache.reconfigure();
+
+    assertThat(getTimeZone("tenant1", "UTC"), is("UTC"));
+    assertThat(getTimeZone("tenant1", "Europe/Berlin"), is("UTC"));
+
+    waitAtMost(5, SECONDS).until(
+      () -> getTimeZone("tenant1", "Europe/Berlin").equals("Europe/Berlin"));
+  }
+
+  @Test
+  void changedSettingIsVisibleOnceSnapshotOfTenantHasBeenRefreshed() {
+    assertThat(getTimeZone("tenant1", "UTC"), is("UTC"));
+    assertThat(getTimeZone("tenant2", "UTC"), is("UTC"));
+
+    SettingsCache.getInstance().refresh("tenant1");
+
+    assertThat(getTimeZone("tenant1", "Europe/Berlin"), is("Europe/Berlin"));
+    assertThat(getTimeZone("tenant2", "Europe/Berlin"), is("UTC"));
+  }
+
+  @Test
+  void changedSettingIsVisibleImmediatelyWithoutTimeToLive() {
+    Environment.MOCK_ENV.put("SETTINGS_CACHE_TTL_SECONDS", "0");
+    SettingsCache.reconfigure();
+
+    assertThat(getTimeZone("tenant1", "UTC"), is("UTC"));
+    assertThat(getTimeZone("tenant1", "Europe/Berlin"), is("Europe/Berlin"));
+  }
+
+  private static String getTimeZone(String tenantId, String storedTimeZone) {
+    return SettingsCache.getInstance()
+      .get(tenantId, TIME_ZONE, () -> ofAsync(storedTimeZone))
+      .join()
+      .value();
+  }
+}
@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -136,6 +137,42 @@ class SettingsRepositoryTest {
     verify(settingsClient).getMany(any(), any());
   }
 
+  @Test
+  @SneakyThrows
+  void tenantLocaleSettingsAreFetchedOnceUntilRefreshed() {
+    Clients clients = mock(Clients.class);
+    CollectionResourceClient settingsClient = mock(CollectionResourceClient.class);
+    String tenantId = UUID.randomUUID().toString();
+
+    JsonObject mockSettingsResponse = new JsonObject()
+      .put("items", new JsonArray()
+        .add(new JsonObject()
+          .put("id", UUID.randomUUID().toString())
+          .put("scope", "stripes-core.prefs.manage")
+          .put("key", "tenantLocaleSettings")
+          .put("value", new JsonObject().put("timezone", "Europe/Berlin"))));
+
+    when(clients.tenantId()).thenReturn(tenantId);
+    when(clients.settingsStorageClient()).thenReturn(settingsClient);
+    when(settingsClient.getMany(any(), any()))
+      .thenReturn(ofAsync(new Response(200, mockSettingsResponse.encode(), "application/json")));
+
+    SettingsRepository settingsRepository = new SettingsRepository(clients);
+    settingsRepository.lookupTimeZoneSettings().get(30, TimeUnit.SECONDS);
+    ZoneId actualResult = new SettingsRepository(clients)
+      .lookupTimeZoneSettings()
+      .get(30, TimeUnit.SECONDS)
+      .value();
+
+    assertEquals(ZoneId.of("Europe/Berlin"), actualResult);
+    verify(settingsClient, times(1)).getMany(any(), any());
+
+    SettingsCache.getInstance().refresh(tenantId);
+    settingsRepository.lookupTimeZoneSettings().get(30, TimeUnit.SECONDS);
+
+    verify(settingsClient, times(2)).getMany(any(), any());
+  }
+
   @Test
   @SneakyThrows
   void fallBackToLegacyConfigurationWhenTlrSettingsAreNotFound() {
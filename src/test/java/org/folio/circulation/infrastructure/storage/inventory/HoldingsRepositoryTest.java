@@ -37,7 +37,7 @@ class HoldingsRepositoryTest {
     when(holdingsClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
       .thenReturn(ofAsync(new Response(200, "{}", "application/json")));
 
-    int idsPerBatch = 50; // default batch size from CqlIndexValuesFinder
+    int idsPerBatch = 75; // UUIDs fitting within the maximum query length of CqlIndexValuesFinder
     List<String> instanceIds = IntStream.range(0, idsPerBatch + 1)
       .boxed()
       .map(i -> UUID.randomUUID().toString())
@@ -10,9 +10,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -136,12 +139,89 @@ class ItemRepositoryTests {
     assertThat(updateResult, succeeded());
   }
 
+  @Test
+  void fetchedItemsAreUpdatedTogether() {
+    final var itemsClient = mock(CollectionResourceClient.class);
+    final var itemsBatchClient = mock(CollectionResourceClient.class);
+    final var repository = createRepository(itemsClient, null, itemsBatchClient);
+
+    final var itemId = UUID.randomUUID().toString();
+
+    mockedClientGet(itemsClient, itemJson(itemId).encodePrettily());
+
+    when(itemsBatchClient.post(any(JsonObject.class))).thenReturn(ofAsync(
+      () -> new Response(201, "", "application/json")));
+
+    final var fetchedItem = get(repository.fetchById(itemId)).value();
+
+    final var updateResults = getAll(repository.updateItems(List.of(fetchedItem)));
+
+    verify(itemsBatchClient).post(any(JsonObject.class));
+    verify(itemsClient, never()).put(any(), any());
+
+    assertThat(updateResults.get(itemId), succeeded());
+  }
+
+  @Test
+  void itemsAreUpdatedOneAtATimeWhenBatchUpdateFails() {
+    final var itemsClient = mock(CollectionResourceClient.class);
+    final var itemsBatchClient = mock(CollectionResourceClient.class);
+    final var repository = createRepository(itemsClient, null, itemsBatchClient);
+
+    final var itemId = UUID.randomUUID().toString();
+    final var itemJson = itemJson(itemId);
+
+    mockedClientGet(itemsClient, itemJson.encodePrettily());
+
+    when(itemsBatchClient.post(any(JsonObject.class))).thenReturn(ofAsync(
+      () -> new Response(500, "Something went wrong", "text/plain")));
+
+    when(itemsClient.put(any(), any())).thenReturn(ofAsync(
+      () -> new Response(204, itemJson.toString(), "application/json")));
+
+    final var fetchedItem = get(repository.fetchById(itemId)).value();
+
+    final var updateResults = getAll(repository.updateItems(List.of(fetchedItem)));
+
+    verify(itemsClient).put(eq(itemId), any());
+
+    assertThat(updateResults.get(itemId), succeeded());
+  }
+
+  @Test
+  void itemsThatHaveNotBeenFetchedFailToUpdate() {
+    final var itemsBatchClient = mock(CollectionResourceClient.class);
+    final var repository = createRepository(null, null, itemsBatchClient);
+
+    final var notFetchedItem = dummyItem();
+
+    final var updateResults = getAll(repository.updateItems(List.of(notFetchedItem)));
+
+    verify(itemsBatchClient, never()).post(any(JsonObject.class));
+
+    assertThat(updateResults.get(notFetchedItem.getItemId()), isErrorFailureContaining(
+      "Cannot update item when original representation is not available in identity map"));
+  }
+
+  private JsonObject itemJson(String itemId) {
+    return new JsonObject()
+      .put("id", itemId)
+      .put("holdingsRecordId", UUID.randomUUID())
+      .put("effectiveLocationId", UUID.randomUUID());
+  }
+
   private void mockedClientGet(CollectionResourceClient client, String body) {
     when(client.get(anyString())).thenReturn(ofAsync(
       () -> new Response(200, body, "application/json")));
   }
 
   private ItemRepository createRepository(CollectionResourceClient itemsClient, CollectionResourceClient circulationItemClient) {
+    return createRepository(itemsClient, circulationItemClient, null);
+  }
+
+  private ItemRepository createRepository(CollectionResourceClient itemsClient,
+    CollectionResourceClient circulationItemClient, CollectionResourceClient itemsBatchClient) {
+
     final var locationRepository = mock(LocationRepository.class);
     final var materialTypeRepository = mock(MaterialTypeRepository.class);
     final var instanceRepository = mock(InstanceRepository.class);
@@ -163,7 +243,7 @@ class ItemRepositoryTests {
 
     return new ItemRepository(itemsClient, locationRepository,
       materialTypeRepository, instanceRepository,
-      holdingsRepository, loanTypeRepository, circulationItemClient);
+      holdingsRepository, loanTypeRepository, circulationItemClient, itemsBatchClient);
   }
 
   private Item dummyItem() {
@@ -177,4 +257,9 @@ class ItemRepositoryTests {
   private <T> Result<T> get(CompletableFuture<Result<T>> future) {
     return future.get(1, TimeUnit.SECONDS);
   }
+
+  @SneakyThrows
+  private <T> Map<String, Result<T>> getAll(CompletableFuture<Map<String, Result<T>>> future) {
+    return future.get(1, TimeUnit.SECONDS);
+  }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -155,6 +156,26 @@ public class RequestPolicyRepositoryTest {
     verify(requestPoliciesStorageClient).get(SAMPLE_POLICY_ID);
   }
 
+  @Test
+  void testRequestPolicyIsFetchedOnceForTenant() throws ExecutionException, InterruptedException {
+    doReturn(UUID.randomUUID().toString()).when(clients).tenantId();
+    requestPolicyRepository = new RequestPolicyRepository(clients);
+
+    var ruleMatch = new CirculationRuleMatch(SAMPLE_POLICY_ID, mock(AppliedRuleConditions.class));
+    when(circulationRulesProcessor.getRequestPolicyAndMatch(any(RulesExecutionParameters.class)))
+      .thenReturn(CompletableFuture.completedFuture(Result.succeeded(ruleMatch)));
+
+    var policy = RequestPolicy.from(JsonObject.of("id", SAMPLE_POLICY_ID));
+    when(requestPoliciesStorageClient.get(SAMPLE_POLICY_ID))
+      .thenReturn(CompletableFuture.completedFuture(Result.succeeded(asResponse(policy))));
+
+    requestPolicyRepository.lookupRequestPolicy(requestAndRelatedRecords).get();
+    var result = requestPolicyRepository.lookupRequestPolicy(requestAndRelatedRecords).get().value();
+
+    assertEquals(SAMPLE_POLICY_ID, result.getRequestPolicy().getId());
+    verify(requestPoliciesStorageClient, times(1)).get(SAMPLE_POLICY_ID);
+  }
+
   private static <T> JsonObject asJson(T entity) {
     return JsonObject.mapFrom(entity);
   }
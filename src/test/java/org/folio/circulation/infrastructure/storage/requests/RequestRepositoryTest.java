@@ -0,0 +1,183 @@
+package org.folio.circulation.infrastructure.storage.requests;
+
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.http.client.PageLimit.limit;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.Request;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.Offset;
+import org.folio.circulation.support.http.client.Response;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.SneakyThrows;
+
+class RequestRepositoryTest {
+  @Test
+  @SneakyThrows
+  void fetchesAllPagesOfRequests() {
+    final var requestsStorageClient = mock(CollectionResourceClient.class);
+    final var repository = createRepository(requestsStorageClient);
+    final CqlQuery query = exactMatch("itemId", UUID.randomUUID().toString()).value();
+
+    when(requestsStorageClient.getMany(any(CqlQuery.class), any(), any(Offset.class)))
+      .thenReturn(ofAsync(requestsPage(3)))
+      .thenReturn(ofAsync(requestsPage(3)))
+      .thenReturn(ofAsync(requestsPage(1)));
+
+    final var result = repository.findAllByWithoutItems(query, limit(3))
+      .get(1, TimeUnit.SECONDS);
+
+    assertTrue(result.succeeded());
+    assertEquals(7, result.value().size());
+    assertEquals(7, result.value().getTotalRecords());
+
+    verify(requestsStorageClient, times(3)).getMany(any(CqlQuery.class), any(), any(Offset.class));
+  }
+
+  @Test
+  @SneakyThrows
+  void fetchesSinglePageWhenItIsNotFull() {
+    final var requestsStorageClient = mock(CollectionResourceClient.class);
+    final var repository = createRepository(requestsStorageClient);
+    final CqlQuery query = exactMatch("itemId", UUID.randomUUID().toString()).value();
+
+    when(requestsStorageClient.getMany(any(CqlQuery.class), any(), any(Offset.class)))
+      .thenReturn(ofAsync(requestsPage(2)));
+
+    final var result = repository.findAllByWithoutItems(query, limit(3))
+      .get(1, TimeUnit.SECONDS);
+
+    final List<Request> requests = List.copyOf(result.value().getRecords());
+
+    assertEquals(2, requests.size());
+
+    verify(requestsStorageClient, times(1)).getMany(any(CqlQuery.class), any(), any(Offset.class));
+  }
+
+  @Test
+  @SneakyThrows
+  void eachPageStartsAfterLastRequestOfPreviousPage() {
+    final var requestsStorageClient = mock(CollectionResourceClient.class);
+    final var repository = createRepository(requestsStorageClient);
+    final CqlQuery query = exactMatch("itemId", UUID.randomUUID().toString()).value();
+    final Response firstPage = requestsPage(3);
+
+    when(requestsStorageClient.getMany(any(CqlQuery.class), any(), any(Offset.class)))
+      .thenReturn(ofAsync(firstPage))
+      .thenReturn(ofAsync(requestsPage(1)));
+
+    repository.findAllByWithoutItems(query, limit(3)).get(1, TimeUnit.SECONDS);
+
+    final var queries = ArgumentCaptor.forClass(CqlQuery.class);
+
+    verify(requestsStorageClient, times(2)).getMany(queries.capture(), any(), any(Offset.class));
+
+    final String lastIdOnFirstPage = firstPage.getJson().getJsonArray("requests")
+      .getJsonObject(2).getString("id");
+
+    assertTrue(queries.getAllValues().get(1).toString()
+      .contains(String.format("id>\"%s\"", lastIdOnFirstPage)));
+  }
+
+  @Test
+  void relatedRecordsAreCombinedByRequestId() {
+    final String firstId = UUID.randomUUID().toString();
+    final String secondId = UUID.randomUUID().toString();
+
+    final var requests = requests(request(firstId, 1), request(secondId, 2));
+    final var otherRequests = requests(request(secondId, 20), request(firstId, 10));
+
+    final var result = RequestRepository.combineRequests((request, other) -> other)
+      .apply(succeeded(requests), succeeded(otherRequests));
+
+    final List<Request> combined = List.copyOf(result.value().getRecords());
+
+    assertEquals(List.of(firstId, secondId), combined.stream().map(Request::getId).toList());
+    assertEquals(List.of(10, 20), combined.stream().map(Request::getPosition).toList());
+  }
+
+  @Test
+  void combiningRelatedRecordsFailsWhenRequestsDoNotMatch() {
+    final String firstId = UUID.randomUUID().toString();
+
+    final var requests = requests(request(firstId, 1),
+      request(UUID.randomUUID().toString(), 2));
+    final var otherRequests = requests(request(firstId, 1),
+      request(UUID.randomUUID().toString(), 2));
+
+    final var result = RequestRepository.combineRequests((request, other) -> other)
+      .apply(succeeded(requests), succeeded(otherRequests));
+
+    assertTrue(result.failed());
+  }
+
+  @Test
+  void combiningRelatedRecordsFailsWhenNumberOfRequestsDiffers() {
+    final String firstId = UUID.randomUUID().toString();
+
+    final var requests = requests(request(firstId, 1));
+    final var otherRequests = requests(request(firstId, 1),
+      request(UUID.randomUUID().toString(), 2));
+
+    final var result = RequestRepository.combineRequests((request, other) -> other)
+      .apply(succeeded(requests), succeeded(otherRequests));
+
+    assertTrue(result.failed());
+  }
+
+  private static Request request(String id, int position) {
+    return Request.from(new JsonObject()
+      .put("id", id)
+      .put("position", position));
+  }
+
+  private static MultipleRecords<Request> requests(Request... requests) {
+    return new MultipleRecords<>(List.of(requests), requests.length);
+  }
+
+  private static RequestRepository createRepository(
+    CollectionResourceClient requestsStorageClient) {
+
+    final var clients = mock(Clients.class);
+
+    when(clients.requestsStorage()).thenReturn(requestsStorageClient);
+
+    return new RequestRepository(clients);
+  }
+
+  private static Response requestsPage(int numberOfRequests) {
+    final var requests = new JsonArray();
+
+    IntStream.rangeClosed(1, numberOfRequests)
+      .mapToObj(position -> new JsonObject()
+        .put("id", UUID.randomUUID().toString())
+        .put("position", position))
+      .forEach(requests::add);
+
+    final var body = new JsonObject()
+      .put("requests", requests)
+      .put("totalRecords", 7);
+
+    return new Response(200, body.encode(), "application/json");
+  }
+}
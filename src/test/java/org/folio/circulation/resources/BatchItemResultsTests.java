@@ -0,0 +1,86 @@
+package org.folio.circulation.resources;
+
+import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.ValidationErrorFailure;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class BatchItemResultsTests {
+  @Test
+  void itemBarcodesAreInOrderOfRequest() {
+    final var result = BatchItemResults.itemBarcodesFrom(new JsonObject()
+      .put("itemBarcodes", new JsonArray().add("2").add("1")));
+
+    assertThat(result.value(), is(List.of("2", "1")));
+  }
+
+  @Test
+  void itemBarcodesAreRequired() {
+    assertThat(BatchItemResults.itemBarcodesFrom(new JsonObject()).failed(), is(true));
+    assertThat(BatchItemResults.itemBarcodesFrom(new JsonObject()
+      .put("itemBarcodes", new JsonArray())).failed(), is(true));
+  }
+
+  @Test
+  void itemBarcodesMustBeDistinct() {
+    final var result = BatchItemResults.itemBarcodesFrom(new JsonObject()
+      .put("itemBarcodes", new JsonArray().add("1").add("1")));
+
+    assertThat(result.failed(), is(true));
+    assertThat(((ValidationErrorFailure) result.cause())
+      .hasErrorWithReason("Each item barcode can only occur once"), is(true));
+    assertThat(((ValidationErrorFailure) result.cause())
+      .hasErrorForKey("itemBarcodes[1]"), is(true));
+  }
+
+  @Test
+  void cannotProcessTooManyItems() {
+    final var itemBarcodes = new JsonArray();
+
+    IntStream.rangeClosed(0, BatchItemResults.MAXIMUM_ITEMS)
+      .forEach(i -> itemBarcodes.add(String.valueOf(i)));
+
+    assertThat(BatchItemResults.itemBarcodesFrom(new JsonObject()
+      .put("itemBarcodes", itemBarcodes)).failed(), is(true));
+  }
+
+  @Test
+  void singleItemRequestHasPropertiesCommonToAllItems() {
+    final var request = BatchItemResults.singleItemRequest(new JsonObject()
+      .put("servicePointId", "sp")
+      .put("itemBarcodes", new JsonArray().add("1")), "1");
+
+    assertThat(request, is(new JsonObject()
+      .put("servicePointId", "sp")
+      .put("itemBarcode", "1")));
+  }
+
+  @Test
+  void eachItemHasEitherResponseOrErrors() {
+    final var json = BatchItemResults.toJson("checkIns", List.of("1", "2", "3"), List.of(
+      succeeded(new JsonObject().put("id", "loan")),
+      failedValidation("Item cannot be checked in", "itemBarcode", "2"),
+      failed(new ServerErrorFailure("Something went wrong"))));
+
+    final JsonArray checkIns = json.getJsonArray("checkIns");
+
+    assertThat(json.getInteger("totalRecords"), is(3));
+    assertThat(checkIns.getJsonObject(0).getJsonObject("response").getString("id"), is("loan"));
+    assertThat(checkIns.getJsonObject(1).getString("itemBarcode"), is("2"));
+    assertThat(checkIns.getJsonObject(1).getJsonArray("errors").getJsonObject(0)
+      .getString("message"), is("Item cannot be checked in"));
+    assertThat(checkIns.getJsonObject(2).getJsonArray("errors").getJsonObject(0)
+      .getString("message"), is("Something went wrong"));
+  }
+}
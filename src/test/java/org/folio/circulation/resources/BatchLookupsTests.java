@@ -0,0 +1,35 @@
+package org.folio.circulation.resources;
+
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BatchLookupsTests {
+  @Test
+  void lookupIsOnlyMadeOnceForTheSameKey() {
+    final var lookups = new BatchLookups();
+    final var numberOfLookups = new AtomicInteger();
+
+    lookups.get("timeZone", () -> ofAsync(numberOfLookups.incrementAndGet()));
+    final var result = lookups.get("timeZone",
+      () -> ofAsync(numberOfLookups.incrementAndGet())).join();
+
+    assertThat(result.value(), is(1));
+    assertThat(numberOfLookups.get(), is(1));
+  }
+
+  @Test
+  void lookupIsMadeForEachKey() {
+    final var lookups = new BatchLookups();
+    final var numberOfLookups = new AtomicInteger();
+
+    lookups.get("servicePoint 1", () -> ofAsync(numberOfLookups.incrementAndGet()));
+    lookups.get("servicePoint 2", () -> ofAsync(numberOfLookups.incrementAndGet()));
+
+    assertThat(numberOfLookups.get(), is(2));
+  }
+}
@@ -0,0 +1,40 @@
+package org.folio.circulation.resources;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class CacheStatisticsResourceTest {
+  @Test
+  void cacheStatisticsCanBeRetrieved(Vertx vertx, VertxTestContext vtc) {
+    final Router router = Router.router(vertx);
+
+    new CacheStatisticsResource().register(router);
+
+    vertx.createHttpServer()
+      .requestHandler(router)
+      .listen(0)
+      .compose(server -> WebClient.create(vertx)
+        .getAbs("http://localhost:" + server.actualPort() + "/admin/cache-statistics").send())
+      .onComplete(vtc.succeeding(httpResponse -> {
+        final JsonObject statistics = httpResponse.bodyAsJsonObject();
+
+        assertThat(httpResponse.statusCode(), is(200));
+        assertThat(statistics.getJsonObject("settings").getLong("maximumServedAgeMillis"),
+          notNullValue());
+        assertThat(statistics.getJsonObject("loanPolicies").getLong("hits"), notNullValue());
+        vtc.completeNow();
+      }));
+  }
+}
@@ -0,0 +1,51 @@
+package org.folio.circulation.resources;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.SneakyThrows;
+
+class ScheduledNoticeProcessingPermissionsTests {
+  private static final Path MODULE_DESCRIPTOR =
+    Path.of("descriptors", "ModuleDescriptor-template.json");
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "/circulation/loan-scheduled-notices-processing",
+    "/circulation/due-date-not-real-time-scheduled-notices-processing",
+    "/circulation/scheduled-digital-reminders-processing"
+  })
+  void loansOfNoticesCanBeFetchedTogether(String pathPattern) {
+    assertThat(modulePermissionsOf(pathPattern), hasItems(
+      "circulation-storage.loans.collection.get", "users.collection.get"));
+  }
+
+  @SneakyThrows
+  private static List<String> modulePermissionsOf(String pathPattern) {
+    final var descriptor = new JsonObject(Files.readString(MODULE_DESCRIPTOR));
+
+    return descriptor.getJsonArray("provides").stream()
+      .map(JsonObject.class::cast)
+      .flatMap(providedInterface -> objectsIn(providedInterface.getJsonArray("handlers")))
+      .filter(handler -> pathPattern.equals(handler.getString("pathPattern")))
+      .flatMap(handler -> handler.getJsonArray("modulePermissions").stream())
+      .map(String.class::cast)
+      .toList();
+  }
+
+  private static Stream<JsonObject> objectsIn(JsonArray array) {
+    return array == null
+      ? Stream.empty()
+      : array.stream().map(JsonObject.class::cast);
+  }
+}
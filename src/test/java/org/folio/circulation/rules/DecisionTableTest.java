@@ -0,0 +1,230 @@
+package org.folio.circulation.rules;
+
+import static java.util.Collections.emptyList;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.ServicePoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Checks that the decision table finds the same policies as Drools.
+ */
+class DecisionTableTest {
+  private static final String[] CRITERIUM_LETTERS = { "t", "a", "b", "c", "s", "m", "g" };
+  private static final String[] PRIORITIES = {
+    "priority: t, s, c, b, a, m, g",
+    "priority: g, m, t, s, b, c, a",
+    "priority: last-line",
+    "priority: first-line",
+    "priority: number-of-criteria, last-line",
+    "priority: number-of-criteria, criterium(t, s, c, b, a, m, g), first-line",
+    "priority: criterium(m, g, t, s, c, b, a), number-of-criteria, last-line",
+  };
+  private static final int PARAMETER_COMBINATIONS_PER_FILE = 150;
+
+  @Test
+  void sameResultForHandwrittenRules() {
+    String rules = String.join("\n",
+      "priority: t, s, c, b, a, m, g",
+      "fallback-policy: l no-loan r no-hold n basic-notice o overdue i lost-item",
+      "m book cd dvd: l policy-a r request-1 n notice-1 o overdue-1 i lost-item-1",
+      "m newspaper + g all: l policy-c r request-2 n notice-2 o overdue-2 i lost-item-2",
+      "m !book !dvd",
+      "    g visitor: l in-house r request-4 n notice-4 o overdue-4 i lost-item-4",
+      "    g !undergrad + t special: l in-house r request-5 n notice-5 o overdue-5 i lost-item-5",
+      "a a1 + b b2 + c c1: l policy-d r request-7 n notice-7 o overdue-7 i lost-item-7",
+      "s s1 s2 + m all: l policy-e r request-8 n notice-8 o overdue-8 i lost-item-8");
+
+    assertSameResults(rules, new Random(1));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20 })
+  void sameResultForGeneratedRules(int seed) {
+    Random random = new Random(seed);
+
+    assertSameResults(generateRules(random), random);
+  }
+
+  private void assertSameResults(String rulesAsText, Random random) {
+    Drools drools = new Drools("test-tenant-id", Text2Drools.convert(rulesAsText));
+    DecisionTable decisionTable = Text2Drools.compile(rulesAsText);
+
+    for (int i = 0; i < PARAMETER_COMBINATIONS_PER_FILE; i++) {
+      MultiMap params = params(value(random, "m"), value(random, "t"), value(random, "g"),
+        value(random, "s"));
+      Location location = random.nextInt(10) == 0 ? null : createLocation(
+        value(random, "a"), value(random, "c"), value(random, "b"));
+      String description = rulesAsText + "\n" + params + " " + location;
+
+      assertSameMatch(description, drools.loanPolicy(params, location),
+        decisionTable.loanPolicy(params, location));
+      assertSameMatch(description, drools.requestPolicy(params, location),
+        decisionTable.requestPolicy(params, location));
+      assertSameMatch(description, drools.noticePolicy(params, location),
+        decisionTable.noticePolicy(params, location));
+      assertSameMatch(description, drools.overduePolicy(params, location),
+        decisionTable.overduePolicy(params, location));
+      assertSameMatch(description, drools.lostItemPolicy(params, location),
+        decisionTable.lostItemPolicy(params, location));
+
+      assertSamePolicies(description, drools, decisionTable, params, location,
+        RulesEngine::loanPolicies);
+      assertSamePolicies(description, drools, decisionTable, params, location,
+        RulesEngine::requestPolicies);
+      assertSamePolicies(description, drools, decisionTable, params, location,
+        RulesEngine::noticePolicies);
+      assertSamePolicies(description, drools, decisionTable, params, location,
+        RulesEngine::overduePolicies);
+      assertSamePolicies(description, drools, decisionTable, params, location,
+        RulesEngine::lostItemPolicies);
+    }
+  }
+
+  private void assertSameMatch(String description, CirculationRuleMatch expected,
+    CirculationRuleMatch actual) {
+
+    assertThat(description, actual.getPolicyId(), is(expected.getPolicyId()));
+
+    AppliedRuleConditions expectedConditions = expected.getAppliedRuleConditions();
+    AppliedRuleConditions actualConditions = actual.getAppliedRuleConditions();
+    assertThat(description, actualConditions.isItemTypePresent(),
+      is(expectedConditions.isItemTypePresent()));
+    assertThat(description, actualConditions.isLoanTypePresent(),
+      is(expectedConditions.isLoanTypePresent()));
+    assertThat(description, actualConditions.isPatronGroupPresent(),
+      is(expectedConditions.isPatronGroupPresent()));
+  }
+
+  private void assertSamePolicies(String description, Drools drools,
+    DecisionTable decisionTable, MultiMap params, Location location,
+    PoliciesFunction policies) {
+
+    JsonArray expected = policies.apply(drools, params, location);
+    JsonArray actual = policies.apply(decisionTable, params, location);
+
+    assertThat(description, actual.encode(), is(expected.encode()));
+  }
+
+  /**
+   * Generates a random rules file using a few names for each criterium type,
+   * with negations, "all", multiple criteria per line and nested lines.
+   */
+  private String generateRules(Random random) {
+    String priority = PRIORITIES[random.nextInt(PRIORITIES.length)];
+    boolean fallbackLast = priority.equals("priority: first-line");
+    String fallback = "fallback-policy: l no-loan r no-hold n basic-notice o overdue i lost-item";
+
+    List<String> lines = new ArrayList<>();
+    lines.add(priority);
+    if (!fallbackLast) {
+      lines.add(fallback);
+    }
+
+    int statements = 5 + random.nextInt(20);
+    for (int i = 0; i < statements; i++) {
+      boolean hasChildren = random.nextInt(3) == 0;
+      boolean hasPolicies = !hasChildren || random.nextBoolean();
+      lines.add(expression(random, "", hasPolicies, lines.size() + 1));
+
+      if (hasChildren) {
+        int children = 1 + random.nextInt(3);
+        for (int j = 0; j < children; j++) {
+          lines.add(expression(random, "    ", true, lines.size() + 1));
+        }
+      }
+    }
+
+    if (fallbackLast) {
+      lines.add(fallback);
+    }
+
+    return String.join("\n", lines);
+  }
+
+  private String expression(Random random, String indentation, boolean withPolicies,
+    int line) {
+
+    List<String> criteria = new ArrayList<>();
+    int criteriaCount = 1 + random.nextInt(3);
+
+    for (int i = 0; i < criteriaCount; i++) {
+      criteria.add(criterium(random, CRITERIUM_LETTERS[random.nextInt(CRITERIUM_LETTERS.length)]));
+    }
+
+    String expression = indentation + String.join(" + ", criteria);
+
+    if (!withPolicies) {
+      return expression;
+    }
+
+    return expression + String.format(": l loan-%1$d r request-%1$d n notice-%1$d " +
+      "o overdue-%1$d i lost-item-%1$d", line);
+  }
+
+  private String criterium(Random random, String letter) {
+    int kind = random.nextInt(5);
+
+    if (kind == 0) {
+      return letter + " all";
+    }
+
+    boolean negated = kind == 1;
+    int names = 1 + random.nextInt(2);
+    StringBuilder criterium = new StringBuilder(letter);
+
+    for (int i = 0; i < names; i++) {
+      criterium.append(negated ? " !" : " ").append(letter).append(1 + random.nextInt(3));
+    }
+
+    return criterium.toString();
+  }
+
+  /**
+   * @return one of the names used in the generated rules or a name that is never used
+   */
+  private String value(Random random, String letter) {
+    return letter + (1 + random.nextInt(4));
+  }
+
+  private MultiMap params(String itId, String ltId, String ptId, String lId) {
+    MultiMap params = MultiMap.caseInsensitiveMultiMap();
+
+    params.add(ITEM_TYPE_ID_NAME, itId);
+    params.add(LOAN_TYPE_ID_NAME, ltId);
+    params.add(PATRON_TYPE_ID_NAME, ptId);
+    params.add(LOCATION_ID_NAME, lId);
+
+    return params;
+  }
+
+  private Location createLocation(String institutionId, String libraryId, String campusId) {
+    return new Location(null, null, null, null, emptyList(), null,
+      false,
+      Institution.unknown(institutionId), Campus.unknown(campusId), Library.unknown(libraryId),
+      ServicePoint.unknown());
+  }
+
+  @FunctionalInterface
+  private interface PoliciesFunction {
+    JsonArray apply(RulesEngine rulesEngine, MultiMap params, Location location);
+  }
+}
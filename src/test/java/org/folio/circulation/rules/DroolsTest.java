@@ -0,0 +1,84 @@
+package org.folio.circulation.rules;
+
+import static java.util.Collections.emptyList;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.ServicePoint;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.MultiMap;
+
+class DroolsTest {
+  private static final String RULES = Text2Drools.convert(String.join("\n",
+    "priority: t, s, c, b, a, m, g",
+    "fallback-policy: l no-loan r no-hold n basic-notice o overdue i lost-item",
+    "m book cd dvd: l policy-a r request-1 n notice-1 o overdue-1 i lost-item-1",
+    "m newspaper + g all: l policy-c r request-2 n notice-2 o overdue-2 i lost-item-2",
+    "a a1 + b b2 + c c1: l policy-d r request-7 n notice-7 o overdue-7 i lost-item-7"));
+
+  @Test
+  void pooledSessionsAreResetBetweenEvaluations() {
+    Drools pooled = new Drools("test-tenant-id", RULES, 2);
+
+    for (int i = 0; i < 5; i++) {
+      assertLoanPolicy(pooled.loanPolicy(params("book", "g1"), null), "policy-a", true, false);
+      assertLoanPolicy(pooled.loanPolicy(params("newspaper", "g1"), null), "policy-c", true, true);
+      assertLoanPolicy(pooled.loanPolicy(params("map", "g1"), location("a1", "b2", "c1")),
+        "policy-d", false, false);
+      assertLoanPolicy(pooled.loanPolicy(params("map", "g1"), null), "no-loan", false, false);
+      assertThat(pooled.loanPolicies(params("book", "g1"), location("a1", "b2", "c1")).size(),
+        is(3));
+    }
+  }
+
+  @Test
+  void pooledAndNewSessionsFindSamePolicies() {
+    Drools pooled = new Drools("test-tenant-id", RULES, 1);
+    Drools unpooled = new Drools("test-tenant-id", RULES, 0);
+    Location location = location("a1", "b2", "c1");
+
+    for (String itemType : new String[] { "book", "newspaper", "map" }) {
+      MultiMap params = params(itemType, "g1");
+
+      assertThat(pooled.requestPolicy(params, location).getPolicyId(),
+        is(unpooled.requestPolicy(params, location).getPolicyId()));
+      assertThat(pooled.noticePolicies(params, location).encode(),
+        is(unpooled.noticePolicies(params, location).encode()));
+    }
+  }
+
+  private void assertLoanPolicy(CirculationRuleMatch match, String policyId,
+    boolean itemTypePresent, boolean patronGroupPresent) {
+
+    assertThat(match.getPolicyId(), is(policyId));
+    assertThat(match.getAppliedRuleConditions().isItemTypePresent(), is(itemTypePresent));
+    assertThat(match.getAppliedRuleConditions().isLoanTypePresent(), is(false));
+    assertThat(match.getAppliedRuleConditions().isPatronGroupPresent(), is(patronGroupPresent));
+  }
+
+  private MultiMap params(String itemTypeId, String patronGroupId) {
+    MultiMap params = MultiMap.caseInsensitiveMultiMap();
+
+    params.add(ITEM_TYPE_ID_NAME, itemTypeId);
+    params.add(LOAN_TYPE_ID_NAME, "t1");
+    params.add(PATRON_TYPE_ID_NAME, patronGroupId);
+    params.add(LOCATION_ID_NAME, "s1");
+
+    return params;
+  }
+
+  private Location location(String institutionId, String campusId, String libraryId) {
+    return new Location(null, null, null, null, emptyList(), null, false,
+      Institution.unknown(institutionId), Campus.unknown(campusId), Library.unknown(libraryId),
+      ServicePoint.unknown());
+  }
+}
@@ -1,25 +1,38 @@
 package org.folio.circulation.rules.cache;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static org.awaitility.Awaitility.await;
 import static org.folio.circulation.support.http.ContentType.APPLICATION_JSON;
 import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
 import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.ServicePoint;
+import org.folio.circulation.rules.AppliedRuleConditions;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.http.client.Response;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.vertx.core.Context;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +69,55 @@ class CirculationRulesCacheTest {
     assertNotEquals(loanPolicyId1, loanPolicyId2);
   }
 
+  @Test
+  void builtRulesAreCompletedOnContextOfCaller() throws Exception {
+    final Vertx vertx = Vertx.vertx();
+
+    try {
+      final Context context = vertx.getOrCreateContext();
+      final CompletableFuture<Boolean> continuedOnContext = new CompletableFuture<>();
+
+      context.runOnContext(v -> CirculationRulesCache.getInstance()
+        .buildRules("tenant3", "priority: t, s, c, b, a, m, g\n" +
+          "fallback-policy: l loan r request n notice o overdue i lost")
+        .thenAccept(r -> continuedOnContext.complete(Vertx.currentContext() == context)));
+
+      assertThat(continuedOnContext.get(10, TimeUnit.SECONDS), is(true));
+    } finally {
+      vertx.close();
+    }
+  }
+
+  @Test
+  void dropsPolicyMatchesOfTenant() throws Exception {
+    final var cache = CirculationRulesCache.getInstance();
+
+    cache.buildRules("tenant5", "priority: t, s, c, b, a, m, g\n" +
+      "fallback-policy: l loan r request n notice o overdue i lost")
+      .get(10, TimeUnit.SECONDS);
+
+    final var policyMatchCache = cache.getRules("tenant5").getPolicyMatchCache();
+    final var location = new Location("location-1", null, null, null, emptyList(), null, false,
+      Institution.unknown("institution-1"), Campus.unknown("campus-1"),
+      Library.unknown("library-1"), ServicePoint.unknown());
+
+    policyMatchCache.put("loan policy", new RulesExecutionParameters("loan-type-1",
+      "location-1", "material-type-1", "patron-group-1", location),
+      new CirculationRuleMatch("loan", new AppliedRuleConditions(false, false, false)));
+
+    assertThat(policyMatchCache.size(), is(1));
+
+    cache.dropPolicyMatches("tenant5");
+
+    assertThat(policyMatchCache.size(), is(0));
+  }
+
+  @Test
+  void prewarmCompletes() throws Exception {
+    CirculationRulesCache.getInstance().prewarm().get(10, TimeUnit.SECONDS);
+    CirculationRulesCache.getInstance().prewarm().get(10, TimeUnit.SECONDS);
+  }
+
   private String getLoanPolicyId(String tenantId, CollectionResourceClient client) throws Exception {
     return CirculationRulesCache.getInstance().getDrools(tenantId, client)
       .get().value().loanPolicy(MultiMap.caseInsensitiveMultiMap(), Location.unknown()).getPolicyId();
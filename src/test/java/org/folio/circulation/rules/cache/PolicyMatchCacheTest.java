@@ -0,0 +1,116 @@
+package org.folio.circulation.rules.cache;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.ServicePoint;
+import org.folio.circulation.rules.AppliedRuleConditions;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.RulesExecutionParameters;
+import org.folio.circulation.support.cache.ExpiringCache;
+import org.junit.jupiter.api.Test;
+
+class PolicyMatchCacheTest {
+  private static final CirculationRuleMatch MATCH = new CirculationRuleMatch("policy-1",
+    new AppliedRuleConditions(true, false, false));
+
+  @Test
+  void remembersMatchPerPolicyType() {
+    PolicyMatchCache cache = new PolicyMatchCache(10, 60_000);
+
+    cache.put("loan policy", parameters("location-1", location("location-1")), MATCH);
+
+    assertThat(cache.get("loan policy", parameters("location-1", null)).isPresent(), is(true));
+    assertThat(cache.get("request policy", parameters("location-1", null)).isPresent(), is(false));
+    assertThat(cache.getStatistics().getHits(), is(1L));
+    assertThat(cache.getStatistics().getMisses(), is(1L));
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedMatch() {
+    PolicyMatchCache cache = new PolicyMatchCache(2, 60_000);
+
+    cache.put("loan policy", parameters("location-1", location("location-1")), MATCH);
+    cache.put("loan policy", parameters("location-2", location("location-2")), MATCH);
+    cache.get("loan policy", parameters("location-1", null));
+    cache.put("loan policy", parameters("location-3", location("location-3")), MATCH);
+
+    assertThat(cache.size(), is(2));
+    assertThat(cache.getStatistics().getEvictions(), is(1L));
+    assertThat(cache.get("loan policy", parameters("location-1", null)).isPresent(), is(true));
+    assertThat(cache.get("loan policy", parameters("location-2", null)).isPresent(), is(false));
+  }
+
+  @Test
+  void doesNotRememberMatchForUnknownLocation() {
+    PolicyMatchCache cache = new PolicyMatchCache(10, 60_000);
+
+    cache.put("loan policy", parameters("location-1", null), MATCH);
+    cache.put("loan policy", parameters("location-1", Location.unknown("location-1")), MATCH);
+
+    assertThat(cache.size(), is(0));
+  }
+
+  @Test
+  void isDisabledWhenSizeIsZero() {
+    PolicyMatchCache cache = new PolicyMatchCache(0, 60_000);
+
+    cache.put("loan policy", parameters("location-1", location("location-1")), MATCH);
+
+    assertThat(cache.get("loan policy", parameters("location-1", null)).isPresent(), is(false));
+    assertThat(cache.getStatistics().getMisses(), is(0L));
+  }
+
+  @Test
+  void matchExpiresAfterTimeToLive() {
+    final AtomicLong now = new AtomicLong();
+    PolicyMatchCache cache = new PolicyMatchCache(new ExpiringCache<>(10, 100, now::get));
+
+    cache.put("loan policy", parameters("location-1", location("location-1")), MATCH);
+    now.set(99);
+    assertThat(cache.get("loan policy", parameters("location-1", null)).isPresent(), is(true));
+
+    now.set(100);
+    assertThat(cache.get("loan policy", parameters("location-1", null)).isPresent(), is(false));
+    assertThat(cache.getStatistics().getExpirations(), is(1L));
+  }
+
+  @Test
+  void forgetsAllMatchesWhenInvalidated() {
+    PolicyMatchCache cache = new PolicyMatchCache(10, 60_000);
+
+    cache.put("loan policy", parameters("location-1", location("location-1")), MATCH);
+    cache.put("request policy", parameters("location-2", location("location-2")), MATCH);
+    cache.invalidateAll();
+
+    assertThat(cache.size(), is(0));
+    assertThat(cache.get("loan policy", parameters("location-1", null)).isPresent(), is(false));
+  }
+
+  @Test
+  void isDisabledWhenTimeToLiveIsZero() {
+    PolicyMatchCache cache = new PolicyMatchCache(10, 0);
+
+    cache.put("loan policy", parameters("location-1", location("location-1")), MATCH);
+
+    assertThat(cache.size(), is(0));
+  }
+
+  private static RulesExecutionParameters parameters(String locationId, Location location) {
+    return new RulesExecutionParameters("loan-type-1", locationId, "material-type-1",
+      "patron-group-1", location);
+  }
+
+  private static Location location(String id) {
+    return new Location(id, null, null, null, emptyList(), null, false,
+      Institution.unknown("institution-1"), Campus.unknown("campus-1"),
+      Library.unknown("library-1"), ServicePoint.unknown());
+  }
+}
@@ -0,0 +1,92 @@
+package org.folio.circulation.services.events;
+
+import static org.folio.circulation.infrastructure.storage.inventory.ReferenceDataCache.ReferenceDataType.LOCATION;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.infrastructure.storage.inventory.ReferenceDataCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.kafka.client.consumer.impl.KafkaConsumerRecordImpl;
+
+class ReferenceDataChangedEventHandlerTest {
+  private final AtomicInteger numberOfFetches = new AtomicInteger();
+
+  @AfterEach
+  void afterEach() {
+    ReferenceDataCache.getInstance().dropCache();
+  }
+
+  @Test
+  void changedLocationIsFetchedAgain() {
+    getLocation("tenant1", "location-1");
+    getLocation("tenant1", "location-2");
+
+    handle(new JsonObject()
+      .put("type", "UPDATE")
+      .put("tenant", "tenant1")
+      .put("old", new JsonObject().put("id", "location-1"))
+      .put("new", new JsonObject().put("id", "location-1")));
+
+    getLocation("tenant1", "location-1");
+    getLocation("tenant1", "location-2");
+
+    assertThat(numberOfFetches.get(), is(3));
+  }
+
+  @Test
+  void deletedLocationIsNotFetchedFromCache() {
+    getLocation("tenant1", "location-1");
+
+    handle(new JsonObject()
+      .put("type", "DELETE")
+      .put("tenant", "tenant1")
+      .put("old", new JsonObject().put("id", "location-1")));
+
+    getLocation("tenant1", "location-1");
+
+    assertThat(numberOfFetches.get(), is(2));
+  }
+
+  @Test
+  void allLocationsOfTenantAreFetchedAgainWhenAllAreDeleted() {
+    getLocation("tenant1", "location-1");
+    getLocation("tenant1", "location-2");
+    getLocation("tenant2", "location-1");
+
+    handle(new JsonObject()
+      .put("type", "DELETE_ALL")
+      .put("tenant", "tenant1"));
+
+    getLocation("tenant1", "location-1");
+    getLocation("tenant1", "location-2");
+    getLocation("tenant2", "location-1");
+
+    assertThat(numberOfFetches.get(), is(5));
+  }
+
+  private void getLocation(String tenantId, String locationId) {
+    ReferenceDataCache.getInstance().getLocations()
+      .get(tenantId, locationId, () -> {
+        numberOfFetches.incrementAndGet();
+        return ofAsync(Location.unknown(locationId));
+      })
+      .join();
+  }
+
+  private static void handle(JsonObject event) {
+    new ReferenceDataChangedEventHandler(LOCATION)
+      .handle(new KafkaConsumerRecordImpl<>(
+        new ConsumerRecord<>("location", 0, 0, "key", event.encode())))
+      .toCompletionStage()
+      .toCompletableFuture()
+      .join();
+  }
+}
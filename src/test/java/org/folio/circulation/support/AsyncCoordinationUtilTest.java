@@ -1,8 +1,12 @@
 package org.folio.circulation.support;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
 import static org.folio.circulation.support.AsyncCoordinationUtil.mapSequentially;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -41,4 +45,60 @@ class AsyncCoordinationUtilTest {
     assertEquals(numbers, invocationResults);
   }
 
-}
\ No newline at end of file
+  @Test
+  @SneakyThrows
+  void allOfWithLimitKeepsAtMostLimitInProgressAndPreservesOrder() {
+    List<CompletableFuture<Result<Integer>>> started = new ArrayList<>();
+
+    CompletableFuture<Result<List<Integer>>> results = allOf(List.of(1, 2, 3, 4, 5),
+      number -> {
+        CompletableFuture<Result<Integer>> action = new CompletableFuture<>();
+        started.add(action);
+        return action.thenApply(r -> r.map(ignored -> number * 10));
+      }, 2);
+
+    assertEquals(2, started.size());
+
+    started.get(1).complete(succeeded(null));
+    assertEquals(3, started.size());
+
+    started.get(0).complete(succeeded(null));
+    started.get(2).complete(succeeded(null));
+    assertEquals(5, started.size());
+
+    started.get(4).complete(succeeded(null));
+    started.get(3).complete(succeeded(null));
+
+    assertEquals(List.of(10, 20, 30, 40, 50), results.get(1, TimeUnit.SECONDS).value());
+  }
+
+  @Test
+  @SneakyThrows
+  void allResultsOfWithLimitIsolatesFailures() {
+    List<Result<Integer>> results = allResultsOf(List.of(1, 2, 3), number -> {
+      if (number == 2) {
+        throw new IllegalStateException("Cannot process 2");
+      }
+      return completedFuture(succeeded(number));
+    }, 1).get(1, TimeUnit.SECONDS);
+
+    assertEquals(3, results.size());
+    assertTrue(results.get(0).succeeded());
+    assertTrue(results.get(1).failed());
+    assertTrue(results.get(2).succeeded());
+  }
+
+  @Test
+  @SneakyThrows
+  void allOfWithLimitHandlesManyActionsCompletingImmediately() {
+    List<Integer> numbers = IntStream.range(0, 100_000)
+      .boxed()
+      .collect(Collectors.toList());
+
+    List<Integer> results = allOf(numbers, number -> completedFuture(succeeded(number)), 3)
+      .get(5, TimeUnit.SECONDS)
+      .value();
+
+    assertEquals(numbers, results);
+  }
+}
@@ -0,0 +1,70 @@
+package org.folio.circulation.support.async;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import lombok.SneakyThrows;
+
+class ContextBoundFutureTest {
+  private final Vertx vertx = Vertx.vertx();
+
+  @AfterEach
+  void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  void futureIsNotBoundWhenThereIsNoContext() {
+    final CompletableFuture<String> future = ContextBoundFuture.onCurrentContext();
+
+    assertThat(future, not(instanceOf(ContextBoundFuture.class)));
+  }
+
+  @Test
+  @SneakyThrows
+  void asynchronousStagesContinueOnContextFutureWasCreatedOn() {
+    final Context context = vertx.getOrCreateContext();
+    final CompletableFuture<Boolean> ranOnContext = new CompletableFuture<>();
+
+    context.runOnContext(v -> {
+      final CompletableFuture<String> future = ContextBoundFuture.onCurrentContext();
+
+      future
+        .thenApply(String::length)
+        .thenApplyAsync(length -> Vertx.currentContext() == context)
+        .thenAccept(ranOnContext::complete);
+
+      new Thread(() -> future.complete("completed elsewhere")).start();
+    });
+
+    assertThat(ranOnContext.get(5, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  @SneakyThrows
+  void workerResultIsCompletedOnContextOfCaller() {
+    final Context context = vertx.getOrCreateContext();
+    final CompletableFuture<Boolean> ranOnWorker = new CompletableFuture<>();
+    final CompletableFuture<Boolean> continuedOnContext = new CompletableFuture<>();
+
+    context.runOnContext(v -> CirculationExecutors
+      .supplyOnWorker(() -> Vertx.currentContext() == null)
+      .thenAccept(onWorker -> {
+        ranOnWorker.complete(onWorker);
+        continuedOnContext.complete(Vertx.currentContext() == context);
+      }));
+
+    assertThat(ranOnWorker.get(5, TimeUnit.SECONDS), is(true));
+    assertThat(continuedOnContext.get(5, TimeUnit.SECONDS), is(true));
+  }
+}
@@ -0,0 +1,107 @@
+package org.folio.circulation.support.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import lombok.SneakyThrows;
+
+class SingleFlightTest {
+  @Test
+  void concurrentCallersShareComputation() {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    CompletableFuture<String> computation = new CompletableFuture<>();
+    AtomicInteger started = new AtomicInteger();
+
+    CompletableFuture<String> first = singleFlight.execute("tenant",
+      () -> { started.incrementAndGet(); return computation; });
+    CompletableFuture<String> second = singleFlight.execute("tenant",
+      () -> { started.incrementAndGet(); return computation; });
+
+    assertThat(second, not(sameInstance(first)));
+    assertThat(started.get(), is(1));
+    assertThat(singleFlight.isInFlight("tenant"), is(true));
+
+    computation.complete("rules");
+
+    assertThat(first.join(), is("rules"));
+    assertThat(second.join(), is("rules"));
+    assertThat(singleFlight.isInFlight("tenant"), is(false));
+  }
+
+  @Test
+  @SneakyThrows
+  void callersContinueOnTheirOwnContext() {
+    final Vertx vertx = Vertx.vertx();
+
+    try {
+      final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+      final CompletableFuture<String> computation = new CompletableFuture<>();
+      final Context firstContext = ((VertxInternal) vertx).createEventLoopContext();
+      final Context secondContext = ((VertxInternal) vertx).createEventLoopContext();
+      final CompletableFuture<Boolean> firstOnOwnContext = new CompletableFuture<>();
+      final CompletableFuture<Boolean> secondOnOwnContext = new CompletableFuture<>();
+      final CompletableFuture<Void> firstWaiting = new CompletableFuture<>();
+      final CompletableFuture<Void> secondWaiting = new CompletableFuture<>();
+
+      assertThat(secondContext, not(sameInstance(firstContext)));
+
+      firstContext.runOnContext(v -> {
+        singleFlight.execute("tenant", () -> computation)
+          .thenAccept(value -> firstOnOwnContext.complete(
+            Vertx.currentContext() == firstContext));
+        firstWaiting.complete(null);
+      });
+
+      firstWaiting.get(5, TimeUnit.SECONDS);
+
+      secondContext.runOnContext(v -> {
+        singleFlight.execute("tenant", CompletableFuture::new)
+          .thenAccept(value -> secondOnOwnContext.complete(
+            Vertx.currentContext() == secondContext));
+        secondWaiting.complete(null);
+      });
+
+      secondWaiting.get(5, TimeUnit.SECONDS);
+      firstContext.runOnContext(v -> computation.complete("rules"));
+
+      assertThat(firstOnOwnContext.get(5, TimeUnit.SECONDS), is(true));
+      assertThat(secondOnOwnContext.get(5, TimeUnit.SECONDS), is(true));
+    } finally {
+      vertx.close();
+    }
+  }
+
+  @Test
+  void startsNewComputationAfterPreviousHasCompleted() {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    singleFlight.execute("tenant", () -> CompletableFuture.completedFuture("first")).join();
+    String second = singleFlight.execute("tenant",
+      () -> CompletableFuture.completedFuture("second")).join();
+
+    assertThat(second, is("second"));
+  }
+
+  @Test
+  void failedComputationIsNotRemembered() {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    CompletableFuture<String> failed = singleFlight.execute("tenant", () -> {
+      throw new IllegalStateException("storage not available");
+    });
+
+    assertThat(failed.isCompletedExceptionally(), is(true));
+    assertThat(singleFlight.isInFlight("tenant"), is(false));
+  }
+}
@@ -0,0 +1,149 @@
+package org.folio.circulation.support.cache;
+
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+class TenantScopedCacheTest {
+  private final AtomicLong now = new AtomicLong(1000);
+  private final TenantScopedCache<String> cache = new TenantScopedCache<>(
+    new ExpiringCache<>(10, 100, now::get));
+
+  @Test
+  void cachedRecordIsServedUntilItExpires() {
+    AtomicInteger loads = new AtomicInteger();
+
+    assertThat(get("tenant", "location", loads), is("location-1"));
+    now.addAndGet(99);
+    assertThat(get("tenant", "location", loads), is("location-1"));
+    assertThat(cache.getStatistics().getMaximumServedAgeMillis(), is(99L));
+
+    now.addAndGet(1);
+    assertThat(get("tenant", "location", loads), is("location-2"));
+    assertThat(cache.getStatistics().getExpirations(), is(1L));
+  }
+
+  @Test
+  void recordsAreCachedPerTenant() {
+    AtomicInteger loads = new AtomicInteger();
+
+    assertThat(get("tenant", "location", loads), is("location-1"));
+    assertThat(get("other-tenant", "location", loads), is("location-2"));
+    assertThat(get("tenant", "location", loads), is("location-1"));
+  }
+
+  @Test
+  void recordThatIsNotFoundIsNotCached() {
+    AtomicInteger loads = new AtomicInteger();
+
+    Supplier<CompletableFuture<Result<String>>> notFound = () -> {
+      loads.incrementAndGet();
+      return ofAsync((String) null);
+    };
+
+    cache.get("tenant", "missing", notFound).join();
+    cache.get("tenant", "missing", notFound).join();
+
+    assertThat(loads.get(), is(2));
+    assertThat(cache.size(), is(0));
+  }
+
+  @Test
+  void onlyMissingRecordsAreLoadedInBulk() {
+    List<Set<String>> requestedIds = new ArrayList<>();
+
+    getAll(List.of("a", "b"), requestedIds);
+    Map<String, String> records = getAll(List.of("a", "b", "c"), requestedIds);
+
+    assertThat(requestedIds, is(List.of(Set.of("a", "b"), Set.of("c"))));
+    assertThat(records, is(Map.of("a", "record-a", "b", "record-b", "c", "record-c")));
+  }
+
+  @Test
+  void invalidatedRecordsAreLoadedAgain() {
+    AtomicInteger loads = new AtomicInteger();
+
+    get("tenant", "location", loads);
+    get("other-tenant", "location", loads);
+    cache.invalidate("tenant");
+
+    assertThat(get("tenant", "location", loads), is("location-3"));
+    assertThat(get("other-tenant", "location", loads), is("location-2"));
+
+    cache.invalidate("tenant", "location");
+
+    assertThat(get("tenant", "location", loads), is("location-4"));
+    assertThat(cache.getStatistics().getInvalidations(), is(2L));
+  }
+
+  @Test
+  void recordInvalidatedWhileBeingLoadedIsNotStored() {
+    final CompletableFuture<Result<String>> load = new CompletableFuture<>();
+    final CompletableFuture<Result<String>> loaded = cache.get("tenant", "location",
+      () -> load);
+
+    cache.invalidate("tenant", "location");
+    load.complete(Result.succeeded("location-before-change"));
+
+    assertThat(loaded.join().value(), is("location-before-change"));
+    assertThat(cache.size(), is(0));
+    assertThat(get("tenant", "location", new AtomicInteger()), is("location-1"));
+    assertThat(cache.size(), is(1));
+  }
+
+  @Test
+  void recordsInvalidatedWhileBeingLoadedInBulkAreNotStored() {
+    final CompletableFuture<Result<Map<String, String>>> load = new CompletableFuture<>();
+    final CompletableFuture<Result<Map<String, String>>> loaded = cache.getAll("tenant",
+      List.of("a", "b"), missing -> load);
+
+    cache.invalidate("tenant", "a");
+    load.complete(Result.succeeded(Map.of("a", "record-a", "b", "record-b")));
+
+    assertThat(loaded.join().value().size(), is(2));
+
+    List<Set<String>> requestedIds = new ArrayList<>();
+    getAll(List.of("a", "b"), requestedIds);
+
+    assertThat(requestedIds, is(List.of(Set.of("a"))));
+  }
+
+  @Test
+  void recordsAreNotCachedWithoutTenant() {
+    AtomicInteger loads = new AtomicInteger();
+
+    get(null, "location", loads);
+
+    assertThat(get(null, "location", loads), is("location-2"));
+  }
+
+  private String get(String tenantId, String id, AtomicInteger loads) {
+    return cache.get(tenantId, id, () -> ofAsync(id + "-" + loads.incrementAndGet()))
+      .join()
+      .value();
+  }
+
+  private Map<String, String> getAll(List<String> ids, List<Set<String>> requestedIds) {
+    return cache.getAll("tenant", ids, missing -> {
+        requestedIds.add(missing);
+        return ofAsync(missing.stream()
+          .collect(Collectors.toMap(Function.identity(), id -> "record-" + id)));
+      })
+      .join()
+      .value();
+  }
+}
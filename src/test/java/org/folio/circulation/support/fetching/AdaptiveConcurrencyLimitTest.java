@@ -0,0 +1,87 @@
+package org.folio.circulation.support.fetching;
+
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+  private final List<CompletableFuture<Result<String>>> startedQueries = new ArrayList<>();
+
+  @Test
+  void queriesOverLimitWaitUntilQueriesInFlightComplete() {
+    final var limit = new AdaptiveConcurrencyLimit(2, 60_000);
+
+    final var results = List.of(limit.run(this::query), limit.run(this::query),
+      limit.run(this::query));
+
+    assertThat(startedQueries.size(), is(2));
+    assertThat(limit.waitingQueries(), is(1));
+
+    startedQueries.get(0).complete(succeeded("first"));
+
+    assertThat(startedQueries.size(), is(3));
+    assertThat(results.get(0).join().value(), is("first"));
+
+    startedQueries.get(1).complete(succeeded("second"));
+    startedQueries.get(2).complete(succeeded("third"));
+
+    assertThat(results.get(2).join().value(), is("third"));
+    assertThat(limit.waitingQueries(), is(0));
+  }
+
+  @Test
+  void limitIsHalvedWhenStorageFailsAndGrowsBackAfterwards() {
+    final var limit = new AdaptiveConcurrencyLimit(8, 60_000);
+
+    limit.run(this::query);
+    startedQueries.get(0).complete(failed(new ServerErrorFailure("Overloaded")));
+
+    assertThat(limit.currentLimit(), is(4));
+
+    for (int i = 1; i <= 5; i++) {
+      limit.run(this::query);
+      startedQueries.get(i).complete(succeeded("ok"));
+    }
+
+    assertThat(limit.currentLimit(), is(5));
+  }
+
+  @Test
+  void limitIsReducedWhenStorageRespondsSlowly() {
+    final var limit = new AdaptiveConcurrencyLimit(8, -1);
+
+    limit.run(this::query);
+    startedQueries.get(0).complete(succeeded("slow"));
+
+    assertThat(limit.currentLimit(), is(4));
+  }
+
+  @Test
+  void limitIsNeverLowerThanOne() {
+    final var limit = new AdaptiveConcurrencyLimit(2, 60_000);
+
+    for (int i = 0; i < 3; i++) {
+      limit.run(this::query);
+      startedQueries.get(i).complete(failed(new ServerErrorFailure("Overloaded")));
+    }
+
+    assertThat(limit.currentLimit(), is(1));
+  }
+
+  private CompletableFuture<Result<String>> query() {
+    final var query = new CompletableFuture<Result<String>>();
+
+    startedQueries.add(query);
+
+    return query;
+  }
+}
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -101,6 +102,46 @@ class FindMultipleRecordsByIdTests {
     assertThat(getCapturedQuery(generatedCqlQueries, 1), is(secondExpectedQuery));
   }
 
+  @Test
+  void shouldSearchForRepeatedIdsOnce() {
+    when(queryFinder.findByQuery(any(), any())).thenReturn(
+      CompletableFuture.completedFuture(Result.succeeded(MultipleRecords.empty())));
+
+    final FindWithMultipleCqlIndexValues<JsonObject> fetcher
+      = new CqlIndexValuesFinder<>(queryFinder);
+
+    final Collection<String> ids = generateIds(10);
+
+    fetcher.findByIds(combineSetsOfIds(ids, ids));
+
+    verify(queryFinder).findByQuery(generatedCqlQueries.capture(), eq(maximumLimit()));
+
+    assertThat(generatedCqlQueries.getValue().value(), is(exactMatchAny("id", ids).value()));
+  }
+
+  @Test
+  void shouldFitAsManyIdsIntoQueryAsLengthAllows() {
+    when(queryFinder.findByQuery(any(), any())).thenReturn(
+      CompletableFuture.completedFuture(Result.succeeded(MultipleRecords.empty())));
+
+    final FindWithMultipleCqlIndexValues<JsonObject> fetcher
+      = new CqlIndexValuesFinder<>(queryFinder);
+
+    final List<String> ids = new ArrayList<>(generateIds(100));
+
+    fetcher.findByIds(ids);
+
+    verify(queryFinder, times(2))
+      .findByQuery(generatedCqlQueries.capture(), eq(maximumLimit()));
+
+    final CqlQuery firstQuery = getCapturedQuery(generatedCqlQueries, 0);
+    final CqlQuery secondQuery = getCapturedQuery(generatedCqlQueries, 1);
+
+    assertThat(firstQuery.encodedLength() <= 3500, is(true));
+    assertThat(firstQuery.encodedLength() > 3000, is(true));
+    assertThat(firstQuery.encodedLength() + secondQuery.encodedLength() > 4000, is(true));
+  }
+
   @Test
   void shouldIncludeAdditionalQuery() {
     when(queryFinder.findByQuery(any(), any())).thenReturn(
@@ -11,6 +11,7 @@ import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -19,7 +20,10 @@ import static org.mockito.Mockito.when;
 import static org.mockito.internal.verification.VerificationModeFactory.noInteractions;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.ServerErrorFailure;
@@ -111,6 +115,53 @@ class PageableFetcherTest {
     verify(pageProcessor, times(10)).processPage(any());
   }
 
+  @Test
+  void shouldProcessPagesById() {
+    final var repository = new RepositoryById(95);
+    final List<Integer> processedRecords = new ArrayList<>();
+
+    final var voidResult = new PageableFetcher<>(repository, limit(10), 1000,
+      String::valueOf, 2)
+      .processPages(noQuery().value(), records -> {
+        processedRecords.addAll(records.getRecords());
+        return ofAsync(() -> null);
+      })
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(processedRecords, is(range(0, 95).boxed().collect(toList())));
+    assertThat(repository.pagesFetched, is(10));
+  }
+
+  @Test
+  void shouldFetchNextPageWhilePageIsProcessed() {
+    final var repository = new RepositoryById(30);
+    final List<Integer> pagesFetchedWhenProcessing = new ArrayList<>();
+
+    final var voidResult = new PageableFetcher<>(repository, limit(10), 1000,
+      String::valueOf, 1)
+      .processPages(noQuery().value(), records -> {
+        pagesFetchedWhenProcessing.add(repository.pagesFetched);
+        return ofAsync(() -> null);
+      })
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(pagesFetchedWhenProcessing, contains(2, 3, 4, 4));
+  }
+
+  @Test
+  void shouldProcessManyPagesWithoutRecursion() {
+    final var pageProcessor = spy(dummyProcessor());
+
+    final var voidResult = new PageableFetcher<>(repository(100_000), limit(1), 1_000_000)
+      .processPages(noQuery().value(), pageProcessor)
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    verify(pageProcessor, times(100_001)).processPage(any());
+  }
+
   private <T> Result<Void> processPages(GetManyRecordsRepository<T> repository,
     PageLimit pageLimit, PageProcessor<T> processor) {
 
@@ -146,4 +197,29 @@ class PageableFetcherTest {
       }
     };
   }
+
+  private static class RepositoryById implements GetManyRecordsRepository<Integer> {
+    private static final Pattern AFTER_ID = Pattern.compile("id>\"(\\d+)\"");
+
+    private final int totalRecords;
+    private int pagesFetched;
+
+    private RepositoryById(int totalRecords) {
+      this.totalRecords = totalRecords;
+    }
+
+    @Override
+    public CompletableFuture<Result<MultipleRecords<Integer>>> getMany(
+      CqlQuery cqlQuery, PageLimit pageLimit, Offset offset) {
+
+      pagesFetched++;
+
+      final var afterId = AFTER_ID.matcher(cqlQuery.toString());
+      final var start = afterId.find() ? Integer.parseInt(afterId.group(1)) + 1 : 0;
+      final var end = min(start + pageLimit.getLimit(), totalRecords);
+      final var response = range(start, end).boxed().collect(toList());
+
+      return ofAsync(() -> new MultipleRecords<>(response, totalRecords));
+    }
+  }
 }
@@ -95,6 +95,26 @@ class CqlQueryTests {
       is("barcode==\"12345\" sortBy position/sort.ascending"));
   }
 
+  @Test
+  void canStartAfterValueOfIndex() {
+    final Result<CqlQuery> query = exactMatch("status", "Open")
+      .map(q -> q.sortBy(ascending("dueDate")))
+      .map(q -> q.startingAfter("id", "1234"));
+
+    assertThat(query.value().asText(),
+      is("(status==\"Open\") and id>\"1234\" sortBy id/sort.ascending"));
+  }
+
+  @Test
+  void firstPageStartsFromBeginningOfIndex() {
+    final Result<CqlQuery> query = exactMatch("status", "Open")
+      .map(q -> q.startingAfter("id", null));
+
+    assertThat(query.value().asText(), is("status==\"Open\" sortBy id/sort.ascending"));
+    assertThat(CqlQuery.noQuery().value().startingAfter("id", null).asText(),
+      is("cql.allRecords=1 sortBy id/sort.ascending"));
+  }
+
   @Test
   void canApplyLessThenOperator() {
     ZonedDateTime dateTime = getZonedDateTime();
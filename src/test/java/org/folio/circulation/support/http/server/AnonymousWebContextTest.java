@@ -1,10 +1,16 @@
 package org.folio.circulation.support.http.server;
 
+import static org.folio.circulation.support.http.OkapiHeader.OKAPI_URL;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.when;
 
+import java.net.MalformedURLException;
+import java.net.URL;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -44,4 +50,15 @@ class AnonymousWebContextTest {
 
     assertDoesNotThrow(() -> new WebContext(routingContext).getHeaders());
   }
+
+  @Test
+  void okapiBasedUrlIsSharedBetweenRequests() throws MalformedURLException {
+    when(request.getHeader(OKAPI_URL)).thenReturn("http://okapi:9130");
+
+    final URL url = new WebContext(routingContext).getOkapiBasedUrl("/item-storage/items");
+
+    assertThat(url.toString(), is("http://okapi:9130/item-storage/items"));
+    assertThat(new WebContext(routingContext).getOkapiBasedUrl("/item-storage/items"),
+      sameInstance(url));
+  }
 }
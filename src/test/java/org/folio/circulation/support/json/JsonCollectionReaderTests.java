@@ -0,0 +1,75 @@
+package org.folio.circulation.support.json;
+
+import static org.folio.circulation.support.json.JsonCollectionReader.readCollection;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.val;
+
+class JsonCollectionReaderTests {
+  @Test
+  void shouldReadRecordsAndTotal() {
+    val collection = new JsonObject()
+      .put("items", new JsonArray()
+        .add(new JsonObject().put("name", "Foo").put("location", new JsonObject().put("id", "1")))
+        .add(new JsonObject().put("name", "Bar")))
+      .put("totalRecords", 2);
+
+    final List<JsonObject> records = new ArrayList<>();
+
+    val total = readCollection(collection.toBuffer(), "items", "totalRecords", records::add);
+
+    assertThat(total, is(2));
+    assertThat(records, contains(
+      new JsonObject().put("name", "Foo").put("location", new JsonObject().put("id", "1")),
+      new JsonObject().put("name", "Bar")));
+    assertThat(records.get(0).getJsonObject("location").getString("id"), is("1"));
+  }
+
+  @Test
+  void shouldSkipOtherPropertiesAndNonObjectElements() {
+    val collection = new JsonObject()
+      .put("resultInfo", new JsonObject().put("items", new JsonArray().add("nested")))
+      .put("items", new JsonArray()
+        .add("Bar")
+        .add(new JsonArray().add(new JsonObject().put("name", "Lorem")))
+        .add(new JsonObject().put("name", "Foo")));
+
+    final List<JsonObject> records = new ArrayList<>();
+
+    val total = readCollection(collection.toBuffer(), "items", "totalRecords", records::add);
+
+    assertThat(total, is(nullValue()));
+    assertThat(records, contains(new JsonObject().put("name", "Foo")));
+  }
+
+  @Test
+  void shouldReadEmptyCollection() {
+    final List<JsonObject> records = new ArrayList<>();
+
+    readCollection(Buffer.buffer("{}"), "items", "totalRecords", records::add);
+
+    assertThat(records, is(empty()));
+  }
+
+  @Test
+  void shouldFailForTruncatedCollection() {
+    val body = Buffer.buffer("{\"items\": [{\"name\": \"Foo\"}, ");
+
+    assertThrows(DecodeException.class,
+      () -> readCollection(body, "items", "totalRecords", records -> {}));
+  }
+}